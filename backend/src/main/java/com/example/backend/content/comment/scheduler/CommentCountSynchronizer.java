@@ -0,0 +1,107 @@
+package com.example.backend.content.comment.scheduler;
+
+import static com.example.backend.entity.QCommentEntity.*;
+import static com.example.backend.entity.QPostEntity.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물의 commentCount 를 실제 댓글 수와 맞추는 동기화 작업
+ * 댓글이 변경된 게시물만 기록해두었다가 해당 게시물들만 다시 계산한다.
+ * @author ChoiHyunSan
+ * @since 2025-03-10
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountSynchronizer {
+
+	private static final int SYNC_CHUNK_SIZE = 500;
+
+	private final JPAQueryFactory queryFactory;
+
+	private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 댓글이 변경된 게시물을 동기화 대상으로 기록
+	 * @param postId 게시물 ID
+	 */
+	public void markDirty(Long postId) {
+		dirtyPostIds.add(postId);
+	}
+
+	/**
+	 * 1분마다 댓글이 변경된 게시물의 commentCount 를 동기화
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	@Transactional
+	public void synchronizeDirtyCommentCounts() {
+		List<Long> postIds = new ArrayList<>();
+		for (Long postId : dirtyPostIds) {
+			if (dirtyPostIds.remove(postId)) {
+				postIds.add(postId);
+			}
+		}
+		if (postIds.isEmpty()) {
+			return;
+		}
+
+		long updated = 0;
+		for (int from = 0; from < postIds.size(); from += SYNC_CHUNK_SIZE) {
+			List<Long> chunk = postIds.subList(from, Math.min(from + SYNC_CHUNK_SIZE, postIds.size()));
+			updated += synchronize(postEntity.id.in(chunk));
+		}
+		log.info("게시글 {}개 중 {}개 -> 댓글 수 동기화 완료", postIds.size(), updated);
+	}
+
+	/**
+	 * 모든 게시물의 commentCount 를 동기화
+	 * 댓글을 서비스 로직을 거치지 않고 직접 넣은 경우 등 전체 보정이 필요할 때 사용
+	 * @return 업데이트된 게시물 건수
+	 */
+	@Transactional
+	public long synchronizeAll() {
+		dirtyPostIds.clear();
+		return synchronize(postEntity.id.isNotNull());
+	}
+
+	private long synchronize(BooleanExpression target) {
+		// 게시물마다 삭제되지 않은 댓글 수를 계산하는 서브 쿼리
+		NumberExpression<Long> commentCountSubQuery = Expressions.numberTemplate(
+			Long.class,
+			"({0})",
+			JPAExpressions.select(commentEntity.count())
+				.from(commentEntity)
+				.where(
+					commentEntity.post.id.eq(postEntity.id),
+					commentEntity.isDeleted.isFalse()
+				)
+		);
+
+		// 서브 쿼리 결과와 현재 commentCount 가 다른 게시물만 업데이트
+		return queryFactory
+			.update(postEntity)
+			.set(postEntity.commentCount, commentCountSubQuery)
+			.where(
+				target,
+				commentCountSubQuery.ne(postEntity.commentCount)
+			)
+			.execute();
+	}
+}
@@ -9,11 +9,14 @@ import com.example.backend.content.comment.dto.CommentModifyResponse
 import com.example.backend.content.comment.dto.CommentResponse
 import com.example.backend.content.comment.exception.CommentErrorCode
 import com.example.backend.content.comment.exception.CommentException
+import com.example.backend.content.comment.scheduler.CommentCountSynchronizer
 import com.example.backend.entity.CommentEntity
 import com.example.backend.entity.CommentRepository
 import com.example.backend.entity.MemberRepository
 import com.example.backend.entity.PostRepository
 import com.example.backend.global.event.CommentEvent
+import com.example.backend.global.event.PostChangeEvent
+import com.example.backend.social.feed.implement.PostScoreCollector
 import org.springframework.context.ApplicationEventPublisher
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
@@ -26,7 +29,9 @@ open class CommentService(
 	private val commentRepository: CommentRepository,
 	private val postRepository: PostRepository,
 	private val memberRepository: MemberRepository,
-	private val applicationEventPublisher: ApplicationEventPublisher
+	private val applicationEventPublisher: ApplicationEventPublisher,
+	private val postScoreCollector: PostScoreCollector,
+	private val commentCountSynchronizer: CommentCountSynchronizer
 ) {
 
 	/**
@@ -71,6 +76,11 @@ open class CommentService(
 
 		val savedComment = commentRepository.save(comment)
 
+		// 게시물 댓글 수 증가
+		postRepository.incrementCommentCount(post.getId())
+		commentCountSynchronizer.markDirty(post.getId())
+		postScoreCollector.addCommentDelta(post.getId(), 1L)
+
 		// 이벤트 발행
 		applicationEventPublisher.publishEvent(
 			CommentEvent.create(
@@ -119,6 +129,13 @@ open class CommentService(
 
 		val hasChildren = commentRepository.existsByParentNum(comment.getId())
 
+		// 게시물 댓글 수 감소 (Soft Delete 된 부모 댓글 정리는 이미 감소되었으므로 제외)
+		val postId = comment.getPost().getId()
+		postRepository.decrementCommentCount(postId)
+		commentCountSynchronizer.markDirty(postId)
+		postScoreCollector.addCommentDelta(postId, -1L)
+		applicationEventPublisher.publishEvent(PostChangeEvent.create(postId))
+
 		if (hasChildren) {
 			// 자식 댓글이 있으면 Soft Delete
 			comment.deleteComment()
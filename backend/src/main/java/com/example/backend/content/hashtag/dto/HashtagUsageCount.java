@@ -0,0 +1,16 @@
+package com.example.backend.content.hashtag.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 해시태그의 일자별 사용 횟수
+ * 인기 해시태그 추적기를 DB 데이터로 초기화할 때 사용
+ * @author kwak
+ * 2025-03-14
+ */
+public record HashtagUsageCount(
+	Long hashtagId,
+	LocalDate usedDate,
+	long count
+) {
+}
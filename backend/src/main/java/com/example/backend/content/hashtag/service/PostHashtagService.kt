@@ -5,6 +5,8 @@ import com.example.backend.entity.PostHashtagEntity
 import com.example.backend.entity.PostHashtagRepository
 import org.apache.commons.collections4.SetUtils
 import org.springframework.stereotype.Service
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
 import java.util.stream.Collectors
 
 /**
@@ -14,7 +16,8 @@ import java.util.stream.Collectors
 @Service
 class PostHashtagService(
     private val hashtagService: HashtagService,
-    private val postHashtagRepository: PostHashtagRepository
+    private val postHashtagRepository: PostHashtagRepository,
+    private val trendingHashtagTracker: TrendingHashtagTracker
 ) {
     fun create(post: PostEntity?, contents: Set<String?>) {
         val hashtags = contents.stream()
@@ -22,6 +25,18 @@ class PostHashtagService(
             .toList()
 
         postHashtagRepository.bulkInsert(post, hashtags)
+
+        // 인기 해시태그 계산에 사용량 반영, 트랜잭션 안이면 커밋된 후에 반영해 롤백된 게시물은 세지 않는다
+        val hashtagIds = hashtags.map { it.id }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+                override fun afterCommit() {
+                    trendingHashtagTracker.record(hashtagIds)
+                }
+            })
+        } else {
+            trendingHashtagTracker.record(hashtagIds)
+        }
     }
 
     fun deleteByHashtagIds(oldHashtagIds: List<Long?>?) {
@@ -0,0 +1,141 @@
+package com.example.backend.content.hashtag.service
+
+import com.example.backend.content.hashtag.dto.HashtagUsageCount
+import org.slf4j.LoggerFactory
+import org.springframework.dao.DataAccessException
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.data.redis.core.script.RedisScript
+import org.springframework.stereotype.Component
+import java.time.LocalTime
+import java.time.ZoneId
+import kotlin.math.pow
+
+/**
+ * 해시태그 사용량을 시간 감쇠(half-life)를 적용해 누적하고 인기 해시태그를 계산
+ * 사용 시점마다 2^((t - landmark) / halfLife) 만큼 가중치를 더하는 forward decay 방식이라
+ * 기록은 O(1) 이고, 점수가 커지지 않도록 주기적으로 landmark 를 옮기며 전체 점수를 한 번에 줄인다.
+ * 점수와 landmark 는 Redis 에 두어 모든 서버가 같은 사용량으로 같은 순위를 계산한다.
+ * @author kwak
+ * 2025-03-14
+ */
+@Component
+class TrendingHashtagTracker(
+    private val redisTemplate: StringRedisTemplate
+) {
+    /**
+     * 게시물에 사용된 해시태그를 기록
+     * 기록에 실패한 사용량은 매일 DB 사용량으로 다시 구성할 때 반영된다
+     */
+    @JvmOverloads
+    fun record(hashtagIds: Collection<Long>, now: Long = System.currentTimeMillis()) {
+        if (hashtagIds.isEmpty()) {
+            return
+        }
+        val args = mutableListOf(now.toString(), HALF_LIFE_MILLIS.toString())
+        hashtagIds.forEach { args.add(it.toString()) }
+        try {
+            redisTemplate.execute(RECORD_SCRIPT, KEYS, *args.toTypedArray())
+        } catch (e: DataAccessException) {
+            log.warn("Failed to record {} hashtag usages", hashtagIds.size, e)
+        }
+    }
+
+    /**
+     * DB 에 저장된 사용 횟수로 점수를 다시 구성
+     * 일자별 사용 횟수는 해당 일자의 정오(현재보다 늦으면 현재)에 사용된 것으로 간주한다
+     */
+    @JvmOverloads
+    fun reset(usages: List<HashtagUsageCount>, now: Long = System.currentTimeMillis()) {
+        val args = mutableListOf(now.toString())
+        usages.forEach {
+            val usedAt = it.usedDate().atTime(LocalTime.NOON)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                .coerceAtMost(now)
+            args.add((it.count() * weight(usedAt, now)).toString())
+            args.add(it.hashtagId().toString())
+        }
+        redisTemplate.execute(RESET_SCRIPT, KEYS, *args.toTypedArray())
+    }
+
+    /**
+     * @return 감쇠된 점수가 높은 순서의 해시태그 ID 리스트 (동점이면 ID 오름차순)
+     */
+    @JvmOverloads
+    fun findTopIds(limit: Int, now: Long = System.currentTimeMillis()): List<Long> {
+        // 반감기가 지났으면 landmark 를 옮긴다, 여러 서버가 동시에 요청해도 스크립트 안에서 한 번만 줄인다
+        redisTemplate.execute(
+            RESCALE_SCRIPT, KEYS, now.toString(), HALF_LIFE_MILLIS.toString(), PRUNE_THRESHOLD.toString()
+        )
+
+        val top = redisTemplate.opsForZSet().reverseRangeWithScores(SCORE_KEY, 0, (limit - 1).toLong())
+            ?: return emptyList()
+        return top.map { it.value!!.toLong() to (it.score ?: 0.0) }
+            .sortedWith(compareByDescending<Pair<Long, Double>> { it.second }.thenBy { it.first })
+            .map { it.first }
+    }
+
+    private fun weight(time: Long, landmark: Long): Double {
+        return 2.0.pow((time - landmark).toDouble() / HALF_LIFE_MILLIS)
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(TrendingHashtagTracker::class.java)
+
+        // 6시간이 지나면 사용 1회의 가중치가 절반이 된다
+        private const val HALF_LIFE_MILLIS: Long = 6 * 60 * 60 * 1000
+
+        // 약 7번의 반감기 이전에 한 번 사용된 수준의 점수
+        private const val PRUNE_THRESHOLD = 0.01
+
+        // 점수와 landmark 를 한 스크립트에서 다루므로 같은 슬롯에 둔다
+        private const val SCORE_KEY = "{trendingHashtag}:score"
+        private const val LANDMARK_KEY = "{trendingHashtag}:landmark"
+        private val KEYS = listOf(SCORE_KEY, LANDMARK_KEY)
+
+        // landmark 가 없으면 현재 시각으로 정하고, landmark 기준 가중치를 사용한 해시태그마다 더한다
+        private val RECORD_SCRIPT: RedisScript<Long> = DefaultRedisScript(
+            """
+            local now = tonumber(ARGV[1])
+            local landmark = tonumber(redis.call('GET', KEYS[2]))
+            if not landmark then
+                landmark = now
+                redis.call('SET', KEYS[2], ARGV[1])
+            end
+            local weight = 2 ^ ((now - landmark) / tonumber(ARGV[2]))
+            for i = 3, #ARGV do
+                redis.call('ZINCRBY', KEYS[1], weight, ARGV[i])
+            end
+            return #ARGV - 2
+            """.trimIndent(), Long::class.java
+        )
+
+        // 점수를 지우고 landmark 를 ARGV[1] 로 옮긴 뒤, ARGV[2] 부터 (가중치, 해시태그 ID) 순서로 더한다
+        private val RESET_SCRIPT: RedisScript<Long> = DefaultRedisScript(
+            """
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], ARGV[1])
+            for i = 2, #ARGV, 2 do
+                redis.call('ZINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return (#ARGV - 1) / 2
+            """.trimIndent(), Long::class.java
+        )
+
+        // landmark 를 현재로 옮기면서 점수를 줄이고, 오래 사용되지 않은 해시태그는 제거
+        private val RESCALE_SCRIPT: RedisScript<Long> = DefaultRedisScript(
+            """
+            local now = tonumber(ARGV[1])
+            local landmark = tonumber(redis.call('GET', KEYS[2]))
+            if not landmark or now - landmark < tonumber(ARGV[2]) then
+                return 0
+            end
+            local factor = 2 ^ (-(now - landmark) / tonumber(ARGV[2]))
+            redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor)
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+            redis.call('SET', KEYS[2], ARGV[1])
+            return 1
+            """.trimIndent(), Long::class.java
+        )
+    }
+}
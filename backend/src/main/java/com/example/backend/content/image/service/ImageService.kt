@@ -5,7 +5,9 @@ import com.example.backend.entity.ImageEntity
 import com.example.backend.entity.ImageRepository
 import com.example.backend.entity.PostEntity
 import com.example.backend.entity.PostRepository
+import com.example.backend.global.event.PostChangeEvent
 import com.example.backend.global.storage.LocalFileStorageService
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import org.springframework.web.multipart.MultipartFile
@@ -14,7 +16,8 @@ import org.springframework.web.multipart.MultipartFile
 open class ImageService(
 	private val imageRepository: ImageRepository,
 	private val postRepository: PostRepository,
-	private val fileStorageService: LocalFileStorageService
+	private val fileStorageService: LocalFileStorageService,
+	private val applicationEventPublisher: ApplicationEventPublisher
 ) {
 
 	/**
@@ -36,6 +39,9 @@ open class ImageService(
 			fileName
 		}
 
+		// 커밋 이후 피드 캐시 무효화
+		applicationEventPublisher.publishEvent(PostChangeEvent.create(postId))
+
 		// Response에 파일 이름들 담아서 반환
 		return ImageUploadResponse(postId, fileNames)
 	}
@@ -73,5 +79,8 @@ open class ImageService(
 
 		// DB에서 삭제
 		imageRepository.delete(imageEntity)
+
+		// 커밋 이후 피드 캐시 무효화
+		applicationEventPublisher.publishEvent(PostChangeEvent.create(postId))
 	}
 }
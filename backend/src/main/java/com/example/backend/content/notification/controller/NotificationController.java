@@ -6,6 +6,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -16,6 +17,8 @@ import com.example.backend.content.notification.dto.NotificationPageResponse;
 import com.example.backend.content.notification.service.NotificationService;
 import com.example.backend.content.notification.sse.SseConnection;
 import com.example.backend.content.notification.sse.SseConnectionPool;
+import com.example.backend.content.notification.sse.SseNotificationBroker;
+import com.example.backend.content.notification.sse.SseOutboundDispatcher;
 import com.example.backend.global.rs.RsData;
 import com.example.backend.identity.security.user.CustomUser;
 
@@ -32,14 +35,23 @@ public class NotificationController {
 
 	private final SseConnectionPool sseConnectionPool;
 	private final NotificationService notificationService;
+	private final SseNotificationBroker sseNotificationBroker;
+	private final SseOutboundDispatcher sseOutboundDispatcher;
 
+	/**
+	 * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 알림은 DB 조회 없이 다시 전송된다
+	 */
 	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	public SseEmitter subscribe(
 		@RequestParam(name = "userId") String userId,
-		@RequestParam(name = "browserName", defaultValue = "unknown") String browserName) {
+		@RequestParam(name = "browserName", defaultValue = "unknown") String browserName,
+		@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
 		SseConnection connection = SseConnection.connect(
-			String.valueOf(userId), browserName, sseConnectionPool);
+			String.valueOf(userId), browserName, sseConnectionPool, sseOutboundDispatcher);
 
+		if (lastEventId != null) {
+			sseNotificationBroker.replay(connection, lastEventId);
+		}
 		return connection.getSseEmitter();
 	}
 
@@ -24,8 +24,10 @@ public class NotificationConverter {
 			.type(notification.getType())
 			.targetId(targetId)
 			.message(notification.getContent())
+			.actorCount(notification.getActorCount())
 			.isRead(notification.isRead())
-			.createdAt(notification.getCreateDate())
+			// 합쳐진 알림은 목록의 순서와 맞도록 마지막으로 합쳐진 시각을 보여준다
+			.createdAt(notification.getActivityDate())
 			.build();
 	}
 
@@ -18,6 +18,7 @@ public record NotificationResponse(
 	NotificationType type,
 	Long targetId,
 	String message,
+	int actorCount,
 	boolean isRead,
 	LocalDateTime createdAt
 ) {
@@ -4,17 +4,18 @@ import com.example.backend.content.notification.converter.NotificationConverter
 import com.example.backend.content.notification.dto.NotificationPageResponse
 import com.example.backend.content.notification.exception.NotificationErrorCode
 import com.example.backend.content.notification.exception.NotificationException
-import com.example.backend.content.notification.sse.SseConnectionPool
+import com.example.backend.content.notification.sse.SseNotificationBroker
 import com.example.backend.content.notification.type.NotificationType
+import com.example.backend.entity.NotificationActorRepository
 import com.example.backend.entity.NotificationEntity
 import com.example.backend.entity.NotificationRepository
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.domain.Sort
-import org.springframework.scheduling.annotation.Async
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.time.LocalDateTime
+import java.util.function.IntFunction
 
 /**
  * @author kwak
@@ -23,13 +24,17 @@ import java.time.LocalDateTime
 @Service
 open class NotificationService @Autowired constructor(
     private val notificationRepository: NotificationRepository,
+    private val notificationActorRepository: NotificationActorRepository,
     private val converter: NotificationConverter,
-    private val sseConnectionPool: SseConnectionPool
+    private val sseNotificationBroker: SseNotificationBroker
 ) {
 
     companion object {
         private const val THIRTY_DAYS = 30L
         private const val PAGE_SIZE = 10
+
+        // 읽지 않은 알림에 새 행위자를 합치는 기간
+        private const val AGGREGATE_HOURS = 24L
     }
 
     /**
@@ -45,12 +50,62 @@ open class NotificationService @Autowired constructor(
         return notificationRepository.save(notificationEntity)
 
         // sse 로 실시간 알림 전송
-        // sseConnectionPool.sendNotification(memberId, converter.toResponse(notification, targetId))
+        // sseNotificationBroker.publish(memberId, converter.toResponse(notification, targetId))
+    }
+
+    /**
+     * 같은 대상에 대해 읽지 않은 최근 알림이 있으면 행위자 수와 메시지를 갱신하고, 없으면 새로 만든다
+     * 행위자는 알림마다 한 번만 기록되므로, 같은 회원이 좋아요를 취소하고 다시 눌러도 한 명으로 센다
+     * 다른 서버가 같은 알림을 먼저 만들었으면 DataIntegrityViolationException 이 발생하며, 다시 호출하면 그 알림에 합친다
+     * @param actorNames 합칠 행위자 이름
+     * @param messageFactory 합쳐진 전체 행위자 수로 메시지를 만드는 함수
+     */
+    @Transactional
+    open fun aggregateNotification(
+        memberId: Long,
+        targetId: Long,
+        targetType: String,
+        type: NotificationType,
+        actorNames: Collection<String>,
+        messageFactory: IntFunction<String>
+    ): NotificationEntity {
+        val aggregateKey = NotificationEntity.aggregateKey(memberId, type, targetId, targetType)
+        val existing = notificationRepository.findAggregating(aggregateKey).orElse(null)
+
+        // 합치는 기간이 지난 알림은 닫는다, 새 알림보다 먼저 키를 비우도록 바로 반영
+        val expired = existing != null
+                && existing.createDate.isBefore(LocalDateTime.now().minusHours(AGGREGATE_HOURS))
+        if (expired) {
+            existing!!.closeAggregation()
+            notificationRepository.flush()
+        }
+
+        val notification = if (existing != null && !expired) existing else notificationRepository.saveAndFlush(
+            NotificationEntity.createAggregated(
+                messageFactory.apply(actorNames.size), memberId, type, targetId, targetType, actorNames.size
+            )
+        )
+
+        actorNames.forEach { notificationActorRepository.insertIgnore(notification.id, it) }
+        val actorCount = notificationActorRepository.countByNotificationId(notification.id).toInt()
+        notification.aggregate(messageFactory.apply(actorCount), actorCount)
+        return notification
+    }
+
+    /**
+     * 회원이 연결된 서버가 어디든 Redis 채널을 통해 전달된다
+     * 호출한 스레드에서 바로 전달하고, 실패하면 예외를 그대로 던진다
+     * 실패한 전달의 재시도는 NotificationRetryQueue 가 맡는다
+     */
+    open fun deliverNotification(memberId: Long, notification: NotificationEntity) {
+        sseNotificationBroker.publish(memberId, converter.toResponse(notification, notification.targetId))
     }
 
-    @Async
-    open fun sendNotification(memberId: Long, notification: NotificationEntity) {
-        sseConnectionPool.sendNotification(memberId, converter.toResponse(notification, notification.targetId))
+    /**
+     * Redis 로 전달하지 못한 알림을 이 서버에 연결된 사용자에게만 전송
+     */
+    open fun deliverLocally(memberId: Long, notification: NotificationEntity) {
+        sseNotificationBroker.sendLocally(memberId, converter.toResponse(notification, notification.targetId))
     }
 
     @Transactional
@@ -67,7 +122,7 @@ open class NotificationService @Autowired constructor(
 
     @Transactional
     open fun getNotificationPage(page: Int, memberId: Long): NotificationPageResponse {
-        val pageRequest = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createDate"))
+        val pageRequest = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "activityDate", "id"))
         // 알림 목록 조회 (최근 30일)
         val thirtyDaysAgo = LocalDateTime.now().minusDays(THIRTY_DAYS)
 
@@ -1,13 +1,25 @@
 package com.example.backend.content.notification.sse;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.example.backend.content.notification.dto.NotificationResponse;
+
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 각각의 단일 사용자 연결을 담당하는 객체
+ * 메시지는 연결마다 크기가 제한된 대기열에 들어가고 SseOutboundDispatcher 의 writer 작업이 순서대로 전송한다.
+ * 보내는 스레드는 클라이언트가 느려도 기다리지 않으며, 전송에 실패하면 연결을 닫고 Pool 에서 제거한다.
+ * 실행을 시작한 writer 작업이 writeTimeout 동안 메시지를 하나도 보내지 못하면 heartbeat 확인 때 연결을 끊는다.
  * @author kwak
  * 2025-02-09
  */
@@ -19,18 +31,42 @@ public class SseConnection {
 	private final String browserName;
 	private final SseEmitter sseEmitter;
 	private final SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs;
+	private final SseOutboundDispatcher dispatcher;
 
 	private static final Long DEFAULT_MINUTE = 1000L * 30 * 5;
 
+	// 전송을 기다리는 메시지, 아래 상태와 함께 이 객체로 동기화한다
+	private final Deque<Outbound> outbound = new ArrayDeque<>();
+
+	// 대기열을 비우는 writer 작업을 요청했거나 실행 중인지 여부
+	private boolean draining;
+
+	// 요청한 writer 작업이 writer 스레드에서 실행을 시작했는지 여부, 기다리는 동안은 멈춘 것으로 보지 않는다
+	private boolean drainStarted;
+
+	// writer 작업이 실행을 시작했거나 마지막으로 메시지를 보낸 시각 (dispatcher.nanoTime)
+	private long drainProgressNanos;
+
+	// 전송에 실패했거나 따라오지 못해 끊은 연결인지 여부
+	private volatile boolean closed;
+
+	// emitter 를 닫았는지 여부, 닫는 경로가 여러 개라 한 번만 닫는다
+	private final AtomicBoolean completed = new AtomicBoolean();
+
+	// 이 연결로 마지막에 보낸 이벤트 ID
+	private long lastEventId;
+
 	private SseConnection(
 		String uniqueKey,
 		String browserName,
-		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs
+		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs,
+		SseOutboundDispatcher dispatcher
 	) {
 		this.uniqueKey = uniqueKey;
 		this.browserName = browserName;
 		this.sseEmitter = new SseEmitter(DEFAULT_MINUTE);
 		this.sseConnectionPoolIfs = sseConnectionPoolIfs;
+		this.dispatcher = dispatcher;
 
 		this.sseEmitter.onTimeout(sseEmitter::complete);
 		this.sseEmitter.onCompletion(() -> sseConnectionPoolIfs.remove(this));
@@ -45,25 +81,217 @@ public class SseConnection {
 	public static SseConnection connect(
 		String userId,
 		String browserName,
-		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs
+		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs,
+		SseOutboundDispatcher dispatcher
 	) {
-		SseConnection connection = new SseConnection(userId, browserName, sseConnectionPoolIfs);
+		SseConnection connection = new SseConnection(userId, browserName, sseConnectionPoolIfs, dispatcher);
 		sseConnectionPoolIfs.add(userId, browserName, connection);
 		return connection;
 	}
 
 	public void sendMessage(String eventName, Object data) {
-		try {
+		SseEmitter.SseEventBuilder event = SseEmitter.event()
+			.name(eventName) // 이벤트 이름 설정
+			.data(data); // 전송할 데이터 설정
+		enqueue(new Outbound(coalesceKey(data), eventName, event), true);
+	}
+
+	/**
+	 * 이벤트 ID 와 함께 메시지 전송, 이미 보낸 ID 이하의 메시지는 다시 보내지 않는다
+	 */
+	public synchronized void sendMessage(long eventId, String eventName, Object data) {
+		if (eventId <= lastEventId) {
+			return;
+		}
+		lastEventId = eventId;
+		SseEmitter.SseEventBuilder event = SseEmitter.event()
+			.id(String.valueOf(eventId))
+			.name(eventName)
+			.data(data);
+		enqueue(new Outbound(coalesceKey(data), eventName, event), true);
+	}
+
+	/**
+	 * 재연결한 클라이언트가 받지 못한 lastEventId 이후의 메시지를 보낸다
+	 * 다시 보내는 동안 도착한 메시지는 끝날 때까지 기다렸다가 ID 가 더 큰 경우에만 전송된다
+	 * 다시 보내는 메시지는 SseReplayBuffer 크기로 제한되므로 대기열 크기를 넘어도 버리지 않는다
+	 */
+	public synchronized void replay(long lastEventId, LongFunction<List<SseNotificationMessage>> loader) {
+		this.lastEventId = Math.max(this.lastEventId, lastEventId);
+		for (SseNotificationMessage message : loader.apply(lastEventId)) {
+			if (message.eventId() > this.lastEventId) {
+				this.lastEventId = message.eventId();
+				enqueue(new Outbound(null, "message", SseEmitter.event()
+					.id(String.valueOf(message.eventId()))
+					.name("message")
+					.data(message.response())), false);
+			}
+		}
+	}
+
+	/**
+	 * SSE 주석으로 heartbeat 를 보내 연결이 살아 있는지 확인
+	 * 전송을 기다리는 메시지가 있으면 그 전송으로 확인되므로 heartbeat 를 넣지 않는다
+	 * 실행을 시작한 writer 작업이 writeTimeout 동안 진행하지 못했으면 전송이 멈춘 것으로 보고 연결을 끊는다.
+	 * 멈춘 전송은 끝나야 emitter 를 닫을 수 있으므로, emitter 는 그 writer 작업이 끝날 때 닫힌다
+	 * @return 전송에 실패했거나 전송이 멈춰 연결이 끊긴 경우 false
+	 */
+	public synchronized boolean sendHeartbeat() {
+		if (closed) {
+			return false;
+		}
+		if (draining) {
+			if (drainStarted && dispatcher.nanoTime() - drainProgressNanos > dispatcher.getWriteTimeout().toNanos()) {
+				log.warn("Disconnecting stalled sse client of user {} browser {}", uniqueKey, browserName);
+				dispatcher.getMetrics().recordSlowDisconnect();
+				markClosed();
+			}
+		} else if (outbound.isEmpty()) {
+			enqueue(new Outbound(null, "heartbeat", SseEmitter.event().comment("heartbeat")), true);
+		} else {
+			// writer 작업 요청이 거절되어 남아 있는 메시지를 다시 보낸다
+			requestDrain();
+		}
+		return !closed;
+	}
+
+	// 대기열에 넣고 writer 작업이 없으면 실행을 요청한다, 가득 차 있으면 overflowPolicy 에 따라 처리한다
+	private synchronized void enqueue(Outbound message, boolean bounded) {
+		if (closed) {
+			return;
+		}
+		if (bounded && outbound.size() >= dispatcher.getCapacity()) {
+			switch (dispatcher.getOverflowPolicy()) {
+				case COALESCE -> {
+					if (replaceQueued(message)) {
+						dispatcher.getMetrics().recordCoalesced();
+						return;
+					}
+					dropOldest();
+				}
+				case DROP_OLDEST -> dropOldest();
+				case DISCONNECT -> {
+					log.warn("Disconnecting slow sse client of user {} browser {}", uniqueKey, browserName);
+					dispatcher.getMetrics().recordSlowDisconnect();
+					// 전송 중인 writer 가 끝나야 닫히므로 보내는 스레드가 기다리지 않도록 writer 스레드에서 닫는다
+					if (markClosed() && !dispatcher.dispatch(() -> complete(null))) {
+						complete(null);
+					}
+					return;
+				}
+			}
+		}
+
+		outbound.addLast(message);
+		dispatcher.getMetrics().recordEnqueued(outbound.size());
+		if (!draining) {
+			requestDrain();
+		}
+	}
 
-			SseEmitter.SseEventBuilder event = SseEmitter.event()
-				.name(eventName) // 이벤트 이름 설정
-				.data(data); // 전송할 데이터 설정
-			this.sseEmitter.send(event);
-			log.info("Message sent successfully: {}", eventName);
+	private void requestDrain() {
+		drainStarted = false;
+		draining = dispatcher.dispatch(this::drain);
+	}
+
+	// 같은 알림이 대기 중이면 이전 내용을 빼고 새 내용을 넣는다
+	private boolean replaceQueued(Outbound message) {
+		if (message.coalesceKey() == null) {
+			return false;
+		}
+		for (Iterator<Outbound> iterator = outbound.iterator(); iterator.hasNext(); ) {
+			if (message.coalesceKey().equals(iterator.next().coalesceKey())) {
+				iterator.remove();
+				outbound.addLast(message);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void dropOldest() {
+		outbound.pollFirst();
+		dispatcher.getMetrics().recordDequeued(1);
+		dispatcher.getMetrics().recordDropped();
+	}
+
+	// writer 스레드에서 대기열이 빌 때까지 순서대로 전송
+	private void drain() {
+		synchronized (this) {
+			drainStarted = true;
+			drainProgressNanos = dispatcher.nanoTime();
+		}
+		while (true) {
+			Outbound next;
+			synchronized (this) {
+				next = closed ? null : outbound.pollFirst();
+				if (next == null) {
+					draining = false;
+					break;
+				}
+			}
+			dispatcher.getMetrics().recordDequeued(1);
+
+			try {
+				this.sseEmitter.send(next.event());
+			} catch (Exception e) {
+				log.error("Message sent failed: {}", next.eventName());
+				markClosed();
+				complete(e);
+				return;
+			}
+			synchronized (this) {
+				drainProgressNanos = dispatcher.nanoTime();
+			}
+		}
 
+		// 전송이 멈춰 있는 동안 끊긴 연결은 전송을 마친 writer 가 닫는다
+		if (closed) {
+			complete(null);
+		}
+	}
+
+	// 대기열을 비우고 더 이상 메시지를 받지 않는다, 이미 닫힌 연결이면 false
+	private synchronized boolean markClosed() {
+		if (closed) {
+			return false;
+		}
+		closed = true;
+		draining = false;
+		dispatcher.getMetrics().recordDequeued(outbound.size());
+		outbound.clear();
+		return true;
+	}
+
+	// emitter 를 닫고 Pool 에서 제거
+	private void complete(Exception cause) {
+		if (!completed.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			if (cause != null) {
+				sseEmitter.completeWithError(cause);
+			} else {
+				sseEmitter.complete();
+			}
 		} catch (Exception e) {
-			log.error("Message sent failed: {}", eventName);
-			sseEmitter.completeWithError(e);
+			log.debug("Error closing connection for user {} browser {}", uniqueKey, browserName, e);
+		}
+		sseConnectionPoolIfs.remove(this);
+	}
+
+	// 같은 알림의 갱신은 대기 중인 이전 내용을 대신한다
+	private static String coalesceKey(Object data) {
+		if (data instanceof NotificationResponse response) {
+			return "notification:" + Objects.requireNonNullElse(response.notificationId(), 0L);
 		}
+		return null;
+	}
+
+	private record Outbound(
+		String coalesceKey,
+		String eventName,
+		SseEmitter.SseEventBuilder event
+	) {
 	}
 }
@@ -1,39 +1,62 @@
 package com.example.backend.content.notification.sse;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import com.example.backend.content.notification.dto.NotificationResponse;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 모든 사용자의 연결을 관리하는 관리자 기능
  * 한 사용자는 각 브라우저당 sse 연결 하나만 허용
+ * 이 서버에서 사용자의 첫 연결이 생기거나 마지막 연결이 끊기면 SseSubscriptionEvent 를 발행한다
+ * 연결은 SseHeartbeatWheel 에 등록되어 heartbeat 전송에 실패하면 바로 제거된다
  * @author kwak
  * 2025-02-09
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class SseConnectionPool implements SseConnectionPoolIfs<SseConnection> {
 
 	private final Map<String, Map<String, SseConnection>> connectionPool = new ConcurrentHashMap<>();
 
+	private final ApplicationEventPublisher eventPublisher;
+	private final SseHeartbeatWheel heartbeatWheel;
+
 	// key 가 존재하면 기존의 sse connection 을 닫아주고 새로 생성
 	// key 가 존재하지 않으면 새 connection 생성
 	@Override
 	public void add(String key, String browserName, SseConnection connection) {
-		Map<String, SseConnection> browserConnections = connectionPool.computeIfAbsent(key,
-			k -> new ConcurrentHashMap<>());
+		boolean[] firstConnection = {false};
+		SseConnection[] oldConnection = {null};
+
+		// 같은 key 의 remove 와 겹치지 않도록 compute 안에서 추가한다
+		connectionPool.compute(key, (k, browserConnections) -> {
+			if (browserConnections == null) {
+				browserConnections = new ConcurrentHashMap<>();
+				firstConnection[0] = true;
+			}
+			// 기존에 존재하는 key 면 oldConnection 반환
+			oldConnection[0] = browserConnections.put(browserName, connection);
+			return browserConnections;
+		});
 
-		// 기존에 존재하는 key 면 oldConnection 반환
-		SseConnection oldConnection = browserConnections.put(browserName, connection);
+		heartbeatWheel.register(connection);
+
+		if (firstConnection[0]) {
+			eventPublisher.publishEvent(new SseSubscriptionEvent(key, true));
+		}
 
-		if (oldConnection != null) {
+		if (oldConnection[0] != null) {
 			try {
-				oldConnection.getSseEmitter().complete();
+				oldConnection[0].getSseEmitter().complete();
 			} catch (Exception e) {
 				log.debug("Error closing previous connection for user {} browser {}", key, browserName, e);
 			}
@@ -45,19 +68,41 @@ public class SseConnectionPool implements SseConnectionPoolIfs<SseConnection> {
 		return connectionPool.get(key);
 	}
 
+	// 이 서버에 연결이 있는 모든 key
+	public Set<String> keys() {
+		return connectionPool.keySet();
+	}
+
 	@Override
 	public void remove(SseConnection session) {
-		Map<String, SseConnection> browserConnections = connectionPool.get(session.getUniqueKey());
-		// connection 이 있으면 해당 connection 을 제거 , 없으면 key 로 제거
-		if (browserConnections != null) {
-			browserConnections.remove(session.getBrowserName());
-			if (browserConnections.isEmpty()) {
-				connectionPool.remove(session.getUniqueKey());
-			}
+		heartbeatWheel.unregister(session);
+		boolean[] lastConnection = {false};
+
+		// connection 이 있으면 해당 connection 을 제거 , 비면 key 로 제거
+		// 같은 브라우저로 다시 연결해 교체된 connection 이면 새 connection 은 남겨둔다
+		connectionPool.computeIfPresent(session.getUniqueKey(), (k, browserConnections) -> {
+			browserConnections.remove(session.getBrowserName(), session);
+			lastConnection[0] = browserConnections.isEmpty();
+			return lastConnection[0] ? null : browserConnections;
+		});
+
+		if (lastConnection[0]) {
+			eventPublisher.publishEvent(new SseSubscriptionEvent(session.getUniqueKey(), false));
 		}
 	}
 
-	// 연결이 여러 곳에서 되어 있을 경우 연결마다 알림을 전송 처리
+	// 이벤트 ID 가 붙은 알림을 이 서버의 연결마다 전송, 재연결 시 Last-Event-ID 로 사용된다
+	public void sendNotification(Long userId, long eventId, NotificationResponse response) {
+		Map<String, SseConnection> browserConnections = get(userId.toString());
+		if (browserConnections == null) {
+			return;
+		}
+		browserConnections.forEach((browserName, sseConnection) ->
+			sseConnection.sendMessage(eventId, "message", response));
+	}
+
+	// 이 서버에 연결이 여러 곳에서 되어 있을 경우 연결마다 알림을 전송 처리
+	// 다른 서버에 연결된 사용자에게는 SseNotificationBroker 를 통해 전달된다
 	public void sendNotification(Long userId, NotificationResponse response) {
 		Map<String, SseConnection> browserConnections = get(userId.toString());
 
@@ -71,19 +116,4 @@ public class SseConnectionPool implements SseConnectionPoolIfs<SseConnection> {
 
 	}
 
-	/*@Scheduled(fixedRate = 20000)
-	public void sendHeartbeat() {
-		connectionPool.forEach((key, connections) -> {
-			connections.forEach((browserName, connection) -> {
-				try {
-					connection.sendMessage("heartbeat", "thump");
-					log.info("Sending heartbeat for user {} browser {} connection {}", key, browserName, connection);
-				} catch (Exception e) {
-					log.info("Falid to send heartbeat = {}", key, e);
-					remove(connection);
-				}
-			});
-		});
-	}*/
-
 }
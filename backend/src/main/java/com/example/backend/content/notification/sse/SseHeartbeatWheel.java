@@ -0,0 +1,106 @@
+package com.example.backend.content.notification.sse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE 연결의 heartbeat 전송과 끊긴 연결 정리를 담당하는 timing wheel
+ * 연결은 등록 시점에 WHEEL_SIZE 개의 칸 중 하나에 들어가고, 전용 스레드 하나가 TICK 마다 한 칸씩 돌며
+ * 그 칸의 연결에 heartbeat 를 보낸다. 전송에 실패한 연결은 SseEmitter 의 timeout 을 기다리지 않고 바로 Pool 에서 제거된다.
+ * 연결마다 타이머를 두지 않으므로 한 번의 tick 비용은 그 칸에 있는 연결 수에 비례한다.
+ *
+ * @author kwak
+ * 2025-03-28
+ */
+@Slf4j
+@Component
+public class SseHeartbeatWheel {
+
+	// 연결마다 WHEEL_SIZE * TICK (20초) 간격으로 heartbeat 를 보낸다
+	private static final int WHEEL_SIZE = 20;
+	private static final Duration TICK = Duration.ofSeconds(1);
+
+	private final List<Set<SseConnection>> slots = new ArrayList<>(WHEEL_SIZE);
+
+	// 연결이 들어 있는 칸, 제거할 때 칸을 찾지 않기 위해 기록한다
+	private final Map<SseConnection, Integer> slotIndexes = new ConcurrentHashMap<>();
+
+	private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+	// 다음 tick 에 처리할 칸, tick 은 scheduler 스레드에서만 실행된다
+	private volatile int cursor;
+
+	public SseHeartbeatWheel() {
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			slots.add(ConcurrentHashMap.newKeySet());
+		}
+	}
+
+	@PostConstruct
+	public void start() {
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("SseHeartbeat-");
+		scheduler.initialize();
+		scheduler.scheduleAtFixedRate(this::tick, TICK);
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdown();
+	}
+
+	/**
+	 * 연결을 바로 직전에 처리한 칸에 넣어, 한 바퀴 뒤에 첫 heartbeat 를 보낸다
+	 */
+	public void register(SseConnection connection) {
+		int index = Math.floorMod(cursor - 1, WHEEL_SIZE);
+		Integer previous = slotIndexes.put(connection, index);
+		if (previous != null) {
+			slots.get(previous).remove(connection);
+		}
+		slots.get(index).add(connection);
+	}
+
+	public void unregister(SseConnection connection) {
+		Integer index = slotIndexes.remove(connection);
+		if (index != null) {
+			slots.get(index).remove(connection);
+		}
+	}
+
+	// 현재 칸의 연결에 heartbeat 를 보내고 실패한 연결을 제거한다
+	void tick() {
+		int index = cursor;
+		cursor = (index + 1) % WHEEL_SIZE;
+
+		int evicted = 0;
+		Set<SseConnection> slot = slots.get(index);
+		for (SseConnection connection : slot) {
+			try {
+				if (!connection.sendHeartbeat()) {
+					slot.remove(connection);
+					slotIndexes.remove(connection, index);
+					connection.getSseConnectionPoolIfs().remove(connection);
+					evicted++;
+				}
+			} catch (Exception e) {
+				log.warn("Failed to check connection of user {}", connection.getUniqueKey(), e);
+			}
+		}
+
+		if (evicted > 0) {
+			log.info("Evicted {} dead sse connections", evicted);
+		}
+	}
+}
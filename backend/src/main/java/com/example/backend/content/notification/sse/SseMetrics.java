@@ -0,0 +1,75 @@
+package com.example.backend.content.notification.sse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * SseMetrics
+ * SSE 연결별 전송 대기열의 크기와 대기열이 넘쳤을 때의 처리 결과를 기록하는 컴포넌트
+ * @author kwak
+ * 2025-03-30
+ */
+@Component
+public class SseMetrics {
+
+	// 모든 연결의 대기열에 있는 메시지 수
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final DistributionSummary queueDepth;
+	private final Counter coalesced;
+	private final Counter dropped;
+	private final Counter slowDisconnects;
+	private final Counter writerRejected;
+
+	public SseMetrics(MeterRegistry meterRegistry) {
+		Gauge.builder("sse.outbound.queued", queued, AtomicInteger::get)
+			.description("모든 SSE 연결의 전송 대기열에 있는 메시지 수")
+			.register(meterRegistry);
+		this.queueDepth = DistributionSummary.builder("sse.outbound.depth")
+			.description("메시지를 추가한 시점의 연결별 전송 대기열 크기")
+			.register(meterRegistry);
+		this.coalesced = Counter.builder("sse.outbound.coalesced")
+			.description("대기 중인 같은 알림을 새 내용으로 바꾼 횟수")
+			.register(meterRegistry);
+		this.dropped = Counter.builder("sse.outbound.dropped")
+			.description("전송 대기열이 가득 차 버린 메시지 수")
+			.register(meterRegistry);
+		this.slowDisconnects = Counter.builder("sse.outbound.slow.disconnects")
+			.description("전송 대기열을 따라오지 못해 끊은 연결 수")
+			.register(meterRegistry);
+		this.writerRejected = Counter.builder("sse.outbound.writer.rejected")
+			.description("기다리는 writer 작업이 가득 차 거절된 전송 요청 수")
+			.register(meterRegistry);
+	}
+
+	public void recordEnqueued(int depth) {
+		queued.incrementAndGet();
+		queueDepth.record(depth);
+	}
+
+	public void recordDequeued(int count) {
+		queued.addAndGet(-count);
+	}
+
+	public void recordCoalesced() {
+		coalesced.increment();
+	}
+
+	public void recordDropped() {
+		dropped.increment();
+	}
+
+	public void recordSlowDisconnect() {
+		slowDisconnects.increment();
+	}
+
+	public void recordWriterRejected() {
+		writerRejected.increment();
+	}
+}
@@ -0,0 +1,241 @@
+package com.example.backend.content.notification.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 서버에 나뉘어 연결된 사용자에게 SSE 알림을 전달하는 Redis pub/sub 중계
+ * 알림은 사용자별 채널로 발행되고, 각 서버는 자신에게 연결이 있는 사용자의 채널만 구독해 로컬 연결로 전송한다.
+ * 사용자별 접속 서버는 presence 키에 만료 시각과 함께 기록되며, 어느 서버에도 연결이 없으면 발행하지 않는다.
+ * 알림에는 사용자마다 증가하는 이벤트 ID 가 붙고, 재연결 시 다시 보낼 수 있도록 SseReplayBuffer 에 기록된다.
+ * 구독 상태는 이벤트 순서와 관계없이 Pool 의 현재 연결 여부에 맞추며, 주기적인 presence 갱신 때 어긋난 구독을 바로잡는다.
+ *
+ * @author kwak
+ * 2025-03-27
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseNotificationBroker implements MessageListener {
+
+	private static final String CHANNEL_PREFIX = "sseNotification:";
+	private static final String PRESENCE_KEY_PREFIX = "ssePresence:";
+	private static final String EVENT_ID_KEY_PREFIX = "sseEventId:";
+
+	// 재연결 시 다시 보낼 수 있도록 알림을 Redis 에 보관하는 시간
+	private static final Duration REPLAY_TTL = Duration.ofMinutes(10);
+
+	/*
+	 * 이벤트 ID 를 붙여 알림을 기록하고, 연결된 서버가 있으면 발행한다
+	 * ID 는 밀리초 단위 시각으로, Redis 가 재시작되어도 클라이언트가 가진 ID 보다 작아지지 않는다
+	 * KEYS: [1] 이벤트 ID, [2] 다시 보낼 알림, [3] presence (모두 사용자 hash tag 를 가져 클러스터에서도 한 슬롯에서 실행된다)
+	 * ARGV: [1] 알림 JSON, [2] 보관할 알림 수, [3] 보관 시간(초), [4] 현재 시각(밀리초), [5] 채널
+	 */
+	private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+		local time = redis.call('TIME')
+		local id = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local last = tonumber(redis.call('GET', KEYS[1]) or '0')
+		if id <= last then
+		    id = last + 1
+		end
+		local eventId = string.format('%.0f', id)
+		redis.call('SET', KEYS[1], eventId, 'EX', ARGV[3])
+
+		local message = eventId .. ':' .. ARGV[1]
+		redis.call('ZADD', KEYS[2], eventId, message)
+		redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[2]) + 1))
+		redis.call('EXPIRE', KEYS[2], ARGV[3])
+
+		if redis.call('ZCOUNT', KEYS[3], ARGV[4], '+inf') == 0 then
+		    return 0
+		end
+		redis.call('PUBLISH', ARGV[5], message)
+		return 1
+		""", Long.class);
+
+	// presence 를 갱신하는 주기와 갱신이 없을 때 접속이 끊긴 것으로 보는 시간
+	private static final long PRESENCE_REFRESH_MILLIS = 30_000;
+	private static final Duration PRESENCE_TTL = Duration.ofSeconds(90);
+
+	// 같은 사용자의 구독 변경을 직렬화하는 lock 개수
+	private static final int SUBSCRIPTION_LOCKS = 64;
+
+	// presence 에 기록되는 이 서버의 ID
+	private final String nodeId = UUID.randomUUID().toString();
+
+	// 이 서버가 채널을 구독 중인 사용자
+	private final Set<String> subscribedKeys = ConcurrentHashMap.newKeySet();
+
+	private final Object[] subscriptionLocks = createLocks();
+
+	private final SseConnectionPool sseConnectionPool;
+	private final SseReplayBuffer replayBuffer;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 사용자가 연결된 모든 서버로 알림을 전달
+	 * 연결이 없어도 재연결 시 다시 보낼 수 있도록 기록하며, Redis 를 사용할 수 없으면 예외를 그대로 던진다
+	 * 실패한 발행의 재시도는 NotificationRetryQueue 가 맡는다
+	 */
+	public void publish(Long userId, NotificationResponse response) {
+		String key = userId.toString();
+		String body;
+		try {
+			body = objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Failed to serialize notification for user " + userId, e);
+		}
+		Long published = stringRedisTemplate.execute(PUBLISH_SCRIPT,
+			List.of(eventIdKey(key), SseReplayBuffer.replayKey(key), presenceKey(key)),
+			body, String.valueOf(SseReplayBuffer.REPLAY_SIZE),
+			String.valueOf(REPLAY_TTL.toSeconds()), String.valueOf(System.currentTimeMillis()), CHANNEL_PREFIX + key);
+		if (published != null && published == 0L) {
+			log.info("No active connection for user: {}", userId);
+		}
+	}
+
+	/**
+	 * 발행하지 못한 알림을 이 서버의 연결로만 전송, 다른 서버에 연결된 사용자에게는 전달되지 않는다
+	 */
+	public void sendLocally(Long userId, NotificationResponse response) {
+		sseConnectionPool.sendNotification(userId, response);
+	}
+
+	/**
+	 * 구독 중인 채널로 발행된 알림을 보관하고 이 서버의 연결로 전송
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+		String key = channel.substring(CHANNEL_PREFIX.length());
+		Long userId = Long.valueOf(key);
+		try {
+			SseNotificationMessage notification = replayBuffer.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+			replayBuffer.append(key, notification);
+			sseConnectionPool.sendNotification(userId, notification.eventId(), notification.response());
+		} catch (Exception e) {
+			log.error("Failed to deliver notification for user {}", userId, e);
+		}
+	}
+
+	/**
+	 * 재연결한 클라이언트에게 lastEventId 이후의 알림을 다시 보낸다
+	 */
+	public void replay(SseConnection connection, long lastEventId) {
+		connection.replay(lastEventId, eventId -> replayBuffer.findAfter(connection.getUniqueKey(), eventId));
+	}
+
+	/**
+	 * 이 서버에서 사용자의 첫 연결이 생기면 채널을 구독하고 presence 에 기록,
+	 * 마지막 연결이 끊기면 구독을 해제하고 presence 에서 제거한다
+	 */
+	@EventListener
+	public void handleSubscriptionEvent(SseSubscriptionEvent event) {
+		syncSubscription(event.key());
+	}
+
+	/**
+	 * 이 서버에 연결된 사용자의 presence 만료 시각을 갱신
+	 * 서버가 종료되어 갱신이 멈추면 PRESENCE_TTL 후에 접속하지 않은 것으로 처리된다
+	 * 구독 변경이 실패했거나 어긋난 사용자의 구독도 Pool 의 연결 여부에 맞춘다
+	 */
+	@Scheduled(fixedRate = PRESENCE_REFRESH_MILLIS)
+	public void refreshPresences() {
+		Set<String> keys = new HashSet<>(sseConnectionPool.keys());
+		Set<String> mismatched = new HashSet<>(subscribedKeys);
+		mismatched.removeAll(keys);
+		keys.stream().filter(key -> !subscribedKeys.contains(key)).forEach(mismatched::add);
+		mismatched.forEach(this::syncSubscription);
+
+		if (keys.isEmpty()) {
+			return;
+		}
+		double expireAt = System.currentTimeMillis() + PRESENCE_TTL.toMillis();
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection) connection;
+				for (String key : keys) {
+					stringConnection.zAdd(presenceKey(key), expireAt, nodeId);
+					stringConnection.expire(presenceKey(key), PRESENCE_TTL.toSeconds());
+				}
+				return null;
+			});
+		} catch (DataAccessException e) {
+			log.warn("Failed to refresh notification presences", e);
+		}
+	}
+
+	// 이벤트 순서와 관계없이 Pool 의 현재 연결 여부에 맞춰 구독한다, 같은 사용자의 변경은 한 번에 하나씩 처리한다
+	private void syncSubscription(String key) {
+		ChannelTopic topic = new ChannelTopic(CHANNEL_PREFIX + key);
+		synchronized (subscriptionLocks[Math.floorMod(key.hashCode(), SUBSCRIPTION_LOCKS)]) {
+			boolean connected = sseConnectionPool.get(key) != null;
+			try {
+				if (connected) {
+					if (!subscribedKeys.contains(key)) {
+						redisMessageListenerContainer.addMessageListener(this, topic);
+						subscribedKeys.add(key);
+					}
+					refreshPresence(key);
+				} else if (subscribedKeys.contains(key)) {
+					redisMessageListenerContainer.removeMessageListener(this, topic);
+					subscribedKeys.remove(key);
+					replayBuffer.clear(key);
+					stringRedisTemplate.opsForZSet().remove(presenceKey(key), nodeId);
+				}
+			} catch (DataAccessException e) {
+				log.warn("Failed to update notification subscription for user {}", key, e);
+			}
+		}
+	}
+
+	private static Object[] createLocks() {
+		Object[] locks = new Object[SUBSCRIPTION_LOCKS];
+		for (int i = 0; i < SUBSCRIPTION_LOCKS; i++) {
+			locks[i] = new Object();
+		}
+		return locks;
+	}
+
+	static String presenceKey(String key) {
+		return PRESENCE_KEY_PREFIX + "{" + key + "}";
+	}
+
+	static String eventIdKey(String key) {
+		return EVENT_ID_KEY_PREFIX + "{" + key + "}";
+	}
+
+	private void refreshPresence(String key) {
+		String presenceKey = presenceKey(key);
+		stringRedisTemplate.opsForZSet().add(presenceKey, nodeId, System.currentTimeMillis() + PRESENCE_TTL.toMillis());
+		stringRedisTemplate.expire(presenceKey, PRESENCE_TTL);
+	}
+}
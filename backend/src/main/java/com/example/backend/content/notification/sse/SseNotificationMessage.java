@@ -0,0 +1,15 @@
+package com.example.backend.content.notification.sse;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+
+/**
+ * 이벤트 ID 가 붙은 SSE 알림, 사용자마다 ID 가 증가하는 순서로 전달된다
+ *
+ * @author kwak
+ * 2025-03-29
+ */
+public record SseNotificationMessage(
+	long eventId,
+	NotificationResponse response
+) {
+}
@@ -0,0 +1,95 @@
+package com.example.backend.content.notification.sse;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE 연결의 전송 대기열을 비우는 writer 스레드와 대기열 설정
+ * 알림을 보내는 스레드는 대기열에 넣기만 하고, 실제 전송은 연결마다 한 번에 하나의 writer 작업이 맡는다.
+ * 느린 클라이언트는 writer 스레드 하나만 붙잡으며, 대기열이 넘치면 overflowPolicy 에 따라 처리된다.
+ * writer 스레드는 필요할 때만 WRITER_THREADS 개까지 늘어나므로 일부 클라이언트의 전송이 멈춰도 다른 연결의 전송은 계속되고,
+ * 실행을 시작한 writer 작업이 writeTimeout 이 지나도록 진행하지 못한 연결은 정책과 관계없이 heartbeat 확인 때 끊긴다.
+ * 모든 writer 스레드가 바쁠 때 기다리는 작업은 WRITER_QUEUE_CAPACITY 개까지이며, 거절된 연결의 메시지는
+ * 연결의 대기열에 남아 overflowPolicy 의 적용을 받고 다음 heartbeat 때 다시 writer 작업을 요청한다.
+ *
+ * @author kwak
+ * 2025-03-30
+ */
+@Slf4j
+@Getter
+@Component
+public class SseOutboundDispatcher {
+
+	// 동시에 전송 중일 수 있는 연결 수, 쉬는 스레드는 WRITER_KEEP_ALIVE_SECONDS 후 정리된다
+	private static final int WRITER_THREADS = 64;
+	private static final int WRITER_KEEP_ALIVE_SECONDS = 60;
+	private static final int WRITER_QUEUE_CAPACITY = 1_024;
+
+	private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+	// 연결마다 전송을 기다릴 수 있는 메시지 수
+	private final int capacity;
+	private final SseOverflowPolicy overflowPolicy;
+
+	// 대기열을 비우는 작업이 진행 없이 머물 수 있는 최대 시간
+	private final Duration writeTimeout;
+	private final SseMetrics metrics;
+
+	public SseOutboundDispatcher(
+		@Value("${custom.notification.sse.outbound.capacity}") int capacity,
+		@Value("${custom.notification.sse.outbound.overflow-policy}") SseOverflowPolicy overflowPolicy,
+		@Value("${custom.notification.sse.outbound.write-timeout}") Duration writeTimeout,
+		SseMetrics metrics
+	) {
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.writeTimeout = writeTimeout;
+		this.metrics = metrics;
+	}
+
+	@PostConstruct
+	public void start() {
+		executor.setCorePoolSize(WRITER_THREADS);
+		executor.setMaxPoolSize(WRITER_THREADS);
+		executor.setKeepAliveSeconds(WRITER_KEEP_ALIVE_SECONDS);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setQueueCapacity(WRITER_QUEUE_CAPACITY);
+		executor.setThreadNamePrefix("SseWriter-");
+		executor.initialize();
+	}
+
+	@PreDestroy
+	public void stop() {
+		executor.shutdown();
+	}
+
+	/**
+	 * writer 작업 실행을 요청, 기다리는 작업이 가득 찼거나 종료 중이라 실행할 수 없으면 false
+	 */
+	public boolean dispatch(Runnable writer) {
+		try {
+			executor.execute(writer);
+			return true;
+		} catch (TaskRejectedException e) {
+			metrics.recordWriterRejected();
+			log.warn("Sse writer was rejected: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * writer 작업의 진행 시각을 재는 시계 (System.nanoTime)
+	 */
+	public long nanoTime() {
+		return System.nanoTime();
+	}
+}
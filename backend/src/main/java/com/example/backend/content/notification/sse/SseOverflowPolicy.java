@@ -0,0 +1,16 @@
+package com.example.backend.content.notification.sse;
+
+/**
+ * SSE 연결의 전송 대기열이 가득 찼을 때의 처리 방식
+ *
+ * @author kwak
+ * 2025-03-30
+ */
+public enum SseOverflowPolicy {
+	// 같은 알림이 대기 중이면 새 내용으로 바꾸고, 없으면 가장 오래된 메시지를 버린다
+	COALESCE,
+	// 가장 오래된 메시지를 버린다
+	DROP_OLDEST,
+	// 따라오지 못하는 클라이언트로 보고 연결을 끊는다, 재연결 시 Last-Event-ID 로 다시 받는다
+	DISCONNECT
+}
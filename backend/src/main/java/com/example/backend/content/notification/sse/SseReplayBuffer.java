@@ -0,0 +1,135 @@
+package com.example.backend.content.notification.sse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재연결한 클라이언트에게 Last-Event-ID 이후의 알림을 다시 보내기 위한 버퍼
+ * 이 서버가 구독 중인 사용자의 최근 알림은 메모리에 REPLAY_SIZE 개까지 보관하고,
+ * 메모리에 없는 구간은 알림을 발행할 때 함께 기록한 Redis 의 사용자별 sorted set 에서 읽는다.
+ * Pub/Sub 은 전달을 보장하지 않으므로 메모리 버퍼에도 빠진 알림이 있을 수 있어,
+ * Redis 에 기록된 알림 수와 비교하여 빠진 알림이 없을 때만 메모리 버퍼를 사용한다.
+ *
+ * @author kwak
+ * 2025-03-29
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseReplayBuffer {
+
+	// 사용자마다 보관하는 최근 알림 수
+	public static final int REPLAY_SIZE = 100;
+
+	private static final String REPLAY_KEY_PREFIX = "sseReplay:";
+
+	// 구독을 시작한 후 채널로 받은 알림, 구독을 해제하면 비운다
+	private final Map<String, Deque<SseNotificationMessage>> buffers = new ConcurrentHashMap<>();
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 발행 스크립트가 이벤트 ID, presence 키와 함께 다루므로 사용자 hash tag 로 같은 슬롯에 둔다
+	public static String replayKey(String key) {
+		return REPLAY_KEY_PREFIX + "{" + key + "}";
+	}
+
+	/**
+	 * 채널로 받은 알림을 보관, 가득 차면 가장 오래된 알림을 버린다
+	 */
+	public void append(String key, SseNotificationMessage message) {
+		buffers.compute(key, (k, buffer) -> {
+			if (buffer == null) {
+				buffer = new ArrayDeque<>(REPLAY_SIZE);
+			}
+			if (buffer.size() >= REPLAY_SIZE) {
+				buffer.pollFirst();
+			}
+			buffer.addLast(message);
+			return buffer;
+		});
+	}
+
+	public void clear(String key) {
+		buffers.remove(key);
+	}
+
+	/**
+	 * lastEventId 이후의 알림을 ID 순서로 반환
+	 * 메모리 버퍼가 그 구간을 모두 가지고 있으면 메모리에서, 아니면 Redis 에서 읽는다
+	 */
+	public List<SseNotificationMessage> findAfter(String key, long lastEventId) {
+		List<SseNotificationMessage> buffered = findBuffered(key, lastEventId);
+		if (buffered != null && !isMissingFrom(buffered, key, lastEventId)) {
+			return buffered;
+		}
+		return findStored(key, lastEventId);
+	}
+
+	/**
+	 * 발행된 "이벤트 ID:알림 JSON" 문자열을 알림으로 변환
+	 */
+	public SseNotificationMessage parse(String value) throws JsonProcessingException {
+		int separator = value.indexOf(':');
+		return new SseNotificationMessage(Long.parseLong(value.substring(0, separator)),
+			objectMapper.readValue(value.substring(separator + 1), NotificationResponse.class));
+	}
+
+	// 가장 오래된 알림이 lastEventId 이하이면 그 이후에 빠진 알림이 없다, 아니면 null
+	private List<SseNotificationMessage> findBuffered(String key, long lastEventId) {
+		List<SseNotificationMessage> messages = new ArrayList<>();
+		boolean[] covered = {false};
+		buffers.computeIfPresent(key, (k, buffer) -> {
+			covered[0] = !buffer.isEmpty() && buffer.peekFirst().eventId() <= lastEventId;
+			if (covered[0]) {
+				buffer.stream().filter(message -> message.eventId() > lastEventId).forEach(messages::add);
+			}
+			return buffer;
+		});
+		return covered[0] ? messages : null;
+	}
+
+	// 구간 안의 Redis 알림이 메모리보다 많으면 채널로 받지 못한 알림이 있다, Redis 를 읽을 수 없으면 메모리를 믿는다
+	private boolean isMissingFrom(List<SseNotificationMessage> buffered, String key, long lastEventId) {
+		try {
+			Long stored = stringRedisTemplate.opsForZSet()
+				.count(replayKey(key), lastEventId + 1, Double.POSITIVE_INFINITY);
+			return stored != null && stored > buffered.size();
+		} catch (DataAccessException e) {
+			log.warn("Failed to count notifications to replay for user {}", key, e);
+			return false;
+		}
+	}
+
+	private List<SseNotificationMessage> findStored(String key, long lastEventId) {
+		List<SseNotificationMessage> messages = new ArrayList<>();
+		try {
+			Set<String> values = stringRedisTemplate.opsForZSet()
+				.rangeByScore(replayKey(key), lastEventId + 1, Double.POSITIVE_INFINITY);
+			if (values != null) {
+				for (String value : values) {
+					messages.add(parse(value));
+				}
+			}
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("Failed to read notifications to replay for user {}", key, e);
+		}
+		return messages;
+	}
+}
@@ -0,0 +1,13 @@
+package com.example.backend.content.notification.sse;
+
+/**
+ * 이 서버에서 사용자의 첫 SSE 연결이 생기거나(connected) 마지막 연결이 끊긴 경우 발행되는 이벤트
+ *
+ * @author kwak
+ * 2025-03-27
+ */
+public record SseSubscriptionEvent(
+	String key,
+	boolean connected
+) {
+}
@@ -15,6 +15,10 @@ import com.example.backend.content.post.exception.PostException
 import com.example.backend.entity.MemberRepository
 import com.example.backend.entity.PostEntity
 import com.example.backend.entity.PostRepository
+import com.example.backend.global.event.PostChangeEvent
+import com.example.backend.global.event.PostCreateEvent
+import com.example.backend.social.feed.implement.PostScoreWriter
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.security.core.userdetails.UsernameNotFoundException
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -25,7 +29,9 @@ open class PostService(
 	private val memberRepository: MemberRepository,
 	private val hashtagExtractor: HashtagExtractor,
 	private val postHashtagService: PostHashtagService,
-	private val imageService: ImageService
+	private val imageService: ImageService,
+	private val applicationEventPublisher: ApplicationEventPublisher,
+	private val postScoreWriter: PostScoreWriter
 ) {
 
 	/**
@@ -52,6 +58,14 @@ open class PostService(
 		val extractHashtags = hashtagExtractor.extractHashtag(savedPost.getContent())
 		postHashtagService.create(savedPost, extractHashtags)
 
+		// 추천 피드 정렬용 인기 점수 생성 (해시태그 저장 이후)
+		postScoreWriter.initialize(savedPost)
+
+		// 커밋 이후 팔로워 타임라인으로 전파
+		applicationEventPublisher.publishEvent(
+			PostCreateEvent.create(savedPost.getId(), memberEntity.getId(), savedPost.getCreateDate())
+		)
+
 		// 응답 생성
 		return PostCreateResponse(
 			id = savedPost.getId(),
@@ -77,6 +91,9 @@ open class PostService(
 		// 내용 수정
 		postEntity.modifyContent(request.content())
 
+		// 커밋 이후 피드 캐시 무효화
+		applicationEventPublisher.publishEvent(PostChangeEvent.create(postId))
+
 		return PostConverter.toModifyResponse(postEntity)
 	}
 
@@ -96,6 +113,9 @@ open class PostService(
 		// Soft Delete
 		postEntity.deleteContent()
 
+		// 커밋 이후 피드 캐시 무효화, 타임라인에서 게시물 제거
+		applicationEventPublisher.publishEvent(PostChangeEvent.delete(postId, memberId))
+
 		return PostConverter.toDeleteResponse(postId)
 	}
 }
@@ -1,5 +1,6 @@
 package com.example.backend.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,5 +8,6 @@ import com.example.backend.social.reaction.like.dto.LikeInfo;
 
 public interface LikeRepositoryCustom {
 	Optional<LikeEntity> findByMemberIdAndResourceIdAndResourceType(long memberId, Long resourceId, String resourceType);
+	List<Long> findLikedResourceIds(long memberId, String resourceType, Collection<Long> resourceIds);
 	int bulkUpsertLikes(List<LikeInfo> likeInfos);
 }
@@ -1,16 +1,14 @@
 package com.example.backend.entity;
 
 import static com.example.backend.entity.QLikeEntity.likeEntity;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
@@ -18,17 +16,36 @@ import org.springframework.stereotype.Repository;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class LikeRepositoryCustomImpl implements LikeRepositoryCustom {
 	private final JPAQueryFactory queryFactory;
-	private final EntityManager entityManager;
 	private final JdbcTemplate jdbcTemplate;
 
+	private static final String UPSERT_SQL_MYSQL =
+		"INSERT INTO likes (member_id, resource_type, resource_id, create_date, updated_date, is_liked) "
+			+ "VALUES (?, ?, ?, ?, ?, ?) "
+			+ "ON DUPLICATE KEY UPDATE "
+			+ "is_liked = IF(updated_date IS NULL OR VALUES(updated_date) >= updated_date, VALUES(is_liked), is_liked), "
+			+ "updated_date = IF(updated_date IS NULL OR VALUES(updated_date) >= updated_date, "
+			+ "VALUES(updated_date), updated_date)";
+
+	private static final String UPSERT_SQL_MERGE =
+		"MERGE INTO likes t USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS BIGINT), "
+			+ "CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), CAST(? AS BOOLEAN))) "
+			+ "s(member_id, resource_type, resource_id, create_date, updated_date, is_liked) "
+			+ "ON t.member_id = s.member_id AND t.resource_type = s.resource_type AND t.resource_id = s.resource_id "
+			+ "WHEN MATCHED AND (t.updated_date IS NULL OR s.updated_date >= t.updated_date) THEN UPDATE SET is_liked = s.is_liked, updated_date = s.updated_date "
+			+ "WHEN NOT MATCHED THEN INSERT (member_id, resource_type, resource_id, create_date, updated_date, is_liked) "
+			+ "VALUES (s.member_id, s.resource_type, s.resource_id, s.create_date, s.updated_date, s.is_liked)";
+
+	@Value("${custom.like.upsert.chunk-size}")
+	private int upsertChunkSize;
+
+	private volatile String databaseProductName;
+
 	@Override
 	public Optional<LikeEntity> findByMemberIdAndResourceIdAndResourceType(
 		long memberId,
@@ -47,123 +64,64 @@ public class LikeRepositoryCustomImpl implements LikeRepositoryCustom {
 		return Optional.ofNullable(result);
 	}
 
+	/**
+	 * 주어진 리소스 중 회원이 좋아요한 리소스 ID 목록을 한 번의 쿼리로 조회한다
+	 */
 	@Override
-	public int bulkUpsertLikes(List<LikeInfo> likeInfos) {
-		if (likeInfos.isEmpty()) {
-			return 0;
+	public List<Long> findLikedResourceIds(long memberId, String resourceType, Collection<Long> resourceIds) {
+		if (resourceIds.isEmpty()) {
+			return List.of();
 		}
 
-		// 일괄 처리를 위한 그룹화
-		Map<String, List<LikeInfo>> likesByType = likeInfos.stream()
-			.collect(Collectors.groupingBy(LikeInfo::resourceType));
-
-		int totalUpdated = 0;
-
-		// 각 리소스 타입별로 처리
-		for (Map.Entry<String, List<LikeInfo>> entry : likesByType.entrySet()) {
-			String resourceType = entry.getKey();
-			List<LikeInfo> likes = entry.getValue();
-
-			// 새로운 좋아요 (삽입 필요)
-			List<LikeInfo> newLikes = likes.stream()
-				.filter(like -> like.createDate() != null)
-				.collect(Collectors.toList());
-
-			// 기존 좋아요 (업데이트 필요)
-			List<LikeInfo> existingLikes = likes.stream()
-				.filter(like -> like.createDate() == null)
-				.collect(Collectors.toList());
-
-			// 새 좋아요 일괄 삽입
-			if (!newLikes.isEmpty()) {
-				totalUpdated += bulkInsertLikes(newLikes, resourceType);
-			}
+		return queryFactory
+			.select(likeEntity.resourceId)
+			.from(likeEntity)
+			.where(
+				likeEntity.member.id.eq(memberId),
+				likeEntity.resourceType.eq(resourceType),
+				likeEntity.resourceId.in(resourceIds),
+				likeEntity.isLiked.isTrue()
+			)
+			.fetch();
+	}
 
-			// 기존 좋아요 일괄 업데이트
-			if (!existingLikes.isEmpty()) {
-				totalUpdated += bulkUpdateLikes(existingLikes, resourceType);
-			}
+	/**
+	 * (member_id, resource_type, resource_id) 유니크 키를 이용해 좋아요를 삽입 또는 갱신한다
+	 * MySQL 은 INSERT ... ON DUPLICATE KEY UPDATE, 그 외(H2)는 MERGE 를 사용하며 chunk-size 단위로 JDBC 배치 실행한다
+	 * 이미 행이 있으면 좋아요 상태와 수정 시각만 갱신된다
+	 * 재전달되거나 다른 서버가 늦게 반영한 이전 상태가 최신 상태를 덮어쓰지 않도록 수정 시각이 같거나 늦은 경우에만 갱신한다
+	 * (MySQL 은 is_liked 를 먼저 계산하도록 updated_date 보다 앞에 둔다)
+	 */
+	@Override
+	public int bulkUpsertLikes(List<LikeInfo> likeInfos) {
+		if (likeInfos.isEmpty()) {
+			return 0;
 		}
 
-		return totalUpdated;
-	}
-
-	private int bulkInsertLikes(List<LikeInfo> newLikes, String resourceType) {
-		// Bulk insert 구현
-		String sql = "INSERT INTO likes (member_id, resource_id, resource_type, create_date, updated_date, is_liked) " +
-			"VALUES (?, ?, ?, ?, ?, ?)";
-
-		int[] result = jdbcTemplate.batchUpdate(
-			sql,
-			new BatchPreparedStatementSetter() {
-				@Override
-				public void setValues(PreparedStatement ps, int i) throws SQLException {
-					LikeInfo like = newLikes.get(i);
-					ps.setLong(1, like.memberId());
-					ps.setLong(2, like.resourceId());
-					ps.setString(3, like.resourceType());
-					ps.setTimestamp(4, Timestamp.valueOf(like.createDate()));
-					ps.setTimestamp(5, Timestamp.valueOf(like.modifyDate()));
-					ps.setBoolean(6, like.isActive());
-				}
-
-				@Override
-				public int getBatchSize() {
-					return newLikes.size();
-				}
+		int[][] result = jdbcTemplate.batchUpdate(
+			isMySql() ? UPSERT_SQL_MYSQL : UPSERT_SQL_MERGE,
+			likeInfos,
+			upsertChunkSize,
+			(ps, like) -> {
+				ps.setLong(1, like.memberId());
+				ps.setString(2, like.resourceType());
+				ps.setLong(3, like.resourceId());
+				// 새 좋아요가 아니면 생성 시각을 알 수 없으므로, 행이 없어 삽입되는 경우 수정 시각을 사용
+				ps.setTimestamp(4, Timestamp.valueOf(like.createDate() != null ? like.createDate() : like.modifyDate()));
+				ps.setTimestamp(5, Timestamp.valueOf(like.modifyDate()));
+				ps.setBoolean(6, like.isActive());
 			}
 		);
 
-		return result.length;
+		return Arrays.stream(result).mapToInt(chunk -> chunk.length).sum();
 	}
 
-	private int bulkUpdateLikes(List<LikeInfo> existingLikes, String resourceType) {
-		StringBuilder sb = new StringBuilder();
-		sb.append("UPDATE likes SET is_liked = CASE ");
-
-		List<Object> params = new ArrayList<>();
-
-		for (int i = 0; i < existingLikes.size(); i++) {
-			LikeInfo likeInfo = existingLikes.get(i);
-			sb.append("WHEN (member_id = ? AND resource_id = ? AND resource_type = ?) THEN ? ");
-			params.add(likeInfo.memberId());
-			params.add(likeInfo.resourceId());
-			params.add(likeInfo.resourceType());
-			params.add(likeInfo.isActive());
-		}
-
-		sb.append("ELSE is_liked END, ");
-		sb.append("updated_date = CASE ");
-
-		for (int i = 0; i < existingLikes.size(); i++) {
-			LikeInfo likeInfo = existingLikes.get(i);
-			sb.append("WHEN (member_id = ? AND resource_id = ? AND resource_type = ?) THEN ? ");
-			params.add(likeInfo.memberId());
-			params.add(likeInfo.resourceId());
-			params.add(likeInfo.resourceType());
-			params.add(Timestamp.valueOf(likeInfo.modifyDate()));
-		}
-
-		sb.append("ELSE updated_date END ");
-		sb.append("WHERE (");
-
-		for (int i = 0; i < existingLikes.size(); i++) {
-			LikeInfo likeInfo = existingLikes.get(i);
-			if (i > 0) sb.append(" OR ");
-			sb.append("(member_id = ? AND resource_id = ? AND resource_type = ?)");
-			params.add(likeInfo.memberId());
-			params.add(likeInfo.resourceId());
-			params.add(likeInfo.resourceType());
+	private boolean isMySql() {
+		if (databaseProductName == null) {
+			databaseProductName = jdbcTemplate.execute(
+				(ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
 		}
-
-		sb.append(")");
-
-		// Native query 실행
-		Query query = entityManager.createNativeQuery(sb.toString());
-		for (int i = 0; i < params.size(); i++) {
-			query.setParameter(i + 1, params.get(i));
-		}
-
-		return query.executeUpdate();
+		return databaseProductName != null
+			&& (databaseProductName.contains("MySQL") || databaseProductName.contains("MariaDB"));
 	}
 }
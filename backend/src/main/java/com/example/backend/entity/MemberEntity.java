@@ -50,6 +50,9 @@ public class MemberEntity extends BaseEntity {
 	@Builder.Default
 	private Long followingCount = 0L; // 팔로잉 : 본인을 팔로우중인 인원수
 
+	@Column(nullable = false)
+	private boolean feedPulled; // 게시물을 팔로워 타임라인에 전파하지 않고 조회 시점에 병합하는 작성자인지 여부
+
 	@OneToMany(mappedBy = "member")
 	@Builder.Default
 	private List<PostEntity> postList = new ArrayList<>();
@@ -132,6 +135,10 @@ public class MemberEntity extends BaseEntity {
 		}
 	}
 
+	public void updateFeedPulled(boolean feedPulled) {
+		this.feedPulled = feedPulled;
+	}
+
 	// Kotlin을 위한 Getter 메서드
 	public List<String> getFollowingList() {
 		return this.followingList;
@@ -1,8 +1,11 @@
 package com.example.backend.entity;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 	Optional<MemberEntity> findByUsername(String username);
@@ -12,4 +15,11 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 	Optional<MemberEntity> findByEmail(String email);
 
 	Optional<MemberEntity> findByPhoneNumber(String phoneNumber);
+
+	/**
+	 * username 목록에 해당하는 회원 ID 조회
+	 * 팔로워 목록(username)을 타임라인 키(회원 ID)로 변환할 때 사용
+	 */
+	@Query("SELECT m.id FROM MemberEntity m WHERE m.username IN :usernames")
+	List<Long> findIdsByUsernameIn(@Param("usernames") List<String> usernames);
 }
@@ -0,0 +1,36 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 하나로 합쳐진 알림의 행위자
+ * 같은 행위자는 한 번만 기록되므로 알림의 행위자 수는 이 테이블의 행 수와 같다.
+ * @author kwak
+ * 2025-03-25
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_actor", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_notification_actor", columnNames = {"notification_id", "actor_name"})
+})
+public class NotificationActorEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "notification_id", nullable = false)
+	private Long notificationId;
+
+	@Column(name = "actor_name", nullable = false)
+	private String actorName;
+}
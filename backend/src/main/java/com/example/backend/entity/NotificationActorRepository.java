@@ -0,0 +1,23 @@
+package com.example.backend.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * @author kwak
+ * 2025-03-25
+ */
+public interface NotificationActorRepository extends JpaRepository<NotificationActorEntity, Long> {
+
+	// 이미 기록된 행위자면 무시한다
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO notification_actor (notification_id, actor_name)
+		VALUES (:notificationId, :actorName)
+		""", nativeQuery = true)
+	int insertIgnore(@Param("notificationId") Long notificationId, @Param("actorName") String actorName);
+
+	long countByNotificationId(Long notificationId);
+}
@@ -1,5 +1,7 @@
 package com.example.backend.entity;
 
+import java.time.LocalDateTime;
+
 import com.example.backend.content.notification.type.NotificationType;
 
 import jakarta.persistence.Column;
@@ -36,8 +38,63 @@ public class NotificationEntity extends BaseEntity {
 	// LIKE -> postId, Comment -> commentId, Follow -> followId
 	private Long targetId;
 
+	// LIKE 알림의 대상 리소스 타입 (POST, COMMENT, REPLY)
+	private String targetType;
+
+	// 하나의 알림으로 합쳐진 행위자 수 (좋아요 알림은 여러 명의 좋아요를 하나로 합친다)
+	@Column(nullable = false)
+	@Builder.Default
+	private int actorCount = 1;
+
+	// 새 행위자를 합칠 수 있는 알림의 (회원, 타입, 대상) 키, 합치기를 마치면 null
+	// 대상마다 하나만 존재하므로 여러 서버가 같은 알림을 동시에 만들 수 없다
+	@Column(unique = true)
+	private String aggregateKey;
+
+	// 알림 목록의 정렬 기준, 새 행위자가 합쳐지면 합쳐진 시각으로 옮겨 목록 앞으로 올라온다
+	@Column(nullable = false)
+	@Builder.Default
+	private LocalDateTime activityDate = LocalDateTime.now();
+
 	public void markRead() {
 		this.isRead = true;
+		this.aggregateKey = null;
+	}
+
+	/**
+	 * 합쳐진 전체 행위자 수와 메시지를 갱신한다, 읽지 않은 알림에만 합친다
+	 */
+	public void aggregate(String message, int actorCount) {
+		if (actorCount > this.actorCount) {
+			this.activityDate = LocalDateTime.now();
+		}
+		this.content = message;
+		this.actorCount = actorCount;
+	}
+
+	/**
+	 * 합치는 기간이 지난 알림에는 더 이상 합치지 않는다
+	 */
+	public void closeAggregation() {
+		this.aggregateKey = null;
+	}
+
+	public static String aggregateKey(Long memberId, NotificationType type, Long targetId, String targetType) {
+		return memberId + ":" + type + ":" + targetType + ":" + targetId;
+	}
+
+	public static NotificationEntity createAggregated(
+		String message, Long memberId, NotificationType type, Long targetId, String targetType, int actorCount
+	) {
+		return NotificationEntity.builder()
+			.content(message)
+			.memberId(memberId)
+			.type(type)
+			.targetId(targetId)
+			.targetType(targetType)
+			.actorCount(actorCount)
+			.aggregateKey(aggregateKey(memberId, type, targetId, targetType))
+			.build();
 	}
 
 	public static NotificationEntity create(
@@ -70,4 +127,16 @@ public class NotificationEntity extends BaseEntity {
 	public Long getTargetId() {
 		return targetId;
 	}
+
+	public String getTargetType() {
+		return targetType;
+	}
+
+	public int getActorCount() {
+		return actorCount;
+	}
+
+	public LocalDateTime getActivityDate() {
+		return activityDate;
+	}
 }
@@ -6,19 +6,30 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
 	// 단일 알림 조회
 	Optional<NotificationEntity> findByIdAndMemberId(Long id, Long memberId);
 
-	// 추후 인덱스 고려
+	// 추후 인덱스 고려, 합쳐진 알림은 마지막으로 합쳐진 시각을 기준으로 한다
 	@Query("""
 		SELECT n FROM NotificationEntity n
 		WHERE n.memberId = :memberId
-		AND n.createDate >= :thirtyDaysAgo
+		AND n.activityDate >= :thirtyDaysAgo
 		""")
 	Page<NotificationEntity> findByMemberId(
 		@Param("memberId") Long memberId, @Param("thirtyDaysAgo") LocalDateTime thirtyDaysAgo, Pageable pageable);
+
+	// 같은 대상에 대해 새 행위자를 합칠 수 있는 알림 (같은 알림에 동시에 합치지 않도록 잠금)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT n FROM NotificationEntity n
+		WHERE n.aggregateKey = :aggregateKey
+		""")
+	Optional<NotificationEntity> findAggregating(@Param("aggregateKey") String aggregateKey);
 }
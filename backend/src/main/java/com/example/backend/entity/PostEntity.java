@@ -7,6 +7,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -24,7 +25,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
-@Table(name = "post")
+@Table(name = "post", indexes = {
+	@Index(name = "idx_post_create_date_id", columnList = "create_date, id"),
+	@Index(name = "idx_post_member_create_date_id", columnList = "member_id, create_date, id")
+})
 public class PostEntity extends BaseEntity {
 
 	@Lob
@@ -47,6 +51,10 @@ public class PostEntity extends BaseEntity {
 	@Builder.Default
 	private Long likeCount = 0L; // 좋아요 초기 카운트 0 설정
 
+	@Column(nullable = false)
+	@Builder.Default
+	private Long commentCount = 0L; // 삭제되지 않은 댓글 수
+
 	@OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<CommentEntity> comments;
 
@@ -127,6 +135,10 @@ public class PostEntity extends BaseEntity {
 		return likeCount;
 	}
 
+	public Long getCommentCount() {
+		return commentCount;
+	}
+
 	public List<CommentEntity> getComments() {
 		return comments;
 	}
@@ -1,7 +1,10 @@
 package com.example.backend.entity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.backend.content.hashtag.dto.HashtagUsageCount;
+
 /**
  * @author kwak
  * 2025-02-06
@@ -9,4 +12,6 @@ import java.util.List;
 public interface PostHashtagRepositoryCustom {
 
 	void bulkInsert(PostEntity post, List<HashtagEntity> hashtag);
+
+	List<HashtagUsageCount> findUsageCountsSince(LocalDateTime since);
 }
@@ -2,11 +2,15 @@ package com.example.backend.entity;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.example.backend.content.hashtag.dto.HashtagUsageCount;
+
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -20,6 +24,11 @@ public class PostHashtagRepositoryImpl implements PostHashtagRepositoryCustom {
 	private final JdbcTemplate jdbcTemplate;
 	private static final String INSERT_SQL_POST_HASHTAG =
 		"INSERT INTO post_hashtag (post_id, hashtag_id) VALUES (?, ?)";
+	private static final String SELECT_SQL_USAGE_COUNT =
+		"SELECT ph.hashtag_id, CAST(p.create_date AS DATE) AS used_date, COUNT(*) AS usage_count "
+			+ "FROM post_hashtag ph JOIN post p ON p.id = ph.post_id "
+			+ "WHERE p.create_date >= ? AND p.is_deleted = FALSE "
+			+ "GROUP BY ph.hashtag_id, CAST(p.create_date AS DATE)";
 
 	/**
 	 * hashtag size 는 최대 10개이기 때문에 단순하게 처리
@@ -44,4 +53,22 @@ public class PostHashtagRepositoryImpl implements PostHashtagRepositoryCustom {
 			}
 		);
 	}
+
+	/**
+	 * 기준 시각 이후 작성된 게시물의 해시태그 사용 횟수를 일자별로 집계
+	 * 인기 해시태그 추적기를 초기화할 때만 사용되며, 범위가 제한되어 있어 전체 테이블을 집계하지 않는다
+	 * @author kwak
+	 * @since 2025-03-14
+	 */
+	@Override
+	public List<HashtagUsageCount> findUsageCountsSince(LocalDateTime since) {
+		return jdbcTemplate.query(
+			SELECT_SQL_USAGE_COUNT,
+			(rs, rowNum) -> new HashtagUsageCount(
+				rs.getLong("hashtag_id"),
+				rs.getDate("used_date").toLocalDate(),
+				rs.getLong("usage_count")),
+			Timestamp.valueOf(since)
+		);
+	}
 }
@@ -25,4 +25,21 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
 	@Modifying(clearAutomatically = true)
 	@Query("UPDATE PostEntity post SET post.likeCount = post.likeCount - 1 WHERE post.id = :postId AND post.likeCount > 0")
 	void decrementLikeCount(@Param("postId") Long postId);
+
+	/**
+	 * 댓글 카운트 증가
+	 * 댓글 작성 시 게시물의 댓글 카운트를 1 증가시킴
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PostEntity post SET post.commentCount = post.commentCount + 1 WHERE post.id = :postId")
+	void incrementCommentCount(@Param("postId") Long postId);
+
+	/**
+	 * 댓글 카운트 감소
+	 * 댓글 삭제 시 게시물의 댓글 카운트를 1 감소시킴
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PostEntity post SET post.commentCount = post.commentCount - 1 "
+		+ "WHERE post.id = :postId AND post.commentCount > 0")
+	void decrementCommentCount(@Param("postId") Long postId);
 }
@@ -0,0 +1,48 @@
+package com.example.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추천 피드 정렬에 사용하는 게시물 인기 점수
+ * 댓글, 좋아요, 해시태그 변경 시 점진적으로 갱신되며 score 는 각 항목 점수의 합이다.
+ * @author ChoiHyunSan
+ * @since 2025-03-09
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_score", indexes = {
+	@Index(name = "idx_post_score_create_date_score", columnList = "create_date, score")
+})
+public class PostScoreEntity {
+
+	@Id
+	private Long postId;
+
+	@Column(nullable = false)
+	private LocalDateTime createDate; // 게시물 생성 시각 (추천 범위 탐색용)
+
+	@Column(nullable = false)
+	private Long authorScore; // 작성자 팔로워 수 기반 점수
+
+	@Column(nullable = false)
+	private Long commentCount;
+
+	@Column(nullable = false)
+	private Long likeCount;
+
+	@Column(nullable = false)
+	private Long hashtagScore; // 인기 해시태그 포함 여부 기반 점수
+
+	@Column(nullable = false)
+	private Long score;
+}
@@ -0,0 +1,10 @@
+package com.example.backend.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * @author ChoiHyunSan
+ * @since 2025-03-09
+ */
+public interface PostScoreRepository extends JpaRepository<PostScoreEntity, Long>, PostScoreRepositoryCustom {
+}
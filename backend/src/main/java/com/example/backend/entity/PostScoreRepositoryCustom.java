@@ -0,0 +1,22 @@
+package com.example.backend.entity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.example.backend.social.feed.dto.PostScoreDelta;
+
+/**
+ * @author ChoiHyunSan
+ * @since 2025-03-09
+ */
+public interface PostScoreRepositoryCustom {
+
+	void initialize(Long postId, LocalDateTime createDate, long authorScore, Collection<Long> popularHashtagIds);
+
+	int bulkApplyDelta(List<PostScoreDelta> deltas);
+
+	int refreshSince(LocalDateTime since, Collection<Long> popularHashtagIds);
+
+	int refreshHashtagScore(LocalDateTime since, Collection<Long> popularHashtagIds);
+}
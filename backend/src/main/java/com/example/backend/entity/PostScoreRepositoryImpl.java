@@ -0,0 +1,181 @@
+package com.example.backend.entity;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.social.feed.dto.PostScoreDelta;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * post_score 테이블을 점진적으로 갱신하는 쿼리 구현
+ * @author ChoiHyunSan
+ * @since 2025-03-09
+ */
+@RequiredArgsConstructor
+public class PostScoreRepositoryImpl implements PostScoreRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private static final String INSERT_SQL_POST_SCORE =
+		"INSERT INTO post_score (post_id, create_date, author_score, comment_count, like_count, hashtag_score, score) "
+			+ "VALUES (?, ?, ?, 0, 0, ?, ?)";
+
+	private static final String APPLY_DELTA_SQL =
+		"UPDATE post_score SET comment_count = comment_count + ?, like_count = like_count + ?, score = score + ? "
+			+ "WHERE post_id = ?";
+
+	// 게시물 생성 시 만들지 못한 점수 행을 채운다, 생성과 동시에 실행되어도 중복되지 않도록 IGNORE 를 사용
+	private static final String INSERT_MISSING_SQL =
+		"INSERT IGNORE INTO post_score (post_id, create_date, author_score, comment_count, like_count, hashtag_score, score) "
+			+ "SELECT p.id, p.create_date, 0, 0, 0, 0, 0 FROM post p WHERE p.create_date >= ? "
+			+ "AND NOT EXISTS (SELECT 1 FROM post_score ps WHERE ps.post_id = p.id)";
+
+	private static final String SUM_SCORE_SQL =
+		"UPDATE post_score SET score = author_score + comment_count + like_count + hashtag_score "
+			+ "WHERE create_date >= ?";
+
+	/**
+	 * 게시물 생성 시 점수 행을 만든다
+	 * 게시물의 해시태그가 먼저 저장되어 있어야 해시태그 점수가 반영된다
+	 */
+	@Override
+	public void initialize(Long postId, LocalDateTime createDate, long authorScore,
+		Collection<Long> popularHashtagIds) {
+
+		long hashtagScore = 0L;
+		if (!popularHashtagIds.isEmpty()) {
+			List<Object> params = new ArrayList<>();
+			params.add(postId);
+			params.addAll(popularHashtagIds);
+
+			Long matched = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM post_hashtag WHERE post_id = ? AND hashtag_id IN ("
+					+ placeholders(popularHashtagIds.size()) + ")",
+				Long.class,
+				params.toArray());
+			hashtagScore = matched != null && matched > 0 ? POST_SCORE_POPULAR_HASHTAG : 0L;
+		}
+
+		jdbcTemplate.update(INSERT_SQL_POST_SCORE,
+			postId, Timestamp.valueOf(createDate), authorScore, hashtagScore, authorScore + hashtagScore);
+	}
+
+	/**
+	 * 모아둔 댓글/좋아요 변화량을 한 번의 배치로 반영한다
+	 * @return 갱신된 행 수
+	 */
+	@Override
+	public int bulkApplyDelta(List<PostScoreDelta> deltas) {
+		if (deltas.isEmpty()) {
+			return 0;
+		}
+
+		int[] result = jdbcTemplate.batchUpdate(
+			APPLY_DELTA_SQL,
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int idx) throws SQLException {
+					PostScoreDelta delta = deltas.get(idx);
+					ps.setLong(1, delta.commentDelta());
+					ps.setLong(2, delta.likeDelta());
+					ps.setLong(3, delta.commentDelta() + delta.likeDelta());
+					ps.setLong(4, delta.postId());
+				}
+
+				@Override
+				public int getBatchSize() {
+					return deltas.size();
+				}
+			}
+		);
+
+		int updated = 0;
+		for (int count : result) {
+			updated += Math.max(count, 0);
+		}
+		return updated;
+	}
+
+	/**
+	 * 추천 범위 안의 게시물 점수를 원본 테이블로 다시 계산한다
+	 * 팔로워 수와 인기 해시태그는 이벤트로 추적하지 않으므로 여기서 보정하고,
+	 * 댓글/좋아요 수는 동기화된 post 테이블 값으로 덮어써 반영되지 못한 변화량을 바로잡는다
+	 * @return 갱신된 행 수
+	 */
+	@Override
+	public int refreshSince(LocalDateTime since, Collection<Long> popularHashtagIds) {
+		Timestamp sinceTimestamp = Timestamp.valueOf(since);
+
+		String hashtagScore = popularHashtagIds.isEmpty()
+			? "0"
+			: "CASE WHEN EXISTS (SELECT 1 FROM post_hashtag ph WHERE ph.post_id = post_score.post_id "
+			+ "AND ph.hashtag_id IN (" + placeholders(popularHashtagIds.size()) + ")) THEN "
+			+ POST_SCORE_POPULAR_HASHTAG + " ELSE 0 END";
+
+		List<Object> params = new ArrayList<>(popularHashtagIds);
+		params.add(sinceTimestamp);
+
+		jdbcTemplate.update(INSERT_MISSING_SQL, sinceTimestamp);
+
+		int updated = jdbcTemplate.update(
+			"UPDATE post_score SET author_score = (SELECT m.follower_count * " + POST_SCORE_FOLLOWER_WEIGHT
+				+ " FROM post p JOIN member m ON m.id = p.member_id WHERE p.id = post_score.post_id), "
+				+ "comment_count = (SELECT COALESCE(p.comment_count, 0) FROM post p WHERE p.id = post_score.post_id), "
+				+ "like_count = (SELECT COALESCE(p.like_count, 0) FROM post p WHERE p.id = post_score.post_id), "
+				+ "hashtag_score = " + hashtagScore + " WHERE create_date >= ?",
+			params.toArray());
+
+		jdbcTemplate.update(SUM_SCORE_SQL, sinceTimestamp);
+		return updated;
+	}
+
+	/**
+	 * 인기 해시태그가 바뀌었을 때 추천 범위 안의 해시태그 점수만 다시 계산한다
+	 * 점수가 달라지는 행만 갱신하며, 총점은 이전 해시태그 점수를 빼고 새 점수를 더해 맞춘다
+	 * @return 갱신된 행 수
+	 */
+	@Override
+	public int refreshHashtagScore(LocalDateTime since, Collection<Long> popularHashtagIds) {
+		Timestamp sinceTimestamp = Timestamp.valueOf(since);
+		if (popularHashtagIds.isEmpty()) {
+			return jdbcTemplate.update(
+				"UPDATE post_score SET score = score - hashtag_score, hashtag_score = 0 "
+					+ "WHERE create_date >= ? AND hashtag_score <> 0",
+				sinceTimestamp);
+		}
+
+		String popular = "EXISTS (SELECT 1 FROM post_hashtag ph WHERE ph.post_id = post_score.post_id "
+			+ "AND ph.hashtag_id IN (" + placeholders(popularHashtagIds.size()) + "))";
+
+		List<Object> params = new ArrayList<>();
+		params.add(sinceTimestamp);
+		params.addAll(popularHashtagIds);
+
+		int promoted = jdbcTemplate.update(
+			"UPDATE post_score SET score = score - hashtag_score + " + POST_SCORE_POPULAR_HASHTAG
+				+ ", hashtag_score = " + POST_SCORE_POPULAR_HASHTAG
+				+ " WHERE create_date >= ? AND hashtag_score <> " + POST_SCORE_POPULAR_HASHTAG + " AND " + popular,
+			params.toArray());
+		int demoted = jdbcTemplate.update(
+			"UPDATE post_score SET score = score - hashtag_score, hashtag_score = 0 "
+				+ "WHERE create_date >= ? AND hashtag_score <> 0 AND NOT " + popular,
+			params.toArray());
+		return promoted + demoted;
+	}
+
+	private static String placeholders(int size) {
+		return String.join(", ", Collections.nCopies(size, "?"));
+	}
+}
@@ -1,11 +1,16 @@
 package com.example.backend.global.config;
 
+import java.util.List;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -64,5 +69,36 @@ public class RedisConfig {
 		template.afterPropertiesSet();
 		return template;
 	}
-}
 
+	/**
+	 * 좋아요 상태 토글, 좋아요 수 갱신, TTL 갱신을 한 번에 처리하는 스크립트
+	 */
+	@Bean
+	public RedisScript<List<Object>> likeToggleScript() {
+		return listScript("scripts/like-toggle.lua");
+	}
+
+	/**
+	 * 분산 카운터를 기본 키로 옮긴 뒤 합치기를 끝내는 스크립트
+	 */
+	@Bean
+	public RedisScript<Long> likeCountFoldScript() {
+		return RedisScript.of(new ClassPathResource("scripts/like-count-fold.lua"), Long.class);
+	}
+
+	// 배열을 반환하는 스크립트, Redis 정수는 Long 으로 변환된다
+	@SuppressWarnings("unchecked")
+	private static RedisScript<List<Object>> listScript(String path) {
+		return RedisScript.of(new ClassPathResource(path), (Class<List<Object>>) (Class<?>) List.class);
+	}
+
+	/**
+	 * 서버 간 SSE 알림 채널을 구독하는 컨테이너, 채널은 사용자가 연결될 때 추가된다
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+}
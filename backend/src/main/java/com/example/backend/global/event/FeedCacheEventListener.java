@@ -0,0 +1,41 @@
+package com.example.backend.global.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.backend.social.feed.implement.FeedHydrator;
+import com.example.backend.social.feed.implement.FeedItemCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시물, 댓글 변경과 좋아요 수 동기화 시 피드 캐시를 무효화
+ * 커밋 이전에 무효화하면 다른 요청이 이전 데이터를 다시 캐시할 수 있으므로 커밋 이후 처리한다
+ * @author kwak
+ * 2025-03-13
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedCacheEventListener {
+
+	private final FeedItemCache feedItemCache;
+	private final FeedHydrator feedHydrator;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handlePostChangeEvent(PostChangeEvent postChangeEvent) {
+		feedItemCache.evict(postChangeEvent.postId());
+		feedHydrator.evict(postChangeEvent.postId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleCommentEvent(CommentEvent commentEvent) {
+		feedItemCache.evict(commentEvent.postId());
+	}
+
+	// 좋아요마다 무효화하면 인기 게시물의 캐시가 계속 비워지므로, 좋아요 수가 DB 에 동기화된 주기마다 무효화한다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handlePostLikeCountSyncEvent(PostLikeCountSyncEvent postLikeCountSyncEvent) {
+		feedItemCache.evictAll(postLikeCountSyncEvent.postIds());
+	}
+}
@@ -11,14 +11,23 @@ public record LikeEvent(
 	Long resourceOwnerId,
 	Long resourceId,
 	String resourceType,
+	boolean isLiked,
 	LocalDateTime timestamp
 ) {
 	public static LikeEvent create(String likerName, Long resourceOwnerId, Long resourceId, String resourceType) {
+		return create(likerName, resourceOwnerId, resourceId, resourceType, true);
+	}
+
+	// isLiked 가 false 이면 좋아요 취소로, 알림은 보내지 않고 좋아요 수 변경만 알린다
+	public static LikeEvent create(
+		String likerName, Long resourceOwnerId, Long resourceId, String resourceType, boolean isLiked
+	) {
 		return new LikeEvent(
 			likerName,
 			resourceOwnerId,
 			resourceId,
 			resourceType,
+			isLiked,
 			LocalDateTime.now()
 		);
 	}
@@ -1,11 +1,10 @@
 package com.example.backend.global.event;
 
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import com.example.backend.content.notification.exception.NotificationErrorCode;
-import com.example.backend.content.notification.exception.NotificationException;
 import com.example.backend.content.notification.service.NotificationService;
 import com.example.backend.content.notification.type.NotificationType;
 import com.example.backend.entity.NotificationEntity;
@@ -25,48 +24,49 @@ import lombok.extern.slf4j.Slf4j;
 public class LikeEventListener {
 
 	private final NotificationService notificationService;
-	private static final int MAX_RETRY_COUNT = 3;
-	private static final long RETRY_DELAY_MS = 1000L;
+	private final NotificationRetryQueue notificationRetryQueue;
+	private final LikeNotificationAggregator likeNotificationAggregator;
 
+	// 좋아요는 바로 알리지 않고 리소스별로 모아 LikeNotificationEvent 로 알린다
 	@EventListener
 	public void handleLikeEvent(LikeEvent likeEvent) {
-		int retryCount = 0;
+		likeNotificationAggregator.add(likeEvent);
+	}
 
+	@EventListener
+	public void handleLikeNotificationEvent(LikeNotificationEvent likeNotificationEvent) {
 		// 리소스 타입에 따른 컨텐츠 이름 설정
-		String resourceName = getResourceName(likeEvent.resourceType());
+		String resourceName = getResourceName(likeNotificationEvent.resourceType());
 
-		// 알림 메시지 생성
-		String message = likeEvent.likerName() + "님이 당신의 " + resourceName + "에 좋아요를 눌렀습니다.";
+		// 읽지 않은 같은 리소스의 좋아요 알림이 있으면 합치고, 없으면 새로 저장
+		NotificationEntity notification;
+		try {
+			notification = aggregateNotification(likeNotificationEvent, resourceName);
+		} catch (DataIntegrityViolationException e) {
+			// 다른 서버가 같은 알림을 먼저 만들었으면 그 알림에 합친다
+			notification = aggregateNotification(likeNotificationEvent, resourceName);
+		}
 
-		// 알림 저장
-		NotificationEntity notification = notificationService.createNotification(
-			likeEvent.resourceOwnerId(),
-			likeEvent.resourceId(),
-			NotificationType.LIKE,
-			message);
+		// 전송에 실패하면 스레드를 붙잡지 않고 NotificationRetryQueue 가 나중에 다시 시도한다
+		notificationRetryQueue.deliver(likeNotificationEvent.resourceOwnerId(), notification);
+	}
 
-		while (retryCount < MAX_RETRY_COUNT) {
-			try {
-				// 알림 전송
-				notificationService.sendNotification(likeEvent.resourceOwnerId(), notification);
-				// 성공 시 바로 리턴
-				return;
-			} catch (Exception e) {
-				retryCount++;
-				// 3번째 시도까지 실패 시 실제 에러 발생
-				if (retryCount == MAX_RETRY_COUNT) {
-					throw new NotificationException(NotificationErrorCode.FAILED_SEND, e);
-				}
+	private NotificationEntity aggregateNotification(LikeNotificationEvent likeNotificationEvent, String resourceName) {
+		return notificationService.aggregateNotification(
+			likeNotificationEvent.resourceOwnerId(),
+			likeNotificationEvent.resourceId(),
+			likeNotificationEvent.resourceType(),
+			NotificationType.LIKE,
+			likeNotificationEvent.likerNames(),
+			actorCount -> createMessage(likeNotificationEvent.lastLikerName(), actorCount, resourceName));
+	}
 
-				try {
-					// 다음 시도 전 1초 대기
-					Thread.sleep(RETRY_DELAY_MS);
-				} catch (InterruptedException ie) {
-					Thread.currentThread().interrupt();
-					throw new NotificationException(NotificationErrorCode.FAILED_SEND, ie);
-				}
-			}
+	// 알림 메시지 생성 메서드, 여러 명이면 마지막으로 누른 회원 외 인원 수로 표시
+	private String createMessage(String lastLikerName, int actorCount, String resourceName) {
+		if (actorCount <= 1) {
+			return lastLikerName + "님이 당신의 " + resourceName + "에 좋아요를 눌렀습니다.";
 		}
+		return lastLikerName + "님 외 " + (actorCount - 1) + "명이 당신의 " + resourceName + "에 좋아요를 눌렀습니다.";
 	}
 
 	// 리소스 타입에 따른 컨텐츠 이름 반환 메서드
@@ -0,0 +1,100 @@
+package com.example.backend.global.event;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 알림을 (소유자, 리소스) 별로 AGGREGATE_WINDOW_MS 동안 모았다가 하나의 LikeNotificationEvent 로 발행
+ * 인기 게시물에 좋아요가 몰려도 소유자에게는 구간마다 알림 저장 한 번, SSE 전송 한 번만 일어난다.
+ *
+ * @author kwak
+ * 2025-03-25
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeNotificationAggregator {
+
+	// 첫 좋아요부터 알림을 보내기까지 기다리는 시간
+	private static final long AGGREGATE_WINDOW_MS = 5_000L;
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	private final Map<AggregateKey, PendingLikes> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * 좋아요 이벤트를 집계 구간에 추가한다, 좋아요 취소는 알리지 않는다
+	 */
+	public void add(LikeEvent likeEvent) {
+		if (!likeEvent.isLiked()) {
+			return;
+		}
+
+		AggregateKey key = new AggregateKey(
+			likeEvent.resourceOwnerId(), likeEvent.resourceId(), likeEvent.resourceType().toUpperCase());
+		pending.compute(key, (k, likes) -> {
+			PendingLikes current = likes == null ? new PendingLikes(System.currentTimeMillis()) : likes;
+			current.add(likeEvent.likerName());
+			return current;
+		});
+	}
+
+	/**
+	 * 1초마다 집계 구간이 끝난 좋아요를 알림 이벤트로 발행
+	 */
+	@Scheduled(fixedDelay = 1_000)
+	public void flush() {
+		flush(System.currentTimeMillis());
+	}
+
+	/**
+	 * 종료 시 구간이 끝나지 않은 좋아요도 알림 이벤트로 발행하여 버려지지 않게 한다
+	 */
+	@PreDestroy
+	public void flushAll() {
+		flush(Long.MAX_VALUE);
+	}
+
+	void flush(long now) {
+		for (Map.Entry<AggregateKey, PendingLikes> entry : pending.entrySet()) {
+			if (now - entry.getValue().startedAt < AGGREGATE_WINDOW_MS) {
+				continue;
+			}
+
+			// 제거한 뒤 들어온 좋아요는 새 구간으로 모인다
+			PendingLikes likes = pending.remove(entry.getKey());
+			if (likes != null) {
+				AggregateKey key = entry.getKey();
+				applicationEventPublisher.publishEvent(new LikeNotificationEvent(
+					key.resourceOwnerId(), key.resourceId(), key.resourceType(), likes.lastLikerName, likes.likers));
+			}
+		}
+	}
+
+	private record AggregateKey(Long resourceOwnerId, Long resourceId, String resourceType) {
+	}
+
+	// 구간 내 같은 회원의 반복 좋아요는 한 명으로 센다, compute 안에서만 변경된다
+	private static final class PendingLikes {
+		private final long startedAt;
+		private final Set<String> likers = new LinkedHashSet<>();
+		private String lastLikerName;
+
+		private PendingLikes(long startedAt) {
+			this.startedAt = startedAt;
+		}
+
+		private void add(String likerName) {
+			likers.add(likerName);
+			lastLikerName = likerName;
+		}
+	}
+}
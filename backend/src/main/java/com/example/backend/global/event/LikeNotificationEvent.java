@@ -0,0 +1,20 @@
+package com.example.backend.global.event;
+
+import java.util.Set;
+
+/**
+ * 집계 구간 동안 한 리소스에 들어온 좋아요를 하나로 합친 알림 이벤트
+ * 리소스 소유자에게 보낼 알림 하나에 해당한다
+ * 좋아요를 누른 회원 이름을 그대로 담아, 여러 구간에 걸친 같은 회원의 좋아요를 알림에서 한 명으로 셀 수 있게 한다
+ *
+ * @author kwak
+ * 2025-03-25
+ */
+public record LikeNotificationEvent(
+	Long resourceOwnerId,
+	Long resourceId,
+	String resourceType,
+	String lastLikerName,
+	Set<String> likerNames
+) {
+}
@@ -0,0 +1,136 @@
+package com.example.backend.global.event;
+
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.service.NotificationService;
+import com.example.backend.entity.NotificationEntity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실패한 알림 전달을 지수 백오프와 jitter 를 두고 다시 시도하는 대기열
+ * 첫 시도는 호출한 스레드에서 하고, 실패하면 대기하지 않고 전용 scheduler 에 다음 시도를 예약한다.
+ * MAX_ATTEMPTS 번 모두 실패하면 dead letter 로 기록하고 이 서버의 연결로만 전송해 본다.
+ * 알림은 이미 저장되어 있어 전송되지 않아도 알림 목록에서는 볼 수 있다.
+ *
+ * @author kwak
+ * 2025-03-31
+ */
+@Slf4j
+@Component
+public class NotificationRetryQueue {
+
+	private static final int MAX_ATTEMPTS = 3;
+	private static final long BASE_DELAY_MS = 500L;
+	private static final long MAX_DELAY_MS = 10_000L;
+
+	private final NotificationService notificationService;
+	private final ThreadPoolTaskScheduler scheduler;
+	private final Clock clock;
+
+	// 예약되어 다시 시도를 기다리는 전달 수
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final Counter retries;
+	private final Counter deadLetters;
+
+	@Autowired
+	public NotificationRetryQueue(NotificationService notificationService, MeterRegistry meterRegistry) {
+		this(notificationService, meterRegistry, new ThreadPoolTaskScheduler(), Clock.systemUTC());
+	}
+
+	// 테스트에서 예약된 시도를 직접 실행하고 예약 시각을 확인할 수 있도록 scheduler 와 시계를 넘겨받는다
+	NotificationRetryQueue(NotificationService notificationService, MeterRegistry meterRegistry,
+		ThreadPoolTaskScheduler scheduler, Clock clock) {
+		this.notificationService = notificationService;
+		this.scheduler = scheduler;
+		this.clock = clock;
+		this.retries = Counter.builder("notification.delivery.retries")
+			.description("실패한 알림 전달을 다시 시도하도록 예약한 횟수")
+			.register(meterRegistry);
+		this.deadLetters = Counter.builder("notification.delivery.dead.letters")
+			.description("모든 시도가 실패해 전달하지 못한 알림 수")
+			.register(meterRegistry);
+		Gauge.builder("notification.delivery.pending", pending, AtomicInteger::get)
+			.description("다시 시도를 기다리는 알림 전달 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("NotificationRetry-");
+		scheduler.initialize();
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdown();
+	}
+
+	/**
+	 * 알림을 전달하고, 실패하면 다시 시도를 예약한다
+	 */
+	public void deliver(Long memberId, NotificationEntity notification) {
+		attempt(memberId, notification, 1);
+	}
+
+	private void attempt(Long memberId, NotificationEntity notification, int attempt) {
+		try {
+			notificationService.deliverNotification(memberId, notification);
+		} catch (Exception e) {
+			if (attempt >= MAX_ATTEMPTS) {
+				deadLetter(memberId, notification, e);
+				return;
+			}
+
+			long delay = backoff(attempt);
+			log.warn("Failed to deliver notification {} to member {} (attempt {}), retrying in {} ms",
+				notification.getId(), memberId, attempt, delay);
+			retries.increment();
+			pending.incrementAndGet();
+			try {
+				scheduler.schedule(() -> {
+					pending.decrementAndGet();
+					attempt(memberId, notification, attempt + 1);
+				}, clock.instant().plusMillis(delay));
+			} catch (TaskRejectedException re) {
+				// 종료 중에는 다시 시도하지 않는다
+				pending.decrementAndGet();
+				deadLetter(memberId, notification, e);
+			}
+		}
+	}
+
+	// 전달하지 못한 알림을 기록하고 이 서버에 연결된 사용자에게만 전송, 알림 목록을 조회하면 확인할 수 있다
+	private void deadLetter(Long memberId, NotificationEntity notification, Exception cause) {
+		deadLetters.increment();
+		log.error("Dead letter: notification {} to member {} was not delivered", notification.getId(), memberId, cause);
+		try {
+			notificationService.deliverLocally(memberId, notification);
+		} catch (Exception e) {
+			log.warn("Failed to send notification {} to local connections", notification.getId(), e);
+		}
+	}
+
+	/**
+	 * attempt 번째 실패 후의 대기 시간, 지수적으로 늘어난 시간의 절반에 나머지 절반 이내의 임의 시간을 더한다
+	 * 동시에 실패한 전달들이 같은 시각에 다시 몰리지 않도록 흩어 놓는다
+	 */
+	static long backoff(int attempt) {
+		long delay = Math.min(MAX_DELAY_MS, BASE_DELAY_MS << (attempt - 1));
+		return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+	}
+}
@@ -0,0 +1,36 @@
+package com.example.backend.global.event;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/**
+ * 게시물 변경 이벤트
+ * 게시물 수정, 삭제 혹은 댓글 삭제처럼 피드에 표시되는 게시물 정보가 바뀐 경우 발행
+ * 게시물이 삭제된 경우 deleted 가 true 이고, 작성자와 팔로워들의 타임라인에서 게시물을 제거할 수 있도록 작성자 ID 를 함께 전달한다
+ * @author kwak
+ * 2025-03-13
+ */
+@Builder
+public record PostChangeEvent(
+	Long postId,
+	Long authorId,
+	boolean deleted,
+	LocalDateTime timestamp
+) {
+	public static PostChangeEvent create(Long postId) {
+		return PostChangeEvent.builder()
+			.postId(postId)
+			.timestamp(LocalDateTime.now())
+			.build();
+	}
+
+	public static PostChangeEvent delete(Long postId, Long authorId) {
+		return PostChangeEvent.builder()
+			.postId(postId)
+			.authorId(authorId)
+			.deleted(true)
+			.timestamp(LocalDateTime.now())
+			.build();
+	}
+}
@@ -0,0 +1,26 @@
+package com.example.backend.global.event;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/**
+ * 게시물 생성 이벤트
+ * 커밋 이후 팔로워들의 타임라인에 게시물을 전파하기 위해 사용
+ * @author kwak
+ * 2025-03-07
+ */
+@Builder
+public record PostCreateEvent(
+	Long postId,
+	Long authorId,
+	LocalDateTime createDate
+) {
+	public static PostCreateEvent create(Long postId, Long authorId, LocalDateTime createDate) {
+		return PostCreateEvent.builder()
+			.postId(postId)
+			.authorId(authorId)
+			.createDate(createDate)
+			.build();
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.backend.global.event;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.backend.social.feed.implement.FeedTimelineWriter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 생성 트랜잭션이 커밋된 이후 팔로워 타임라인으로 게시물을 전파
+ * 게시물 삭제 트랜잭션이 커밋된 이후에는 팔로워 타임라인에서 게시물을 제거
+ * 팔로워가 많은 작성자의 전파가 공용 비동기 풀을 점유하지 않도록 전용 스레드에서 실행하며,
+ * 대기열이 가득 차면 작업을 버리지 않고 이벤트를 발행한 스레드에서 실행해 게시물 작성 속도를 늦춘다
+ * @author kwak
+ * 2025-03-07
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCreateEventListener {
+
+	private static final int FAN_OUT_THREADS = 4;
+	private static final int FAN_OUT_QUEUE_CAPACITY = 500;
+
+	private final FeedTimelineWriter feedTimelineWriter;
+
+	private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+	@PostConstruct
+	public void start() {
+		executor.setCorePoolSize(FAN_OUT_THREADS);
+		executor.setMaxPoolSize(FAN_OUT_THREADS);
+		executor.setQueueCapacity(FAN_OUT_QUEUE_CAPACITY);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setThreadNamePrefix("FeedFanOut-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+	}
+
+	@PreDestroy
+	public void stop() {
+		executor.shutdown();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handlePostCreateEvent(PostCreateEvent postCreateEvent) {
+		executor.execute(() -> {
+			int pushed = feedTimelineWriter.fanOut(
+				postCreateEvent.postId(),
+				postCreateEvent.authorId(),
+				postCreateEvent.createDate());
+
+			log.debug("Post {} pushed to {} timelines", postCreateEvent.postId(), pushed);
+		});
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handlePostDeleteEvent(PostChangeEvent postChangeEvent) {
+		if (!postChangeEvent.deleted()) {
+			return;
+		}
+		executor.execute(() -> {
+			int removed = feedTimelineWriter.removeFromTimelines(postChangeEvent.postId(), postChangeEvent.authorId());
+
+			log.debug("Post {} removed from {} timelines", postChangeEvent.postId(), removed);
+		});
+	}
+}
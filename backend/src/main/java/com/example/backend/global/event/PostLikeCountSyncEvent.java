@@ -0,0 +1,15 @@
+package com.example.backend.global.event;
+
+import java.util.List;
+
+/**
+ * 게시물의 likeCount 를 likes 테이블 기준으로 다시 계산했음을 알리는 이벤트
+ * 좋아요 한 번마다가 아니라 동기화 주기마다 발행되므로, 캐시된 피드는 이 이벤트로 좋아요 수를 갱신한다
+ *
+ * @author kwak
+ * 2025-03-13
+ */
+public record PostLikeCountSyncEvent(
+	List<Long> postIds
+) {
+}
@@ -11,8 +11,15 @@ public class FeedConstants {
 	/**
 	 *  RECOMMEND_RANDOM_POOL_MULTIPLIER
 	 *  추천 게시물에서 요청 개수만큼 뽑기 위해 배수 값으로 DB에 요청하기 위한 상수
+	 *  후보는 ID 와 점수만 조회하며, 이미 본 게시물을 제외하고도 후보가 남도록 여유 있게 잡는다
 	 */
-	public static final long RECOMMEND_RANDOM_POOL_MULTIPLIER = 2L;
+	public static final long RECOMMEND_RANDOM_POOL_MULTIPLIER = 4L;
+
+	/**
+	 *  RECOMMEND_CANDIDATE_MAX_PAGES
+	 *  이미 본 게시물을 제외한 후보가 부족할 때 (점수, ID) 커서로 이어서 조회하는 최대 페이지 수
+	 */
+	public static final int RECOMMEND_CANDIDATE_MAX_PAGES = 5;
 
 	/**
 	 *  FOLLOWING_FEED_RATE
@@ -43,4 +50,82 @@ public class FeedConstants {
 	 * 피드 요청 시 최대로 요청할 수 있는 개수
 	 */
 	public static final int REQUEST_FEED_MAX_SIZE = 20;
+
+	/**
+	 * TIMELINE_MAX_SIZE
+	 * 팔로워별 타임라인(Redis Sorted Set)에 유지하는 최대 게시물 개수
+	 */
+	public static final int TIMELINE_MAX_SIZE = 800;
+
+	/**
+	 * TIMELINE_TTL_DAYS
+	 * 접근이 없는 타임라인이 만료되기까지의 기간 (일 단위)
+	 */
+	public static final long TIMELINE_TTL_DAYS = 7;
+
+	/**
+	 * TIMELINE_FAN_OUT_CHUNK_SIZE
+	 * 게시물 전파 시 한 번의 Redis 호출로 처리하는 팔로워 수
+	 */
+	public static final int TIMELINE_FAN_OUT_CHUNK_SIZE = 500;
+
+	/**
+	 * POST_SCORE_FOLLOWER_WEIGHT
+	 * 게시물 인기 점수에서 작성자 팔로워 한 명당 부여하는 점수
+	 */
+	public static final long POST_SCORE_FOLLOWER_WEIGHT = 2L;
+
+	/**
+	 * POST_SCORE_POPULAR_HASHTAG
+	 * 게시물이 인기 해시태그를 포함하는 경우 부여하는 점수
+	 */
+	public static final long POST_SCORE_POPULAR_HASHTAG = 3L;
+
+	/**
+	 * FEED_MEDIA_CACHE_MAX_SIZE
+	 * 게시물별 해시태그, 이미지 목록을 캐시하는 최대 게시물 수
+	 */
+	public static final long FEED_MEDIA_CACHE_MAX_SIZE = 10_000L;
+
+	/**
+	 * FEED_MEDIA_CACHE_TTL_MINUTES
+	 * 게시물별 해시태그, 이미지 목록 캐시의 만료 시간 (분 단위)
+	 */
+	public static final long FEED_MEDIA_CACHE_TTL_MINUTES = 10L;
+
+	/**
+	 * FEED_ITEM_CACHE_MAX_SIZE
+	 * 요청한 유저와 무관한 피드 정보를 캐시하는 최대 게시물 수
+	 */
+	public static final long FEED_ITEM_CACHE_MAX_SIZE = 5_000L;
+
+	/**
+	 * FEED_ITEM_CACHE_TTL_SECONDS
+	 * 피드 정보 캐시의 만료 시간 (초 단위), 좋아요 수처럼 이벤트 없이 바뀌는 값의 최대 지연 시간
+	 */
+	public static final long FEED_ITEM_CACHE_TTL_SECONDS = 60L;
+
+	/**
+	 * SEEN_POST_FILTER_BITS
+	 * 회원별 이미 본 추천 게시물 Bloom filter 의 비트 수 (하루 1,000개 기준 오탐률 약 0.07%)
+	 */
+	public static final int SEEN_POST_FILTER_BITS = 1 << 15;
+
+	/**
+	 * SEEN_POST_FILTER_HASHES
+	 * 이미 본 추천 게시물 Bloom filter 의 해시 함수 개수
+	 */
+	public static final int SEEN_POST_FILTER_HASHES = 3;
+
+	/**
+	 * SEEN_POST_RETENTION_DAYS
+	 * 이미 본 추천 게시물을 기억하는 기간 (일 단위), 일자별 filter 를 이 기간만큼 유지한다
+	 */
+	public static final int SEEN_POST_RETENTION_DAYS = 3;
+
+	/**
+	 * SEEN_POST_LOCAL_MAX_MEMBERS
+	 * Redis 장애 시 서버 메모리에 이미 본 추천 게시물 filter 를 유지하는 최대 회원 수
+	 */
+	public static final long SEEN_POST_LOCAL_MAX_MEMBERS = 2_000L;
 }
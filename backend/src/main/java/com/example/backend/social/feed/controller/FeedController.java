@@ -53,10 +53,11 @@ public class FeedController {
 		@RequestParam(name = "timestamp") LocalDateTime timestamp,
 		@RequestParam(name = "lastPostId") Long lastPostId,
 		@RequestParam(name = "maxSize") Integer maxSize,
+		@RequestParam(name = "lastCreateDate", required = false) LocalDateTime lastCreateDate,
 		@AuthenticationPrincipal CustomUser securityUser
 	) {
 		FeedListResponse response = feedService.findList(
-			new FeedRequest(timestamp, lastPostId, maxSize),
+			new FeedRequest(timestamp, lastPostId, maxSize, lastCreateDate),
 			securityUser.getId());
 		return RsData.success(response, "피드를 성공적으로 반환했습니다.");
 	}
@@ -1,5 +1,7 @@
 package com.example.backend.social.feed.converter;
 
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import com.example.backend.social.feed.Feed;
@@ -32,4 +34,42 @@ public class FeedConverter {
 			.build();
 	}
 
+	/**
+	 * 요청한 유저와 무관한 부분만 담은 피드 정보로 변환 (캐시 저장용)
+	 * 북마크, 좋아요 여부는 비워둔다
+	 */
+	public FeedInfoResponse toSnapshot(Feed feed) {
+		return FeedInfoResponse.builder()
+			.authorId(feed.getPost().getMember().getId())
+			.authorName(feed.getPost().getMember().getUsername())
+			.profileImgUrl(feed.getPost().getMember().getProfileUrl())
+			.imgUrlList(List.copyOf(feed.getImageUrlList()))
+			.postId(feed.getPost().getId())
+			.content(feed.getPost().getContent())
+			.likeCount(feed.getPost().getLikeCount())
+			.commentCount(feed.getCommentCount())
+			.createdDate(feed.getPost().getCreateDate())
+			.hashTagList(List.copyOf(feed.getHashTagList()))
+			.build();
+	}
+
+	/**
+	 * 캐시된 피드 정보에 요청한 유저의 북마크, 좋아요 여부를 덧씌운다
+	 */
+	public FeedInfoResponse toFeedInfoResponse(FeedInfoResponse snapshot, Long bookmarkId, boolean isLiked) {
+		return FeedInfoResponse.builder()
+			.authorId(snapshot.authorId())
+			.authorName(snapshot.authorName())
+			.profileImgUrl(snapshot.profileImgUrl())
+			.likeFlag(isLiked)
+			.imgUrlList(snapshot.imgUrlList())
+			.postId(snapshot.postId())
+			.content(snapshot.content())
+			.likeCount(snapshot.likeCount())
+			.commentCount(snapshot.commentCount())
+			.createdDate(snapshot.createdDate())
+			.hashTagList(snapshot.hashTagList())
+			.bookmarkId(bookmarkId)
+			.build();
+	}
 }
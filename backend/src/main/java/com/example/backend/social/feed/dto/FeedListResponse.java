@@ -7,7 +7,7 @@ import lombok.Builder;
 
 /**
  * 피드 리스트 DTO
- * 요청한 피드 리스트와 커서 페이징을 위한 정보 (timestamp & lastPostId)를 담은 DTO
+ * 요청한 피드 리스트와 커서 페이징을 위한 정보 (timestamp & lastCreateDate & lastPostId)를 담은 DTO
  *
  * @author ChoiHyunSan
  * @since 2025-02-03
@@ -16,14 +16,16 @@ import lombok.Builder;
 public record FeedListResponse(
 	List<FeedInfoResponse> feedList,
 	LocalDateTime lastTimestamp,    // 마지막 피드의 timestamp
+	LocalDateTime lastCreateDate,   // 마지막 팔로잉 피드의 생성일 (커서)
 	Long lastPostId                // 마지막 피드의 id
 ) {
 
 	public static FeedListResponse create(
-		List<FeedInfoResponse> feedList, LocalDateTime lastTimestamp, Long lastPostId) {
+		List<FeedInfoResponse> feedList, LocalDateTime lastTimestamp, LocalDateTime lastCreateDate, Long lastPostId) {
 		return FeedListResponse.builder()
 			.feedList(feedList)
 			.lastPostId(lastPostId)
+			.lastCreateDate(lastCreateDate)
 			.lastTimestamp(lastTimestamp)
 			.build();
 	}
@@ -10,6 +10,7 @@ import lombok.Builder;
  * "/feed" 로 들어오는 요청 관련 DTO
  *  처음 요청하는 경우 timestamp 에는 현재 시간을, lastPostId 에는 0 을 넣는다.
  *  이후 요청부터는 Response 로 전달받은 값을 다시 전달하여 다음 게시물을 받는다.
+ *  lastCreateDate 는 lastPostId 와 함께 (생성일, ID) 커서를 이루며, 첫 요청이면 비워둔다.
  * @author ChoiHyunSan
  * @since 2025-01-31
  */
@@ -23,6 +24,8 @@ public record FeedRequest(
 	Long lastPostId,
 
 	@NotNull
-	Integer maxSize
+	Integer maxSize,
+
+	LocalDateTime lastCreateDate
 ) {
 }
@@ -0,0 +1,20 @@
+package com.example.backend.social.feed.dto;
+
+/**
+ * 게시물 인기 점수에 반영할 변화량
+ * @author ChoiHyunSan
+ * @since 2025-03-09
+ */
+public record PostScoreDelta(
+	Long postId,
+	long commentDelta,
+	long likeDelta
+) {
+	public PostScoreDelta merge(PostScoreDelta other) {
+		return new PostScoreDelta(postId, commentDelta + other.commentDelta, likeDelta + other.likeDelta);
+	}
+
+	public boolean isEmpty() {
+		return commentDelta == 0 && likeDelta == 0;
+	}
+}
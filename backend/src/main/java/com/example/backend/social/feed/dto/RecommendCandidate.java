@@ -0,0 +1,13 @@
+package com.example.backend.social.feed.dto;
+
+/**
+ * 추천 게시물 샘플링 후보
+ * 게시물 엔티티를 읽기 전에 ID 와 인기 점수만으로 추출 대상을 고른다
+ * @author ChoiHyunSan
+ * @since 2025-03-15
+ */
+public record RecommendCandidate(
+	Long postId,
+	long score
+) {
+}
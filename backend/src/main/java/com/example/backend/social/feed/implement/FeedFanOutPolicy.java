@@ -0,0 +1,59 @@
+package com.example.backend.social.feed.implement;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.MemberEntity;
+
+/**
+ * FeedFanOutPolicy
+ * 작성자의 게시물을 쓰기 시점에 전파(push)할지, 읽기 시점에 병합(pull)할지 결정하는 컴포넌트
+ * 팔로워 수가 pull 임계값 이상이 되면 pull 대상이 되고, push 임계값 아래로 내려가야 다시 전파 대상이 된다.
+ * 두 임계값 사이에서는 이전 분류를 유지하므로 팔로워 수가 경계에서 오르내려도 팔로워 타임라인을 반복해서 제거하지 않는다.
+ * @author ChoiHyunSan
+ * @since 2025-03-08
+ */
+@Component
+public class FeedFanOutPolicy {
+
+	@Value("${custom.feed.pull-threshold}")
+	private long pullThreshold;
+
+	@Value("${custom.feed.push-threshold}")
+	private long pushThreshold;
+
+	public long getPullThreshold() {
+		return pullThreshold;
+	}
+
+	public long getPushThreshold() {
+		return pushThreshold;
+	}
+
+	/**
+	 * 작성자가 읽기 시점 병합(pull) 대상인지 확인한다
+	 * @param author 게시물 작성자
+	 * @return pull 대상으로 분류된 작성자이면 true
+	 */
+	public boolean isPulled(MemberEntity author) {
+		return author.isFeedPulled();
+	}
+
+	/**
+	 * 팔로워 수가 바뀐 작성자의 분류를 갱신한다
+	 * push 에서 pull 로 바뀌는 경우 이미 전파된 게시물은 조회 시점에 중복 제거되므로 타임라인을 제거할 필요가 없다
+	 * @param author 팔로워 수가 바뀐 작성자
+	 * @return pull 대상에서 벗어나 팔로워들의 타임라인을 다시 구성해야 하면 true
+	 */
+	public boolean updatePulled(MemberEntity author) {
+		if (!author.isFeedPulled() && author.getFollowerCount() >= pullThreshold) {
+			author.updateFeedPulled(true);
+			return false;
+		}
+		if (author.isFeedPulled() && author.getFollowerCount() < pushThreshold) {
+			author.updateFeedPulled(false);
+			return true;
+		}
+		return false;
+	}
+}
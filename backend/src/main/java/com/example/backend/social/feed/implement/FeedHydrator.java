@@ -0,0 +1,184 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.social.feed.Feed;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * FeedHydrator
+ * 피드에 해시태그, 이미지, 북마크, 좋아요 정보를 채우는 컴포넌트
+ * 네 가지 정보를 UNION ALL 로 묶어 한 번의 쿼리로 조회하며,
+ * 게시물마다 변하지 않는 해시태그와 이미지 목록은 캐시에서 먼저 찾는다.
+ * @author ChoiHyunSan
+ * @since 2025-03-11
+ */
+@Component
+public class FeedHydrator {
+
+	private static final String KIND_HASHTAG = "H";
+	private static final String KIND_IMAGE = "I";
+	private static final String KIND_BOOKMARK = "B";
+	private static final String KIND_LIKE = "L";
+
+	// 컬럼 타입을 맞추기 위해 사용하지 않는 값은 0, '' 로 채운다
+	private static final String HASHTAG_SQL =
+		"SELECT 'H' AS kind, ph.post_id AS post_id, 0 AS num, h.content AS txt "
+			+ "FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id WHERE ph.post_id IN (:mediaPostIds)";
+
+	private static final String IMAGE_SQL =
+		"SELECT 'I', i.post_id, 0, i.image_url FROM image i WHERE i.post_id IN (:mediaPostIds)";
+
+	private static final String BOOKMARK_SQL =
+		"SELECT 'B', b.post_id, b.id, '' FROM bookmark b WHERE b.member_id = :memberId AND b.post_id IN (:postIds)";
+
+	private static final String LIKE_SQL =
+		"SELECT 'L', l.resource_id, 0, '' FROM likes l WHERE l.member_id = :memberId AND l.resource_type = 'POST' "
+			+ "AND l.is_liked = true AND l.resource_id IN (:postIds)";
+
+	private final EntityManager entityManager;
+
+	private final Cache<Long, PostMedia> mediaCache = Caffeine.newBuilder()
+		.maximumSize(FEED_MEDIA_CACHE_MAX_SIZE)
+		.expireAfterWrite(Duration.ofMinutes(FEED_MEDIA_CACHE_TTL_MINUTES))
+		.build();
+
+	public FeedHydrator(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * 피드 리스트에 부가 정보를 채운다
+	 * @param feeds 채울 피드 리스트
+	 * @param member 요청한 유저의 멤버 Entity 객체
+	 */
+	public void hydrate(List<Feed> feeds, MemberEntity member) {
+		if (feeds.isEmpty()) {
+			return;
+		}
+
+		List<Long> postIds = feeds.stream().map(feed -> feed.getPost().getId()).collect(Collectors.toList());
+
+		Map<Long, PostMedia> mediaByPostId = new HashMap<>(mediaCache.getAllPresent(postIds));
+		List<Long> mediaPostIds = postIds.stream()
+			.filter(postId -> !mediaByPostId.containsKey(postId))
+			.collect(Collectors.toList());
+
+		Map<Long, List<String>> hashtagsByPostId = new HashMap<>();
+		Map<Long, List<String>> imageUrlsByPostId = new HashMap<>();
+		Map<Long, Long> bookmarkByPostId = new HashMap<>();
+		Set<Long> likedPostIds = new HashSet<>();
+
+		for (Object[] row : fetchRows(postIds, mediaPostIds, member.getId())) {
+			String kind = String.valueOf(row[0]);
+			Long postId = ((Number) row[1]).longValue();
+			switch (kind) {
+				case KIND_HASHTAG -> hashtagsByPostId.computeIfAbsent(postId, id -> new ArrayList<>()).add((String) row[3]);
+				case KIND_IMAGE -> imageUrlsByPostId.computeIfAbsent(postId, id -> new ArrayList<>()).add((String) row[3]);
+				case KIND_BOOKMARK -> bookmarkByPostId.putIfAbsent(postId, ((Number) row[2]).longValue());
+				case KIND_LIKE -> likedPostIds.add(postId);
+				default -> throw new IllegalStateException("Unknown hydration row kind: " + kind);
+			}
+		}
+
+		// 새로 조회한 해시태그, 이미지 목록을 캐시에 저장
+		for (Long postId : mediaPostIds) {
+			PostMedia media = new PostMedia(
+				List.copyOf(hashtagsByPostId.getOrDefault(postId, List.of())),
+				List.copyOf(imageUrlsByPostId.getOrDefault(postId, List.of())));
+			mediaCache.put(postId, media);
+			mediaByPostId.put(postId, media);
+		}
+
+		feeds.forEach(feed -> {
+			Long postId = feed.getPost().getId();
+			PostMedia media = mediaByPostId.get(postId);
+			feed.fillData(
+				new ArrayList<>(media.hashtags()),
+				new ArrayList<>(media.imageUrls()),
+				bookmarkByPostId.getOrDefault(postId, -1L),
+				likedPostIds.contains(postId)
+			);
+		});
+	}
+
+	/**
+	 * 요청한 유저의 북마크, 좋아요 여부만 조회한다
+	 * @param postIds 게시물 ID 리스트
+	 * @param member 요청한 유저의 멤버 Entity 객체
+	 * @return 게시물 ID 별 북마크, 좋아요 여부 (조회 결과가 없는 게시물은 포함하지 않음)
+	 */
+	public Map<Long, ViewerState> findViewerStates(List<Long> postIds, MemberEntity member) {
+		Map<Long, ViewerState> states = new HashMap<>();
+		if (postIds.isEmpty()) {
+			return states;
+		}
+
+		for (Object[] row : fetchRows(postIds, List.of(), member.getId())) {
+			Long postId = ((Number) row[1]).longValue();
+			ViewerState state = states.getOrDefault(postId, ViewerState.NONE);
+			if (KIND_BOOKMARK.equals(String.valueOf(row[0]))) {
+				states.put(postId, new ViewerState(((Number) row[2]).longValue(), state.isLiked()));
+			} else {
+				states.put(postId, new ViewerState(state.bookmarkId(), true));
+			}
+		}
+		return states;
+	}
+
+	/**
+	 * 게시물의 해시태그나 이미지가 바뀐 경우 캐시에서 제거한다
+	 * @param postId 게시물 ID
+	 */
+	public void evict(Long postId) {
+		mediaCache.invalidate(postId);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object[]> fetchRows(List<Long> postIds, List<Long> mediaPostIds, Long memberId) {
+		List<String> parts = new ArrayList<>();
+		if (!mediaPostIds.isEmpty()) {
+			parts.add(HASHTAG_SQL);
+			parts.add(IMAGE_SQL);
+		}
+		parts.add(BOOKMARK_SQL);
+		parts.add(LIKE_SQL);
+
+		Query query = entityManager.createNativeQuery(String.join(" UNION ALL ", parts))
+			.setParameter("postIds", postIds)
+			.setParameter("memberId", memberId);
+		if (!mediaPostIds.isEmpty()) {
+			query.setParameter("mediaPostIds", mediaPostIds);
+		}
+		return query.getResultList();
+	}
+
+	/**
+	 * 요청한 유저의 북마크 ID(없으면 -1), 좋아요 여부
+	 */
+	public record ViewerState(Long bookmarkId, boolean isLiked) {
+		public static final ViewerState NONE = new ViewerState(-1L, false);
+	}
+
+	/**
+	 * 게시물마다 캐시하는 해시태그, 이미지 목록
+	 */
+	private record PostMedia(List<String> hashtags, List<String> imageUrls) {
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.converter.FeedConverter;
+import com.example.backend.social.feed.dto.FeedInfoResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * FeedItemCache
+ * 요청한 유저와 무관한 피드 정보(본문, 작성자, 이미지, 해시태그, 카운트)를 게시물별로 캐시하는 컴포넌트
+ * 캐시된 게시물은 DB 에서 다시 읽지 않고 북마크, 좋아요 여부만 조회하여 덧씌운다.
+ * 게시물, 댓글 변경과 좋아요 수 동기화 시 FeedCacheEventListener 를 통해 무효화된다.
+ * @author ChoiHyunSan
+ * @since 2025-03-13
+ */
+@Component
+public class FeedItemCache {
+
+	private final FeedSelectorCache feedSelector;
+	private final FeedHydrator feedHydrator;
+	private final FeedConverter feedConverter;
+
+	private final Cache<Long, FeedInfoResponse> itemCache = Caffeine.newBuilder()
+		.maximumSize(FEED_ITEM_CACHE_MAX_SIZE)
+		.expireAfterWrite(Duration.ofSeconds(FEED_ITEM_CACHE_TTL_SECONDS))
+		.build();
+
+	public FeedItemCache(FeedSelectorCache feedSelector, FeedHydrator feedHydrator, FeedConverter feedConverter) {
+		this.feedSelector = feedSelector;
+		this.feedHydrator = feedHydrator;
+		this.feedConverter = feedConverter;
+	}
+
+	/**
+	 * 게시물 ID 리스트에 대한 피드 정보를 입력 순서대로 반환한다
+	 * 캐시에 없는 게시물만 DB 에서 조회하며, 삭제된 게시물은 제외된다
+	 * @param postIds 게시물 ID 리스트
+	 * @param member 요청한 유저의 멤버 Entity 객체
+	 * @return 피드 정보 리스트
+	 */
+	public List<FeedInfoResponse> findByPostIds(List<Long> postIds, MemberEntity member) {
+		Map<Long, FeedInfoResponse> snapshots = itemCache.getAllPresent(postIds);
+
+		Map<Long, FeedInfoResponse> responses = new HashMap<>(overlay(new ArrayList<>(snapshots.values()), member));
+
+		List<Long> missIds = postIds.stream().filter(postId -> !snapshots.containsKey(postId)).toList();
+		if (!missIds.isEmpty()) {
+			for (FeedInfoResponse response : toResponses(feedSelector.findByPostIds(missIds, member))) {
+				responses.put(response.postId(), response);
+			}
+		}
+
+		return postIds.stream()
+			.filter(responses::containsKey)
+			.map(responses::get)
+			.toList();
+	}
+
+	/**
+	 * 단건 게시물에 대한 피드 정보를 반환한다
+	 * @param postId 게시물 ID
+	 * @param member 요청한 유저의 멤버 Entity 객체
+	 * @return 피드 정보
+	 */
+	public FeedInfoResponse findByPostId(Long postId, MemberEntity member) {
+		FeedInfoResponse snapshot = itemCache.getIfPresent(postId);
+		if (snapshot != null) {
+			return overlay(List.of(snapshot), member).get(postId);
+		}
+		return toResponse(feedSelector.findByPostId(postId, member));
+	}
+
+	/**
+	 * DB 에서 조회한 피드를 응답으로 변환하고, 요청한 유저와 무관한 부분을 캐시에 저장한다
+	 * @param feeds 피드 리스트
+	 * @return 피드 정보 리스트
+	 */
+	public List<FeedInfoResponse> toResponses(List<Feed> feeds) {
+		return feeds.stream().map(this::toResponse).toList();
+	}
+
+	public void evict(Long postId) {
+		itemCache.invalidate(postId);
+	}
+
+	public void evictAll(Collection<Long> postIds) {
+		itemCache.invalidateAll(postIds);
+	}
+
+	private FeedInfoResponse toResponse(Feed feed) {
+		itemCache.put(feed.getPost().getId(), feedConverter.toSnapshot(feed));
+		return feedConverter.toFeedInfoResponse(feed);
+	}
+
+	private Map<Long, FeedInfoResponse> overlay(List<FeedInfoResponse> snapshots, MemberEntity member) {
+		List<Long> postIds = snapshots.stream().map(FeedInfoResponse::postId).toList();
+		Map<Long, FeedHydrator.ViewerState> states = feedHydrator.findViewerStates(postIds, member);
+
+		Map<Long, FeedInfoResponse> responses = new HashMap<>();
+		for (FeedInfoResponse snapshot : snapshots) {
+			FeedHydrator.ViewerState state = states.getOrDefault(snapshot.postId(), FeedHydrator.ViewerState.NONE);
+			responses.put(snapshot.postId(),
+				feedConverter.toFeedInfoResponse(snapshot, state.bookmarkId(), state.isLiked()));
+		}
+		return responses;
+	}
+}
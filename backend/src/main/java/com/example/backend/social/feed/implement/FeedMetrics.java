@@ -0,0 +1,60 @@
+package com.example.backend.social.feed.implement;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * FeedMetrics
+ * 피드 전파(push)와 읽기 시점 병합(pull)의 비용을 기록하는 컴포넌트
+ * @author ChoiHyunSan
+ * @since 2025-03-08
+ */
+@Component
+public class FeedMetrics {
+
+	private final DistributionSummary fanOutSize;
+	private final Counter fanOutSkipped;
+	private final Timer pullMergeTimer;
+	private final DistributionSummary pullMergeSize;
+
+	public FeedMetrics(MeterRegistry meterRegistry, FeedFanOutPolicy fanOutPolicy) {
+		this.fanOutSize = DistributionSummary.builder("feed.fanout.size")
+			.description("게시물 하나가 전파된 타임라인 개수")
+			.register(meterRegistry);
+		this.fanOutSkipped = Counter.builder("feed.fanout.skipped")
+			.description("팔로워 수 임계값을 넘어 전파를 생략한 게시물 수")
+			.register(meterRegistry);
+		this.pullMergeTimer = Timer.builder("feed.pull.merge")
+			.description("pull 대상 작성자의 게시물을 조회하여 타임라인과 병합하는 데 걸린 시간")
+			.register(meterRegistry);
+		this.pullMergeSize = DistributionSummary.builder("feed.pull.merge.size")
+			.description("타임라인과 병합하기 위해 조회한 pull 대상 게시물 개수")
+			.register(meterRegistry);
+		Gauge.builder("feed.pull.threshold", fanOutPolicy, FeedFanOutPolicy::getPullThreshold)
+			.description("pull 대상으로 분류되는 팔로워 수 임계값")
+			.register(meterRegistry);
+	}
+
+	public void recordFanOut(int timelineCount) {
+		fanOutSize.record(timelineCount);
+	}
+
+	public void recordFanOutSkipped() {
+		fanOutSkipped.increment();
+	}
+
+	public <T> T recordPullMerge(Supplier<T> merge) {
+		return pullMergeTimer.record(merge);
+	}
+
+	public void recordPullMergeSize(int postCount) {
+		pullMergeSize.record(postCount);
+	}
+}
@@ -1,34 +1,24 @@
 package com.example.backend.social.feed.implement;
 
-import static com.example.backend.entity.QBookmarkEntity.*;
-import static com.example.backend.entity.QCommentEntity.*;
-import static com.example.backend.entity.QHashtagEntity.*;
-import static com.example.backend.entity.QImageEntity.*;
-import static com.example.backend.entity.QLikeEntity.*;
+import static com.example.backend.entity.QMemberEntity.*;
 import static com.example.backend.entity.QPostEntity.*;
-import static com.example.backend.entity.QPostHashtagEntity.*;
-import static com.example.backend.social.feed.constant.FeedConstants.*;
+import static com.example.backend.entity.QPostScoreEntity.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
 import com.example.backend.entity.MemberEntity;
 import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.dto.RecommendCandidate;
 import com.example.backend.social.feed.exception.FeedErrorCode;
 import com.example.backend.social.feed.exception.FeedException;
-import com.example.backend.social.feed.schedular.FeedScheduler;
-import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -44,7 +34,7 @@ import lombok.RequiredArgsConstructor;
 public class FeedSelectorCache {
 
 	private final JPAQueryFactory queryFactory;
-	private final FeedScheduler scheduler;
+	private final FeedHydrator feedHydrator;
 
 	/**
 	 * 단건 게시물에 대한 피드를 반환
@@ -56,7 +46,7 @@ public class FeedSelectorCache {
 		List<Feed> feedList = queryFactory.select(
 				Projections.constructor(Feed.class,
 					postEntity,
-					commentCountByPost()))
+					postEntity.commentCount))
 			.from(postEntity)
 			.where(postEntity.id.eq(postId).and(postEntity.isDeleted.isFalse()))
 			.fetch();
@@ -69,32 +59,55 @@ public class FeedSelectorCache {
 		return feedList.getFirst();
 	}
 
-	/***
-	 * 팔로워가 팔로우중인 Member 들의 게시물을 얻는다.
-	 * 파라미터로 넘어오는 timestamp 이전에 등록된 게시물들에 한해서 최대 limit 개수만큼 리스트에 담는다.
-	 * timestamp 가 동일한 경우에 대비하여 lastPostId를 같이 받아서 처리한다.
+	/**
+	 * 팔로잉 및 자신의 게시물 ID 와 생성 시각만 (생성일, ID) 내림차순으로 조회한다
+	 * 피드 정보는 FeedItemCache 에서 게시물별로 찾으므로 타임라인이 없는 경우에도 캐시를 사용할 수 있다
 	 * @param member 팔로워 Entity 객체
+	 * @param lastCreateDate 최근 받아간 피드 중 가장 마지막 게시물의 생성일 (첫 요청이면 null)
 	 * @param lastPostId 최근 받아간 피드 중 가장 마지막 ID
 	 * @param limit 한 번에 받아올 리스트의 최대 크기
+	 * @return 타임라인 항목 리스트
+	 */
+	public List<FeedTimelineStore.Entry> findFollowerEntries(
+		final MemberEntity member, final LocalDateTime lastCreateDate, final Long lastPostId, final int limit) {
+
+		return queryFactory.select(postEntity.id, postEntity.createDate)
+			.from(postEntity)
+			.where(
+				findPostsBeforeCursor(lastCreateDate, lastPostId)
+					.and(isFollowingOrOwnPost(member))
+					.and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.createDate.desc(), postEntity.id.desc())
+			.limit(limit)
+			.fetch()
+			.stream()
+			.map(tuple -> new FeedTimelineStore.Entry(
+				tuple.get(postEntity.id),
+				tuple.get(postEntity.createDate)))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 타임라인에서 얻은 게시물 ID 들에 대한 피드를 반환한다
+	 * 삭제된 게시물은 제외되며 생성일 기준 내림차순으로 정렬된다
+	 * @param postIds 게시물 ID 리스트
+	 * @param member 요청한 유저의 멤버 Entity 객체
 	 * @return 피드 리스트
 	 */
-	public List<Feed> findByFollower(final MemberEntity member, final Long lastPostId, final int limit) {
+	public List<Feed> findByPostIds(final List<Long> postIds, final MemberEntity member) {
+		if (postIds.isEmpty()) {
+			return new ArrayList<>();
+		}
 
-		// Post 정보와 count 를 조회
 		List<Feed> feedList = queryFactory.select(
 				Projections.constructor(Feed.class,
 					postEntity,
-					commentCountByPost()))
+					postEntity.commentCount))
 			.from(postEntity)
 			.join(postEntity.member)
 			.fetchJoin()
-			.where(
-				findPostsBeforeId(lastPostId)
-					.and(isFollowingOrOwnPost(member))
-					.and(postEntity.isDeleted.isFalse()))
-			.groupBy(postEntity)
-			.orderBy(postEntity.createDate.desc())
-			.limit(limit)
+			.where(postEntity.id.in(postIds).and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.createDate.desc(), postEntity.id.desc())
 			.fetch();
 
 		fillFeedData(feedList, member);
@@ -102,61 +115,117 @@ public class FeedSelectorCache {
 	}
 
 	/**
-	 * 추천 게시물을 취합하여 반환한다
-	 * 팔로잉 게시물과 member 자신의 게시물은 제외한다
+	 * 타임라인을 새로 구성하기 위해 팔로잉 및 자신의 최신 게시물 ID 와 생성 시각만 조회한다
+	 * pull 대상 작성자의 게시물은 조회 시점에 병합되므로 제외한다
+	 * @param member 타임라인 소유자의 멤버 Entity 객체
+	 * @param limit 최대 조회 개수
+	 * @return 타임라인 항목 리스트
+	 */
+	public List<FeedTimelineStore.Entry> findTimelineSeed(final MemberEntity member, final int limit) {
+
+		return queryFactory.select(postEntity.id, postEntity.createDate)
+			.from(postEntity)
+			.where(isPushedFollowingOrOwnPost(member).and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.createDate.desc(), postEntity.id.desc())
+			.limit(limit)
+			.fetch()
+			.stream()
+			.map(tuple -> new FeedTimelineStore.Entry(
+				tuple.get(postEntity.id),
+				tuple.get(postEntity.createDate)))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 팔로잉 중인 pull 대상 작성자들의 커서 이전 게시물 ID 와 생성 시각을 최신순으로 조회한다
 	 * @param member 요청한 유저의 멤버 Entity 객체
-	 * @param startTime 가장 최근 받은 추천 게시물의 timestamp
-	 * @param lastTime 추천 게시물을 요청할 범위
-	 * @param limit 추천 게시물 요청 페이징 개수
-	 * @return 피드 리스트
+	 * @param cursorDate 마지막으로 받은 게시물의 생성 시각 (첫 요청이면 null)
+	 * @param cursorId 마지막으로 받은 게시물의 ID
+	 * @param limit 최대 조회 개수
+	 * @return 타임라인 항목 리스트
 	 */
-	public List<Feed> findRecommendFinder(
-		final MemberEntity member, final LocalDateTime startTime, final LocalDateTime lastTime, final int limit) {
+	public List<FeedTimelineStore.Entry> findPulledEntries(final MemberEntity member,
+		final LocalDateTime cursorDate, final Long cursorId, final int limit) {
+
+		List<Long> pulledAuthorIds = findFollowingIds(member, memberEntity.feedPulled.isTrue());
+		if (pulledAuthorIds.isEmpty()) {
+			return new ArrayList<>();
+		}
 
-		// 이거로 구할 수 있는 것 => 좋아요 개수가 많은 순, 댓글 수가 많은 순으로 구할 수 있다.
-		List<Feed> feedList = queryFactory.select(Projections.constructor(Feed.class,
-				postEntity,
-				commentCountByPost()))
+		return queryFactory.select(postEntity.id, postEntity.createDate)
 			.from(postEntity)
-			.join(postEntity.member)
-			.fetchJoin()
 			.where(
-				findByDateBetweenExclusiveStart(startTime, lastTime)
-					.and(isRecommendableToMember(member))
+				postEntity.member.id.in(pulledAuthorIds)
+					.and(findPostsBeforeCursor(cursorDate, cursorId))
 					.and(postEntity.isDeleted.isFalse()))
-			.orderBy(calculatePostPopularityScore())
-			.limit(limit * RECOMMEND_RANDOM_POOL_MULTIPLIER)
-			.fetch();
+			.orderBy(postEntity.createDate.desc(), postEntity.id.desc())
+			.limit(limit)
+			.fetch()
+			.stream()
+			.map(tuple -> new FeedTimelineStore.Entry(
+				tuple.get(postEntity.id),
+				tuple.get(postEntity.createDate)))
+			.collect(Collectors.toList());
+	}
 
-		// 랜덤하게 뽑는다
-		Collections.shuffle(feedList);
-		feedList = feedList.subList(0, Math.min(limit, feedList.size()));
+	/**
+	 * 커서로 사용되는 게시물의 생성 시각을 조회한다
+	 * @param postId 게시물 ID
+	 * @return 생성 시각, 게시물이 없으면 null
+	 */
+	public LocalDateTime findCreateDate(final Long postId) {
+		return queryFactory.select(postEntity.createDate)
+			.from(postEntity)
+			.where(postEntity.id.eq(postId))
+			.fetchOne();
+	}
 
-		fillFeedData(feedList, member);
-		return feedList;
+	/**
+	 * 추천 후보 게시물의 ID 와 인기 점수를 (점수, ID) 내림차순으로 조회한다
+	 * 이전 페이지의 마지막 후보를 커서로 받아, 이미 본 게시물로 상위 후보가 모두 걸러진 경우 다음 후보를 이어서 조회한다
+	 * @param member 요청한 유저의 멤버 Entity 객체
+	 * @param startTime 가장 최근 받은 추천 게시물의 timestamp
+	 * @param lastTime 추천 게시물을 요청할 범위
+	 * @param cursor 이전 페이지의 마지막 후보 (첫 페이지면 null)
+	 * @param poolSize 최대 후보 개수
+	 * @return 추천 후보 리스트
+	 */
+	public List<RecommendCandidate> findRecommendCandidates(final MemberEntity member, final LocalDateTime startTime,
+		final LocalDateTime lastTime, final RecommendCandidate cursor, final long poolSize) {
+
+		// post_score 에서 (create_date, score) 인덱스로 추천 범위를 좁히고 점수 순으로 정렬한다
+		// 점수 행은 게시물 생성 시 만들어지고, 누락된 행은 FeedScheduler 의 재계산이 채운다
+		return queryFactory.select(postScoreEntity.postId, postScoreEntity.score)
+			.from(postScoreEntity)
+			.join(postEntity)
+			.on(postEntity.id.eq(postScoreEntity.postId))
+			.where(
+				findScoresByDateBetweenExclusiveStart(startTime, lastTime)
+					.and(findCandidatesAfterCursor(cursor))
+					.and(isRecommendableToMember(member))
+					.and(postEntity.isDeleted.isFalse()))
+			.orderBy(postScoreEntity.score.desc(), postScoreEntity.postId.desc())
+			.limit(poolSize)
+			.fetch()
+			.stream()
+			.map(tuple -> new RecommendCandidate(tuple.get(postScoreEntity.postId), tuple.get(postScoreEntity.score)))
+			.collect(Collectors.toList());
 	}
 
 	/**
-	 * 해당 멤버가 작성한 게시물에 대한 피드를 반환
+	 * 해당 멤버가 작성한 게시물 ID 만 최신순으로 조회한다
 	 * @param member 멤버 엔티티 객체
 	 * @param lastPostId 마지막으로 받은 게시물의 ID
 	 * @param limit 페이징 최대 크기
-	 * @return 피드 리스트
+	 * @return 게시물 ID 리스트
 	 */
-	public List<Feed> findByMember(final MemberEntity member, final Long lastPostId, final Integer limit) {
-		List<Feed> feedList = queryFactory.select(Projections.constructor(Feed.class,
-				postEntity,
-				commentCountByPost()))
+	public List<Long> findMemberPostIds(final MemberEntity member, final Long lastPostId, final Integer limit) {
+		return queryFactory.select(postEntity.id)
 			.from(postEntity)
-			.join(postEntity.member)
-			.fetchJoin()
 			.where(findMemberPostAndPaging(member, lastPostId).and(postEntity.isDeleted.isFalse()))
 			.orderBy(postEntity.createDate.desc())
 			.limit(limit)
 			.fetch();
-
-		fillFeedData(feedList, member);
-		return feedList;
 	}
 
 	private static BooleanExpression findMemberPostAndPaging(MemberEntity member, Long lastPostId) {
@@ -167,86 +236,7 @@ public class FeedSelectorCache {
 	}
 
 	private void fillFeedData(List<Feed> feeds, MemberEntity member) {
-
-		List<Long> postIds = feeds.stream().map(feed -> feed.getPost().getId()).collect(Collectors.toList());
-
-		Map<Long, List<String>> hashtagsByPostId = queryFactory.select(postHashtagEntity.post.id, hashtagEntity.content)
-			.from(postHashtagEntity)
-			.join(hashtagEntity)
-			.on(postHashtagEntity.hashtag.eq(hashtagEntity))
-			.where(postHashtagEntity.post.id.in(postIds))
-			.fetch()  // Tuple 리스트로 조회
-			.stream()
-			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),        // postId로 그룹핑
-				Collectors.mapping(tuple -> tuple.get(1, String.class),            // content를 리스트로 수집
-					Collectors.toList())));
-
-		Map<Long, List<String>> imageUrlsByPostId = queryFactory.select(imageEntity.post.id, imageEntity.imageUrl)
-			.from(imageEntity)
-			.where(imageEntity.post.id.in(postIds))
-			.fetch()  // Tuple 리스트로 조회
-			.stream()
-			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),    // postId로 그룹핑
-				Collectors.mapping(tuple -> tuple.get(1, String.class),            // imageUrl을 리스트로 수집
-					Collectors.toList())));
-
-		Map<Long, Long> bookmarkByPostId = queryFactory.select(bookmarkEntity.id, bookmarkEntity.post.id)
-			.from(bookmarkEntity)
-			.where(
-				bookmarkEntity.post.id.in(postIds)
-					.and(bookmarkEntity.member.id.eq(member.getId())))
-			.fetch()
-			.stream()
-			.collect(Collectors.toMap(
-				tuple -> tuple.get(bookmarkEntity.post.id),
-				tuple -> tuple.get(bookmarkEntity.id)
-			));
-
-		// 좋아요 정보 조회 추가
-		Map<Long, Boolean> likeByPostId = queryFactory.select(likeEntity.resourceId)
-			.from(likeEntity)
-			.where(
-				likeEntity.resourceId.in(postIds)
-					.and(likeEntity.member.id.eq(member.getId()))
-					.and(likeEntity.resourceType.eq("POST"))  // 게시물 타입만 필터링
-					.and(likeEntity.isLiked.isTrue()))        // 좋아요가 활성화된 상태만
-			.fetch()
-			.stream()
-			.collect(Collectors.toMap(
-				resourceId -> resourceId,
-				resourceId -> true,
-				(existing, replacement) -> existing  // In case of duplicate keys, keep existing
-			));
-
-		feeds.forEach(feed -> {
-			Long postId = feed.getPost().getId();
-			feed.fillData(
-				hashtagsByPostId.getOrDefault(postId, new ArrayList<>()),
-				imageUrlsByPostId.getOrDefault(postId, new ArrayList<>()),
-				bookmarkByPostId.getOrDefault(postId, -1L),
-				likeByPostId.getOrDefault(postId, false)
-
-			);
-		});
-
-	}
-
-	// 좋아요 개수 / 팔로워 수 / 댓글 수에 각각 점수를 매겨서 정렬
-	private OrderSpecifier<Double> calculatePostPopularityScore() {
-		return Expressions.numberTemplate(Double.class,
-				"({1} * 2) + "
-					+ "(select count(*) from CommentEntity c where c.post.id = {0}) + "
-					+ "(select case when count(*) > 0 then 3 else 0 end "
-					+ "from PostHashtagEntity ph where ph.post.id = {0} and ph.hashtag.id in ({2}))",
-				postEntity.id,
-				postEntity.member.followerCount,
-				scheduler.getPopularHashtagList())
-			.desc();
-	}
-
-	private static BooleanExpression findByDateBetweenExclusiveStart(LocalDateTime startTime, LocalDateTime lastTime) {
-		return postEntity.createDate.before(startTime)
-			.and(postEntity.createDate.goe(lastTime));
+		feedHydrator.hydrate(feeds, member);
 	}
 
 	private BooleanExpression isNotFollowingPostAuthor(MemberEntity member) {
@@ -265,14 +255,34 @@ public class FeedSelectorCache {
 	}
 
 	private BooleanExpression isFollowingOrOwnPost(MemberEntity member) {
-		List<String> followingList = member.getFollowingList();
+		List<Long> authorIds = new ArrayList<>(findFollowingIds(member, null));
+		authorIds.add(member.getId());
+		return postEntity.member.id.in(authorIds);
+	}
+
+	private BooleanExpression isPushedFollowingOrOwnPost(MemberEntity member) {
+		List<Long> authorIds = new ArrayList<>(findFollowingIds(member, memberEntity.feedPulled.isFalse()));
+		authorIds.add(member.getId());
+		return postEntity.member.id.in(authorIds);
+	}
 
+	/**
+	 * 팔로잉 목록(username)을 회원 ID 로 바꾼다
+	 * 게시물을 작성자 username 으로 거르면 member 와 조인해야 해서 (member_id, create_date, id) 인덱스를 사용하지 못한다
+	 * @param member 팔로워 Entity 객체
+	 * @param condition 팔로잉 회원에 추가로 적용할 조건 (없으면 null)
+	 * @return 팔로잉 회원 ID 리스트
+	 */
+	private List<Long> findFollowingIds(MemberEntity member, BooleanExpression condition) {
+		List<String> followingList = member.getFollowingList();
 		if (followingList.isEmpty()) {
-			return postEntity.member.eq(member);
+			return new ArrayList<>();
 		}
 
-		return postEntity.member.username.in(followingList)
-			.or(postEntity.member.eq(member));
+		return queryFactory.select(memberEntity.id)
+			.from(memberEntity)
+			.where(memberEntity.username.in(followingList), condition)
+			.fetch();
 	}
 
 	private BooleanExpression isRecommendableToMember(MemberEntity member) {
@@ -280,16 +290,25 @@ public class FeedSelectorCache {
 			.and(isNotAuthorOfPost(member));
 	}
 
-	private static JPQLQuery<Long> commentCountByPost() {
-		return JPAExpressions.select(commentEntity.count())
-			.from(commentEntity)
-			.where(commentEntity.post.eq(postEntity));
+	private static BooleanExpression findScoresByDateBetweenExclusiveStart(
+		LocalDateTime startTime, LocalDateTime lastTime) {
+		return postScoreEntity.createDate.before(startTime)
+			.and(postScoreEntity.createDate.goe(lastTime));
 	}
 
-	private BooleanExpression findPostsBeforeId(Long lastPostId) {
-		if (lastPostId == 0L) {
-			return postEntity.createDate.before(LocalDateTime.now());
+	private static BooleanExpression findCandidatesAfterCursor(RecommendCandidate cursor) {
+		if (cursor == null) {
+			return Expressions.TRUE;
+		}
+		return postScoreEntity.score.lt(cursor.score())
+			.or(postScoreEntity.score.eq(cursor.score()).and(postScoreEntity.postId.lt(cursor.postId())));
+	}
+
+	private static BooleanExpression findPostsBeforeCursor(LocalDateTime cursorDate, Long cursorId) {
+		if (cursorDate == null) {
+			return Expressions.TRUE;
 		}
-		return postEntity.id.lt(lastPostId);
+		return postEntity.createDate.before(cursorDate)
+			.or(postEntity.createDate.eq(cursorDate).and(postEntity.id.lt(cursorId)));
 	}
 }
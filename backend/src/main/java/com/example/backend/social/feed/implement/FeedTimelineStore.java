@@ -0,0 +1,329 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FeedTimelineStore
+ * 팔로워별 홈 타임라인을 Redis Sorted Set 으로 관리하는 컴포넌트
+ * member 는 게시물 ID, score 는 게시물 생성 시각(epoch millis)이며 최대 TIMELINE_MAX_SIZE 개까지 유지한다.
+ * 구성이 끝난 타임라인에는 score 가 +inf 인 WARM_MARKER 가 있어 게시물이 없는 타임라인도 구성된 것으로 구분한다.
+ * 타임라인이 없거나 구성 중인(cold) 회원은 기존의 pull 방식 조회로 대체된다.
+ * @author ChoiHyunSan
+ * @since 2025-03-07
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineStore {
+
+	private static final String TIMELINE_KEY_FORMAT = "timeline:%d";
+
+	// 구성이 끝난 타임라인과 구성 중인 타임라인을 나타내는 member, 게시물 ID 와 겹치지 않는다
+	private static final String WARM_MARKER = "warm";
+	private static final String WARMING_MARKER = "warming";
+
+	// 구성을 시작한 뒤 끝내지 못한 타임라인이 남아 있는 시간
+	private static final Duration WARMING_TTL = Duration.ofMinutes(1);
+
+	// 동일한 생성 시각을 가진 게시물이 커서에 걸리는 경우를 대비해 추가로 읽는 개수
+	private static final int TIE_BREAK_SLACK = 16;
+
+	// 이미 존재하는(warm 또는 구성 중) 타임라인에만 게시물을 추가하고, 최대 크기를 넘는 오래된 게시물은 잘라낸다
+	// 표시 member 는 score 가 가장 커서 잘리지 않으므로 ARGV[3] 은 표시를 포함한 크기다
+	private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>("""
+		local pushed = 0
+		for _, key in ipairs(KEYS) do
+			if redis.call('EXISTS', key) == 1 then
+				redis.call('ZADD', key, ARGV[1], ARGV[2])
+				redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[3]) + 1))
+				redis.call('EXPIRE', key, ARGV[4])
+				pushed = pushed + 1
+			end
+		end
+		return pushed
+		""", Long.class);
+
+	// 구성된 타임라인이면 TTL 을 늘리고 커서 이하의 게시물과 전체 크기를 함께 반환한다, cold 이면 빈 리스트
+	private static final RedisScript<List<Object>> READ_SCRIPT = listScript("""
+		if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('ZSCORE', KEYS[1], ARGV[4]) then
+			return {}
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[3])
+		local result = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], '-inf', 'WITHSCORES', 'LIMIT', 0, ARGV[2])
+		table.insert(result, redis.call('ZCARD', KEYS[1]))
+		return result
+		""");
+
+	// 존재하는 타임라인에서만 게시물을 제거한다, 없는 타임라인은 다시 만들지 않는다
+	private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+		local removed = 0
+		for _, key in ipairs(KEYS) do
+			removed = removed + redis.call('ZREM', key, ARGV[1])
+		end
+		return removed
+		""", Long.class);
+
+	// 타임라인이 없으면 구성 중 표시만 둔 타임라인을 만든다, 구성하는 동안 전파된 게시물은 여기에 쌓인다
+	private static final RedisScript<Long> PREPARE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 1 then
+			return 0
+		end
+		redis.call('ZADD', KEYS[1], '+inf', ARGV[1])
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	// 구성 중에 제거되지 않은 타임라인에만 조회한 게시물을 합치고 구성 완료로 표시한다
+	// ARGV[5] 부터 score, 게시물 ID 순서로 전달된다
+	private static final RedisScript<Long> WARM_UP_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		redis.call('ZREM', KEYS[1], ARGV[3])
+		for i = 5, #ARGV, 2 do
+			redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+		end
+		redis.call('ZADD', KEYS[1], '+inf', ARGV[4])
+		redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1))
+		redis.call('EXPIRE', KEYS[1], ARGV[1])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 게시물을 회원들의 타임라인에 전파한다
+	 * @param memberIds 게시물을 받을 회원 ID 리스트
+	 * @param postId 게시물 ID
+	 * @param createDate 게시물 생성 시각
+	 * @return 실제로 게시물이 추가된 타임라인 개수
+	 */
+	public int push(List<Long> memberIds, Long postId, LocalDateTime createDate) {
+		String score = String.valueOf(toScore(createDate));
+		String capacity = String.valueOf(TIMELINE_MAX_SIZE + 1);
+		String ttlSeconds = String.valueOf(Duration.ofDays(TIMELINE_TTL_DAYS).toSeconds());
+
+		int pushed = 0;
+		for (int from = 0; from < memberIds.size(); from += TIMELINE_FAN_OUT_CHUNK_SIZE) {
+			List<String> keys = memberIds.subList(from, Math.min(from + TIMELINE_FAN_OUT_CHUNK_SIZE, memberIds.size()))
+				.stream()
+				.map(FeedTimelineStore::timelineKey)
+				.toList();
+			try {
+				Long result = redisTemplate.execute(PUSH_SCRIPT, keys, score, String.valueOf(postId), capacity, ttlSeconds);
+				pushed += result == null ? 0 : result.intValue();
+			} catch (DataAccessException e) {
+				// 전파에 실패한 타임라인은 다음 조회 시 pull 방식으로 보정되지 않으므로 제거한다
+				log.warn("Failed to push post {} to {} timelines", postId, keys.size(), e);
+				evictAll(keys);
+			}
+		}
+		return pushed;
+	}
+
+	/**
+	 * 삭제된 게시물을 회원들의 타임라인에서 제거한다
+	 * @param memberIds 게시물이 전파되었을 수 있는 회원 ID 리스트
+	 * @param postId 게시물 ID
+	 * @return 실제로 게시물이 제거된 타임라인 개수
+	 */
+	public int remove(List<Long> memberIds, Long postId) {
+		int removed = 0;
+		for (int from = 0; from < memberIds.size(); from += TIMELINE_FAN_OUT_CHUNK_SIZE) {
+			List<String> keys = memberIds.subList(from, Math.min(from + TIMELINE_FAN_OUT_CHUNK_SIZE, memberIds.size()))
+				.stream()
+				.map(FeedTimelineStore::timelineKey)
+				.toList();
+			try {
+				Long result = redisTemplate.execute(REMOVE_SCRIPT, keys, String.valueOf(postId));
+				removed += result == null ? 0 : result.intValue();
+			} catch (DataAccessException e) {
+				// 삭제된 게시물이 남은 타임라인은 다시 구성되도록 제거한다
+				log.warn("Failed to remove post {} from {} timelines", postId, keys.size(), e);
+				evictAll(keys);
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * 타임라인에서 커서 이후의 게시물을 최신순으로 조회하고, 조회된 타임라인의 TTL 을 늘린다
+	 * @param memberId 타임라인 소유자 ID
+	 * @param cursorDate 마지막으로 받은 게시물의 생성 시각 (첫 요청이면 null)
+	 * @param cursorId 마지막으로 받은 게시물의 ID
+	 * @param limit 최대 조회 개수
+	 * @return 게시물 리스트, 타임라인으로 응답할 수 없는 경우(cold, 잘린 구간) Optional.empty()
+	 */
+	public Optional<List<Entry>> findEntries(Long memberId, LocalDateTime cursorDate, Long cursorId, int limit) {
+		String key = timelineKey(memberId);
+		double max = cursorDate == null ? Double.POSITIVE_INFINITY : toScore(cursorDate);
+
+		try {
+			List<Object> result = redisTemplate.execute(READ_SCRIPT, List.of(key),
+				cursorDate == null ? "+inf" : String.valueOf(max), String.valueOf(limit + TIE_BREAK_SLACK),
+				String.valueOf(Duration.ofDays(TIMELINE_TTL_DAYS).toSeconds()), WARMING_MARKER);
+			if (result == null || result.isEmpty()) {
+				return Optional.empty();
+			}
+
+			List<Entry> entries = new ArrayList<>();
+			for (int i = 0; i + 1 < result.size() && entries.size() < limit; i += 2) {
+				String member = String.valueOf(result.get(i));
+				if (member.equals(WARM_MARKER)) {
+					continue;
+				}
+				Long postId = Long.valueOf(member);
+				double score = Double.parseDouble(String.valueOf(result.get(i + 1)));
+				if (cursorDate != null && score == max && postId >= cursorId) {
+					continue;
+				}
+				entries.add(new Entry(postId, fromScore(score)));
+			}
+
+			// 조회 결과가 모자란 경우, 타임라인이 잘리지 않았을 때만 더 이상 게시물이 없다고 판단할 수 있다
+			long postCount = ((Number) result.get(result.size() - 1)).longValue() - 1;
+			if (entries.size() < limit && postCount >= TIMELINE_MAX_SIZE) {
+				return Optional.empty();
+			}
+			return Optional.of(entries);
+		} catch (DataAccessException e) {
+			log.warn("Failed to read timeline of member {}", memberId, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 타임라인 구성을 시작한다, pull 방식으로 게시물을 조회하기 전에 호출해야 그동안 전파된 게시물을 놓치지 않는다
+	 * @param memberId 타임라인 소유자 ID
+	 */
+	public void prepareWarmUp(Long memberId) {
+		try {
+			redisTemplate.execute(PREPARE_SCRIPT, List.of(timelineKey(memberId)),
+				WARMING_MARKER, String.valueOf(WARMING_TTL.toSeconds()));
+		} catch (DataAccessException e) {
+			log.warn("Failed to prepare timeline of member {}", memberId, e);
+		}
+	}
+
+	/**
+	 * pull 방식으로 조회한 게시물로 타임라인 구성을 끝낸다
+	 * 구성하는 동안 팔로우 관계가 바뀌어 타임라인이 제거되었으면 구성하지 않는다
+	 * @param memberId 타임라인 소유자 ID
+	 * @param entries 최신순 게시물 목록, 비어 있으면 게시물이 없는 타임라인으로 구성된다
+	 */
+	public void warmUp(Long memberId, List<Entry> entries) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(Duration.ofDays(TIMELINE_TTL_DAYS).toSeconds()));
+		args.add(String.valueOf(TIMELINE_MAX_SIZE + 1));
+		args.add(WARMING_MARKER);
+		args.add(WARM_MARKER);
+		entries.stream()
+			.limit(TIMELINE_MAX_SIZE)
+			.forEach(entry -> {
+				args.add(String.valueOf(toScore(entry.createDate())));
+				args.add(String.valueOf(entry.postId()));
+			});
+
+		try {
+			redisTemplate.execute(WARM_UP_SCRIPT, List.of(timelineKey(memberId)), args.toArray());
+		} catch (DataAccessException e) {
+			log.warn("Failed to warm up timeline of member {}", memberId, e);
+		}
+	}
+
+	/**
+	 * 팔로우 관계가 바뀐 경우처럼 타임라인 구성이 달라져야 할 때 타임라인을 제거한다
+	 * @param memberId 타임라인 소유자 ID
+	 */
+	public void evict(Long memberId) {
+		evictAll(List.of(timelineKey(memberId)));
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋된 후에 타임라인을 제거한다
+	 * 커밋 전에 제거하면 그 사이 이전 팔로우 관계로 타임라인이 다시 구성될 수 있다
+	 * @param memberId 타임라인 소유자 ID
+	 */
+	public void evictAfterCommit(Long memberId) {
+		evictAllAfterCommit(List.of(memberId));
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋된 후에 여러 회원의 타임라인을 TIMELINE_FAN_OUT_CHUNK_SIZE 개씩 나누어 제거한다
+	 * @param memberIds 타임라인 소유자 ID 리스트
+	 */
+	public void evictAllAfterCommit(List<Long> memberIds) {
+		if (memberIds.isEmpty()) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evictMembers(memberIds);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictMembers(memberIds);
+			}
+		});
+	}
+
+	private void evictMembers(List<Long> memberIds) {
+		for (int from = 0; from < memberIds.size(); from += TIMELINE_FAN_OUT_CHUNK_SIZE) {
+			evictAll(memberIds.subList(from, Math.min(from + TIMELINE_FAN_OUT_CHUNK_SIZE, memberIds.size()))
+				.stream()
+				.map(FeedTimelineStore::timelineKey)
+				.toList());
+		}
+	}
+
+	private void evictAll(List<String> keys) {
+		try {
+			redisTemplate.delete(keys);
+		} catch (DataAccessException e) {
+			log.warn("Failed to evict {} timelines", keys.size(), e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedisScript<List<Object>> listScript(String script) {
+		return new DefaultRedisScript<>(script, (Class<List<Object>>) (Class<?>) List.class);
+	}
+
+	private static String timelineKey(Long memberId) {
+		return String.format(TIMELINE_KEY_FORMAT, memberId);
+	}
+
+	private static double toScore(LocalDateTime createDate) {
+		return createDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static LocalDateTime fromScore(double score) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli((long) score), ZoneId.systemDefault());
+	}
+
+	/**
+	 * 타임라인에 저장되는 게시물 정보
+	 */
+	public record Entry(Long postId, LocalDateTime createDate) {
+	}
+}
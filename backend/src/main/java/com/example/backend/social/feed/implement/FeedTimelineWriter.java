@@ -0,0 +1,93 @@
+package com.example.backend.social.feed.implement;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.entity.MemberRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FeedTimelineWriter
+ * 새 게시물을 작성자 본인과 팔로워들의 타임라인에 전파(fan-out on write)하는 컴포넌트
+ * 팔로워 수가 많은 작성자(pull 대상)의 게시물은 본인 타임라인에만 추가되고, 팔로워들은 조회 시점에 병합한다.
+ * @author ChoiHyunSan
+ * @since 2025-03-07
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineWriter {
+
+	private final MemberRepository memberRepository;
+	private final FeedTimelineStore timelineStore;
+	private final FeedFanOutPolicy fanOutPolicy;
+	private final FeedMetrics feedMetrics;
+
+	/**
+	 * 게시물을 작성자와 팔로워들의 타임라인에 추가한다
+	 * @param postId 게시물 ID
+	 * @param authorId 작성자 ID
+	 * @param createDate 게시물 생성 시각
+	 * @return 게시물이 추가된 타임라인 개수
+	 */
+	@Transactional(readOnly = true)
+	public int fanOut(Long postId, Long authorId, LocalDateTime createDate) {
+		MemberEntity author = memberRepository.findById(authorId).orElse(null);
+		if (author == null) {
+			return 0;
+		}
+
+		List<Long> receiverIds = new ArrayList<>();
+		receiverIds.add(authorId);
+
+		if (fanOutPolicy.isPulled(author)) {
+			feedMetrics.recordFanOutSkipped();
+		} else if (!author.getFollowerList().isEmpty()) {
+			receiverIds.addAll(memberRepository.findIdsByUsernameIn(author.getFollowerList()));
+		}
+
+		int pushed = timelineStore.push(receiverIds, postId, createDate);
+		feedMetrics.recordFanOut(pushed);
+		return pushed;
+	}
+
+	/**
+	 * 삭제된 게시물을 작성자와 팔로워들의 타임라인에서 제거한다
+	 * 작성자가 pull 대상이어도 임계값을 넘기 전에 전파된 게시물이 남아 있을 수 있으므로 모든 팔로워를 대상으로 한다
+	 * @param postId 게시물 ID
+	 * @param authorId 작성자 ID
+	 * @return 게시물이 제거된 타임라인 개수
+	 */
+	@Transactional(readOnly = true)
+	public int removeFromTimelines(Long postId, Long authorId) {
+		MemberEntity author = memberRepository.findById(authorId).orElse(null);
+		if (author == null) {
+			return 0;
+		}
+
+		List<Long> receiverIds = new ArrayList<>();
+		receiverIds.add(authorId);
+		if (!author.getFollowerList().isEmpty()) {
+			receiverIds.addAll(memberRepository.findIdsByUsernameIn(author.getFollowerList()));
+		}
+		return timelineStore.remove(receiverIds, postId);
+	}
+
+	/**
+	 * pull 대상이던 작성자의 팔로워 수가 임계값 아래로 내려갔을 때 팔로워들의 타임라인을 커밋 후 제거한다
+	 * pull 대상이던 동안의 게시물은 전파되지 않았고 더 이상 조회 시점에 병합되지도 않으므로,
+	 * 타임라인을 다시 구성해 그 게시물들이 포함되도록 한다
+	 * @param author 팔로워 수가 줄어든 작성자
+	 */
+	public void evictFollowerTimelines(MemberEntity author) {
+		if (author.getFollowerList().isEmpty()) {
+			return;
+		}
+		timelineStore.evictAllAfterCommit(memberRepository.findIdsByUsernameIn(author.getFollowerList()));
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.backend.social.feed.implement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.social.feed.dto.PostScoreDelta;
+
+/**
+ * PostScoreCollector
+ * 댓글, 좋아요 이벤트로 발생한 게시물 점수 변화량을 게시물별로 모아두는 컴포넌트
+ * 모인 변화량은 FeedScheduler 가 주기적으로 post_score 에 반영한다.
+ * 트랜잭션 안에서 들어온 변화량은 커밋된 후에 모으므로 롤백된 댓글, 좋아요는 점수에 반영되지 않는다.
+ * 반영 전에 서버가 종료되어 사라진 변화량은 FeedScheduler 의 주기적인 재계산으로 바로잡힌다.
+ * @author ChoiHyunSan
+ * @since 2025-03-09
+ */
+@Component
+public class PostScoreCollector {
+
+	private final Map<Long, PostScoreDelta> deltaStorage = new ConcurrentHashMap<>();
+
+	public void addCommentDelta(Long postId, long delta) {
+		collectAfterCommit(new PostScoreDelta(postId, delta, 0L));
+	}
+
+	public void addLikeDelta(Long postId, long delta) {
+		collectAfterCommit(new PostScoreDelta(postId, 0L, delta));
+	}
+
+	/**
+	 * 모아둔 변화량을 꺼내고 비운다
+	 * 게시물 단위로 원자적으로 제거하므로 꺼내는 도중 들어온 변화량은 다음 반영 때 처리된다
+	 * @return 반영할 변화량 리스트
+	 */
+	public List<PostScoreDelta> flushDeltaStorage() {
+		List<PostScoreDelta> deltas = new ArrayList<>();
+		for (Long postId : deltaStorage.keySet()) {
+			PostScoreDelta delta = deltaStorage.remove(postId);
+			if (delta != null && !delta.isEmpty()) {
+				deltas.add(delta);
+			}
+		}
+		return deltas;
+	}
+
+	// 트랜잭션 안이면 커밋된 후에, 밖이면 바로 모은다
+	private void collectAfterCommit(PostScoreDelta delta) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			deltaStorage.merge(delta.postId(), delta, PostScoreDelta::merge);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				deltaStorage.merge(delta.postId(), delta, PostScoreDelta::merge);
+			}
+		});
+	}
+}
@@ -0,0 +1,45 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.HashtagEntity;
+import com.example.backend.entity.PostEntity;
+import com.example.backend.entity.PostScoreRepository;
+import com.example.backend.social.feed.schedular.FeedScheduler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PostScoreWriter
+ * 새 게시물의 인기 점수 행을 생성하는 컴포넌트
+ * @author ChoiHyunSan
+ * @since 2025-03-09
+ */
+@Component
+@RequiredArgsConstructor
+public class PostScoreWriter {
+
+	private final PostScoreRepository postScoreRepository;
+	private final FeedScheduler scheduler;
+
+	/**
+	 * 작성자 팔로워 수와 인기 해시태그 포함 여부로 초기 점수를 계산하여 저장한다
+	 * 게시물의 해시태그가 저장된 이후에 호출해야 한다
+	 * @param post 생성된 게시물
+	 */
+	public void initialize(PostEntity post) {
+		List<Long> popularHashtagIds = scheduler.getPopularHashtagList().stream()
+			.map(HashtagEntity::getId)
+			.toList();
+
+		postScoreRepository.initialize(
+			post.getId(),
+			post.getCreateDate(),
+			post.getMember().getFollowerCount() * POST_SCORE_FOLLOWER_WEIGHT,
+			popularHashtagIds);
+	}
+}
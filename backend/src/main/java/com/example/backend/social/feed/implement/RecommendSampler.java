@@ -0,0 +1,62 @@
+package com.example.backend.social.feed.implement;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.feed.dto.RecommendCandidate;
+
+/**
+ * RecommendSampler
+ * 추천 후보 중에서 인기 점수에 비례한 확률로 게시물을 뽑는 컴포넌트
+ * 가중치 w = (score + 1)^bias 에 대해 후보마다 ln(u) / w (u ~ U(0, 1]) 를 키로 두고
+ * 키가 큰 순서대로 limit 개를 고르는 Efraimidis-Spirakis 가중 비복원 추출을 사용한다.
+ * @author ChoiHyunSan
+ * @since 2025-03-15
+ */
+@Component
+public class RecommendSampler {
+
+	@Value("${custom.feed.recommend.popularity-bias}")
+	private double popularityBias;
+
+	/**
+	 * @param candidates 추천 후보 리스트
+	 * @param limit 뽑을 개수
+	 * @return 뽑힌 게시물 ID 리스트
+	 */
+	public List<Long> sample(List<RecommendCandidate> candidates, int limit) {
+		return sample(candidates, limit, popularityBias, ThreadLocalRandom.current());
+	}
+
+	static List<Long> sample(List<RecommendCandidate> candidates, int limit, double bias, Random random) {
+		if (limit <= 0) {
+			return new ArrayList<>();
+		}
+
+		// 키가 가장 작은 후보가 먼저 빠지도록 최소 힙으로 상위 limit 개를 유지
+		PriorityQueue<Keyed> selected = new PriorityQueue<>(Comparator.comparingDouble(Keyed::key));
+		for (RecommendCandidate candidate : candidates) {
+			double weight = Math.pow(Math.max(candidate.score(), 0L) + 1.0, bias);
+			double key = Math.log(1.0 - random.nextDouble()) / weight;
+
+			if (selected.size() < limit) {
+				selected.add(new Keyed(candidate.postId(), key));
+			} else if (key > selected.peek().key()) {
+				selected.poll();
+				selected.add(new Keyed(candidate.postId(), key));
+			}
+		}
+
+		return selected.stream().map(Keyed::postId).toList();
+	}
+
+	private record Keyed(Long postId, double key) {
+	}
+}
@@ -0,0 +1,213 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.feed.dto.RecommendCandidate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SeenPostFilter
+ * 회원이 이미 추천받은 게시물을 기억하여 추천 후보에서 제외하는 컴포넌트
+ * 회원별, 일자별 Bloom filter 를 Redis 비트맵으로 유지하며 SEEN_POST_RETENTION_DAYS 가 지난 filter 는 만료된다.
+ * Bloom filter 특성상 보지 않은 게시물이 드물게 제외될 수 있지만, 이미 본 게시물이 다시 추천되지는 않는다.
+ * Redis 를 사용할 수 없으면 서버 메모리의 filter 로 대체한다.
+ * @author ChoiHyunSan
+ * @since 2025-03-16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeenPostFilter {
+
+	// 같은 회원의 일자별 키가 같은 슬롯에 배치되도록 회원 ID 를 hash tag 로 사용
+	private static final String SEEN_KEY_FORMAT = "feed:seen:{%d}:%s";
+	private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+	// 게시물마다 k 개의 비트가 모두 켜진 일자별 filter 가 하나라도 있으면 이미 본 게시물로 판단한다
+	private static final RedisScript<List<Object>> CHECK_SCRIPT = listScript("""
+		local k = tonumber(ARGV[1])
+		local result = {}
+		for i = 2, #ARGV, k do
+			local seen = 0
+			for _, key in ipairs(KEYS) do
+				local all = 1
+				for j = 0, k - 1 do
+					if redis.call('GETBIT', key, ARGV[i + j]) == 0 then
+						all = 0
+						break
+					end
+				end
+				if all == 1 then
+					seen = 1
+					break
+				end
+			end
+			result[#result + 1] = seen
+		end
+		return result
+		""");
+
+	private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>("""
+		for i = 2, #ARGV do
+			redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[1])
+		return #ARGV - 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	// Redis 장애 시 사용하는 filter, 일자별로 나누지 않고 기록 후 보관 기간이 지나면 통째로 만료된다
+	private final Cache<Long, BitSet> localFilters = Caffeine.newBuilder()
+		.maximumSize(SEEN_POST_LOCAL_MAX_MEMBERS)
+		.expireAfterWrite(Duration.ofDays(SEEN_POST_RETENTION_DAYS))
+		.build();
+
+	/**
+	 * 추천 후보 중 회원이 아직 보지 않은 게시물만 순서를 유지하여 반환한다
+	 * @param memberId 회원 ID
+	 * @param candidates 추천 후보 리스트
+	 * @return 보지 않은 추천 후보 리스트
+	 */
+	public List<RecommendCandidate> filterUnseen(Long memberId, List<RecommendCandidate> candidates) {
+		if (candidates.isEmpty()) {
+			return candidates;
+		}
+
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(SEEN_POST_FILTER_HASHES));
+		for (RecommendCandidate candidate : candidates) {
+			for (int position : positions(candidate.postId())) {
+				args.add(String.valueOf(position));
+			}
+		}
+
+		try {
+			List<Object> seen = redisTemplate.execute(CHECK_SCRIPT, retainedKeys(memberId), args.toArray());
+			if (seen != null && seen.size() == candidates.size()) {
+				List<RecommendCandidate> unseen = new ArrayList<>();
+				for (int i = 0; i < candidates.size(); i++) {
+					if (((Number) seen.get(i)).longValue() == 0L) {
+						unseen.add(candidates.get(i));
+					}
+				}
+				return unseen;
+			}
+		} catch (DataAccessException e) {
+			log.warn("Failed to read seen posts of member {}", memberId, e);
+		}
+
+		BitSet local = localFilters.getIfPresent(memberId);
+		if (local == null) {
+			return candidates;
+		}
+		synchronized (local) {
+			return candidates.stream()
+				.filter(candidate -> !contains(local, positions(candidate.postId())))
+				.toList();
+		}
+	}
+
+	/**
+	 * 회원에게 추천된 게시물을 오늘자 filter 에 기록한다
+	 * @param memberId 회원 ID
+	 * @param postIds 추천된 게시물 ID 리스트
+	 */
+	public void markSeen(Long memberId, Collection<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return;
+		}
+
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(Duration.ofDays(SEEN_POST_RETENTION_DAYS).toSeconds()));
+		for (Long postId : postIds) {
+			for (int position : positions(postId)) {
+				args.add(String.valueOf(position));
+			}
+		}
+
+		try {
+			redisTemplate.execute(MARK_SCRIPT, List.of(seenKey(memberId, LocalDate.now())), args.toArray());
+			return;
+		} catch (DataAccessException e) {
+			log.warn("Failed to mark seen posts of member {}", memberId, e);
+		}
+
+		BitSet local = localFilters.get(memberId, id -> new BitSet(SEEN_POST_FILTER_BITS));
+		synchronized (local) {
+			for (Long postId : postIds) {
+				for (int position : positions(postId)) {
+					local.set(position);
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedisScript<List<Object>> listScript(String script) {
+		return new DefaultRedisScript<>(script, (Class<List<Object>>) (Class<?>) List.class);
+	}
+
+	private static List<String> retainedKeys(Long memberId) {
+		LocalDate today = LocalDate.now();
+		List<String> keys = new ArrayList<>();
+		for (int day = 0; day < SEEN_POST_RETENTION_DAYS; day++) {
+			keys.add(seenKey(memberId, today.minusDays(day)));
+		}
+		return keys;
+	}
+
+	private static String seenKey(Long memberId, LocalDate day) {
+		return String.format(SEEN_KEY_FORMAT, memberId, day.format(DAY_FORMAT));
+	}
+
+	private static boolean contains(BitSet filter, int[] positions) {
+		for (int position : positions) {
+			if (!filter.get(position)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 게시물 ID 를 섞은 64비트 값을 둘로 나누어 double hashing 으로 k 개의 비트 위치를 만든다
+	private static int[] positions(Long postId) {
+		long hash = mix(postId);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32) | 1;
+
+		int[] positions = new int[SEEN_POST_FILTER_HASHES];
+		for (int i = 0; i < SEEN_POST_FILTER_HASHES; i++) {
+			positions[i] = Math.floorMod(h1 + i * h2, SEEN_POST_FILTER_BITS);
+		}
+		return positions;
+	}
+
+	// MurmurHash3 의 64비트 finalizer
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb93fe1a85ec5L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
@@ -1,20 +1,32 @@
 package com.example.backend.social.feed.schedular;
 
-import static com.example.backend.entity.QPostHashtagEntity.*;
 import static com.example.backend.social.feed.constant.FeedConstants.*;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.content.hashtag.service.TrendingHashtagTracker;
 import com.example.backend.entity.HashtagEntity;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.example.backend.entity.HashtagRepository;
+import com.example.backend.entity.PostHashtagRepository;
+import com.example.backend.entity.PostScoreRepository;
+import com.example.backend.social.feed.dto.PostScoreDelta;
+import com.example.backend.social.feed.implement.PostScoreCollector;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /***
  * FeedScheduler
@@ -22,26 +34,91 @@ import lombok.RequiredArgsConstructor;
  * @author ChoiHyunSan
  * @since 2025-02-03
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class FeedScheduler {
 
-	private final JPAQueryFactory queryFactory;
+	private final TrendingHashtagTracker trendingHashtagTracker;
+	private final HashtagRepository hashtagRepository;
+	private final PostHashtagRepository postHashtagRepository;
+	private final PostScoreCollector postScoreCollector;
+	private final PostScoreRepository postScoreRepository;
 
 	@Getter
-	private List<HashtagEntity> popularHashtagList = Collections.emptyList();
+	private volatile List<HashtagEntity> popularHashtagList = Collections.emptyList();
 
+	/**
+	 * 추천 범위 안의 해시태그 사용량으로 인기 해시태그 추적기를 다시 구성하고 게시물 점수를 보정
+	 * 배포 직후에도 인기 해시태그가 비어 있지 않도록 시작 시점에 실행하며,
+	 * 삭제된 게시물 등 추적기에 반영되지 않는 변화를 바로잡기 위해 매일 자정에 다시 실행한다
+	 */
+	@EventListener(ApplicationReadyEvent.class)
 	@Scheduled(cron = "0 0 0 * * *")
-	@Transactional(readOnly = true)
+	@Transactional
 	public void updatePopularHashtag() {
-		// 인기 해시태그를 찾기
-		List<HashtagEntity> newPopularHashtagList = queryFactory.select(postHashtagEntity.hashtag)
-			.from(postHashtagEntity)
-			.groupBy(postHashtagEntity.hashtag.id)
-			.orderBy(postHashtagEntity.count().desc())
-			.limit(POPULAR_HASHTAG_COUNT)
-			.fetch();
-
-		popularHashtagList = Collections.unmodifiableList(newPopularHashtagList);
+		LocalDateTime since = LocalDateTime.now().minusDays(RECOMMEND_SEARCH_DATE_RANGE);
+		trendingHashtagTracker.reset(postHashtagRepository.findUsageCountsSince(since));
+		refreshPopularHashtag();
+
+		// 인기 해시태그와 팔로워 수가 바뀌었으므로 추천 범위 안의 게시물 점수를 보정
+		recountPostScore();
+	}
+
+	/**
+	 * 매시 15분에 추천 범위 안의 게시물 점수를 원본 테이블로 다시 계산
+	 * 메모리에 모아둔 변화량은 반영 전에 서버가 종료되면 사라지므로 이 작업으로 바로잡는다
+	 */
+	@Scheduled(cron = "0 15 * * * *")
+	@Transactional
+	public void recountPostScore() {
+		LocalDateTime since = LocalDateTime.now().minusDays(RECOMMEND_SEARCH_DATE_RANGE);
+		int refreshed = postScoreRepository.refreshSince(since,
+			popularHashtagList.stream().map(HashtagEntity::getId).toList());
+		log.info("Refreshed {} post scores", refreshed);
+	}
+
+	/**
+	 * 5초마다 추적기의 상위 해시태그로 인기 해시태그 목록을 갱신
+	 * 해시태그 점수는 인기 해시태그에 포함되는지만 보므로, 상위 해시태그 구성이 바뀐 경우에만
+	 * 해시태그를 조회하고 추천 범위 안의 게시물 해시태그 점수를 새 목록으로 다시 계산한다
+	 * 구성은 같고 순서만 바뀐 경우에는 이미 조회한 해시태그의 순서만 바꾼다
+	 */
+	@Scheduled(fixedDelay = 5000)
+	@Transactional
+	public void refreshPopularHashtag() {
+		List<Long> topIds = trendingHashtagTracker.findTopIds((int) POPULAR_HASHTAG_COUNT);
+		Map<Long, HashtagEntity> current = popularHashtagList.stream()
+			.collect(Collectors.toMap(HashtagEntity::getId, Function.identity()));
+		if (current.keySet().equals(Set.copyOf(topIds))) {
+			popularHashtagList = topIds.stream().map(current::get).toList();
+			return;
+		}
+
+		Map<Long, HashtagEntity> hashtags = hashtagRepository.findAllById(topIds).stream()
+			.collect(Collectors.toMap(HashtagEntity::getId, Function.identity()));
+		popularHashtagList = topIds.stream()
+			.filter(hashtags::containsKey)
+			.map(hashtags::get)
+			.toList();
+
+		LocalDateTime since = LocalDateTime.now().minusDays(RECOMMEND_SEARCH_DATE_RANGE);
+		int refreshed = postScoreRepository.refreshHashtagScore(since,
+			popularHashtagList.stream().map(HashtagEntity::getId).toList());
+		log.debug("Refreshed {} post hashtag scores", refreshed);
+	}
+
+	/**
+	 * 5초마다 모아둔 댓글/좋아요 변화량을 게시물 점수에 반영
+	 */
+	@Scheduled(fixedDelay = 5000)
+	@Transactional
+	public void flushPostScore() {
+		List<PostScoreDelta> deltas = postScoreCollector.flushDeltaStorage();
+		if (deltas.isEmpty()) {
+			return;
+		}
+		int updated = postScoreRepository.bulkApplyDelta(deltas);
+		log.debug("Applied {} post score deltas ({} rows)", deltas.size(), updated);
 	}
 }
@@ -1,15 +1,21 @@
 package com.example.backend.social.feed.service
 
+import com.example.backend.entity.MemberEntity
 import com.example.backend.global.exception.GlobalException
 import com.example.backend.identity.member.exception.MemberErrorCode
 import com.example.backend.identity.member.service.MemberService
 import com.example.backend.social.feed.constant.FeedConstants
-import com.example.backend.social.feed.converter.FeedConverter
 import com.example.backend.social.feed.dto.*
+import com.example.backend.social.feed.implement.FeedItemCache
+import com.example.backend.social.feed.implement.FeedMetrics
 import com.example.backend.social.feed.implement.FeedSelectorCache
+import com.example.backend.social.feed.implement.FeedTimelineStore
 import com.example.backend.social.feed.implement.FeedValidator
+import com.example.backend.social.feed.implement.RecommendSampler
+import com.example.backend.social.feed.implement.SeenPostFilter
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
 
 /**
  * FeedService
@@ -21,8 +27,12 @@ import org.springframework.transaction.annotation.Transactional
 open class FeedService(
     private val memberService: MemberService,
     private val feedValidator: FeedValidator,
-    private val feedConverter: FeedConverter,
-    private val feedSelector: FeedSelectorCache
+    private val feedSelector: FeedSelectorCache,
+    private val feedTimelineStore: FeedTimelineStore,
+    private val feedMetrics: FeedMetrics,
+    private val feedItemCache: FeedItemCache,
+    private val recommendSampler: RecommendSampler,
+    private val seenPostFilter: SeenPostFilter
 ) {
     /**
      * Feed 요청 시에 적절한 게시물을 취합하여 반환하는 메서드
@@ -37,42 +47,132 @@ open class FeedService(
         val member = memberService.findById(userId)
             .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
 
+        // (생성일, ID) 커서. 이전 버전 클라이언트처럼 생성일 없이 ID 만 전달한 경우 생성일을 조회한다
+        val cursorDate = request.lastCreateDate
+            ?: if (request.lastPostId == 0L) null else feedSelector.findCreateDate(request.lastPostId)
+
         val followingCount = (request.maxSize * FeedConstants.FOLLOWING_FEED_RATE).toInt()
-        val feedList = feedSelector.findByFollower(
-            member, request.lastPostId, followingCount
-        ).toMutableList()
+        val followingPage = findFollowingFeeds(member, cursorDate, request.lastPostId, followingCount)
+        val feedList = followingPage.feeds.toMutableList()
 
-        // 마지막 포스트 ID와 시간 추출 (안전하게 접근)
-        val lastFeed = feedList.lastOrNull()
-        val lastPostId = lastFeed?.post?.id ?: request.lastPostId
+        // 다음 커서는 조회한 타임라인 항목에서 추출한다
+        // 삭제 등으로 응답에서 빠진 게시물이 마지막이어도 같은 구간을 다시 조회하지 않는다
+        val lastEntry = followingPage.lastEntry
+        val lastPostId = lastEntry?.postId ?: request.lastPostId
+        val lastCreateDate = lastEntry?.createDate ?: cursorDate
 
         val lastTime =
-            lastFeed?.post?.createDate ?: request.timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE)
+            lastEntry?.createDate ?: request.timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE)
 
         val recommendCount = (request.maxSize * FeedConstants.RECOMMEND_FEED_RATE).toInt() +
                 (followingCount - feedList.size)
 
-        val recommendFeedList = feedSelector.findRecommendFinder(
+        // 후보의 ID 와 점수만 조회해 이미 본 게시물을 제외하고 가중 추출한 뒤, 뽑힌 게시물만 캐시 또는 DB 에서 읽는다
+        val recommendCandidates = findUnseenCandidates(
             member,
             request.timestamp,
             lastTime,
-            recommendCount
+            recommendCount * FeedConstants.RECOMMEND_RANDOM_POOL_MULTIPLIER
+        )
+        val recommendFeeds = feedItemCache.findByPostIds(
+            recommendSampler.sample(recommendCandidates, recommendCount),
+            member
         )
+        // 삭제 등으로 응답에 포함되지 못한 게시물은 본 것으로 기록하지 않는다
+        seenPostFilter.markSeen(member.id, recommendFeeds.map { it.postId })
 
-        feedList.addAll(recommendFeedList)
+        feedList.addAll(recommendFeeds)
 
-        // 생성일 기준으로 정렬 (자바 호환성을 위해 메서드 호출 방식 사용)
+        // (생성일, ID) 기준으로 정렬 (자바 호환성을 위해 메서드 호출 방식 사용)
         val feedDtoList = feedList
-            .sortedByDescending { it.post.createDate }
-            .map { feedConverter.toFeedInfoResponse(it) }
+            .sortedWith(compareByDescending<FeedInfoResponse> { it.createdDate }.thenByDescending { it.postId })
 
         return FeedListResponse.create(
             feedDtoList,
             lastTime,
+            lastCreateDate,
             lastPostId
         )
     }
 
+    /**
+     * 팔로잉 게시물을 타임라인에서 조회하고, 타임라인이 없는 경우 pull 방식으로 조회하는 메서드
+     * 타임라인에는 전파(push) 대상 작성자의 게시물만 있으므로 pull 대상 작성자의 게시물을 조회 시점에 병합한다
+     * 첫 페이지를 pull 방식으로 조회한 경우 다음 요청부터 타임라인을 사용할 수 있도록 타임라인을 구성한다
+     * @param member 요청한 사용자
+     * @param cursorDate 마지막으로 받은 게시물의 생성일 (첫 요청이면 null)
+     * @param lastPostId 마지막으로 받은 게시물 ID (첫 요청이면 0)
+     * @param limit 최대 조회 개수
+     * @return 팔로잉 피드 리스트와 다음 커서로 사용할 마지막 항목
+     */
+    private fun findFollowingFeeds(
+        member: MemberEntity,
+        cursorDate: LocalDateTime?,
+        lastPostId: Long,
+        limit: Int
+    ): FollowingPage {
+        val timelineEntries = feedTimelineStore.findEntries(member.id, cursorDate, lastPostId, limit)
+        if (timelineEntries.isPresent) {
+            val mergedEntries = feedMetrics.recordPullMerge {
+                val pulledEntries = feedSelector.findPulledEntries(member, cursorDate, lastPostId, limit)
+                feedMetrics.recordPullMergeSize(pulledEntries.size)
+
+                // 작성자가 임계값을 넘기 전에 전파된 게시물과 중복될 수 있으므로 ID 기준으로 제거
+                (timelineEntries.get() + pulledEntries)
+                    .distinctBy { it.postId }
+                    .sortedWith(compareByDescending<FeedTimelineStore.Entry> { it.createDate }.thenByDescending { it.postId })
+                    .take(limit)
+            }
+            // 캐시된 게시물은 DB 에서 다시 읽지 않는다
+            return FollowingPage(
+                feedItemCache.findByPostIds(mergedEntries.map { it.postId }, member),
+                mergedEntries.lastOrNull()
+            )
+        }
+
+        if (cursorDate == null) {
+            // 조회하는 동안 전파된 게시물을 놓치지 않도록 조회 전에 구성을 시작한다
+            feedTimelineStore.prepareWarmUp(member.id)
+            feedTimelineStore.warmUp(
+                member.id,
+                feedSelector.findTimelineSeed(member, FeedConstants.TIMELINE_MAX_SIZE)
+            )
+        }
+        val followerEntries = feedSelector.findFollowerEntries(member, cursorDate, lastPostId, limit)
+        return FollowingPage(
+            feedItemCache.findByPostIds(followerEntries.map { it.postId }, member),
+            followerEntries.lastOrNull()
+        )
+    }
+
+    /**
+     * 이미 본 게시물을 제외한 추천 후보를 poolSize 개까지 모으는 메서드
+     * 상위 후보를 모두 본 경우에도 추천이 비지 않도록 (점수, ID) 커서로 다음 후보를 이어서 조회한다
+     * @param member 요청한 사용자
+     * @param startTime 가장 최근 받은 추천 게시물의 timestamp
+     * @param lastTime 추천 게시물을 요청할 범위
+     * @param poolSize 모을 후보 개수
+     * @return 보지 않은 추천 후보 리스트
+     */
+    private fun findUnseenCandidates(
+        member: MemberEntity,
+        startTime: LocalDateTime,
+        lastTime: LocalDateTime,
+        poolSize: Long
+    ): List<RecommendCandidate> {
+        val unseen = mutableListOf<RecommendCandidate>()
+        var cursor: RecommendCandidate? = null
+        for (page in 0 until FeedConstants.RECOMMEND_CANDIDATE_MAX_PAGES) {
+            val candidates = feedSelector.findRecommendCandidates(member, startTime, lastTime, cursor, poolSize)
+            unseen.addAll(seenPostFilter.filterUnseen(member.id, candidates))
+            if (unseen.size >= poolSize || candidates.size < poolSize) {
+                break
+            }
+            cursor = candidates.last()
+        }
+        return unseen
+    }
+
     /**
      * 특정 포스트 ID로 피드를 조회하는 메서드
      * @param postId 조회할 포스트 ID
@@ -84,8 +184,7 @@ open class FeedService(
         val member = memberService.findById(userId)
             .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
 
-        val feed = feedSelector.findByPostId(postId, member)
-        return feedConverter.toFeedInfoResponse(feed)
+        return feedItemCache.findByPostId(postId, member)
     }
 
     /**
@@ -101,11 +200,22 @@ open class FeedService(
         val member = memberService.findById(userId)
             .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
 
-        val feedList = feedSelector.findByMember(member, request.lastPostId, request.maxSize)
-            .map { feedConverter.toFeedInfoResponse(it) }
+        val postIds = feedSelector.findMemberPostIds(member, request.lastPostId, request.maxSize)
+        val feedList = feedItemCache.findByPostIds(postIds, member)
 
-        val lastPostId = feedList.lastOrNull()?.postId ?: request.lastPostId
+        // 응답에서 빠진 게시물이 있어도 조회한 ID 기준으로 다음 커서를 넘긴다
+        val lastPostId = postIds.lastOrNull() ?: request.lastPostId
 
         return FeedMemberResponse.create(feedList, lastPostId)
     }
+
+    /**
+     * 팔로잉 피드 조회 결과
+     * @param feeds 응답에 포함할 피드 리스트
+     * @param lastEntry 조회한 타임라인 항목 중 마지막 항목, 응답에서 빠진 게시물도 포함한다
+     */
+    private data class FollowingPage(
+        val feeds: List<FeedInfoResponse>,
+        val lastEntry: FeedTimelineStore.Entry?
+    )
 }
@@ -4,6 +4,9 @@ import com.example.backend.entity.MemberRepository
 import com.example.backend.global.event.FollowEvent
 import com.example.backend.social.exception.SocialErrorCode
 import com.example.backend.social.exception.SocialException
+import com.example.backend.social.feed.implement.FeedFanOutPolicy
+import com.example.backend.social.feed.implement.FeedTimelineStore
+import com.example.backend.social.feed.implement.FeedTimelineWriter
 import com.example.backend.social.follow.converter.FollowConverter
 import com.example.backend.social.follow.dto.FollowResponse
 import com.example.backend.social.follow.dto.FollowerListResponse
@@ -23,7 +26,10 @@ import org.springframework.transaction.annotation.Transactional
 @Service
 open class FollowService @Autowired constructor(
     private val memberRepository: MemberRepository,
-    private val applicationEventPublisher: ApplicationEventPublisher
+    private val applicationEventPublisher: ApplicationEventPublisher,
+    private val feedTimelineStore: FeedTimelineStore,
+    private val feedTimelineWriter: FeedTimelineWriter,
+    private val feedFanOutPolicy: FeedFanOutPolicy
 ) {
     // 본인을 팔로우 신청하는지 확인
     private fun checkNotSelfFollow(senderUsername: String, receiverUsername: String) {
@@ -63,6 +69,10 @@ open class FollowService @Autowired constructor(
         // 5. 팔로우 관계 생성 및 팔로우 카운트 증가
         sender.addFollowing(receiver)
         receiver.addFollower(sender)
+        feedFanOutPolicy.updatePulled(receiver)
+
+        // 팔로잉 대상이 바뀌었으므로 커밋된 후 타임라인을 다시 구성하도록 제거
+        feedTimelineStore.evictAfterCommit(sender.id)
 
         // 6. 팔로우 이벤트 발생
         applicationEventPublisher.publishEvent(
@@ -104,6 +114,14 @@ open class FollowService @Autowired constructor(
         sender.removeFollowing(receiver)
         receiver.removeFollower(sender)
 
+        // 팔로잉 대상이 바뀌었으므로 커밋된 후 타임라인을 다시 구성하도록 제거
+        feedTimelineStore.evictAfterCommit(sender.id)
+
+        // pull 대상에서 벗어난 작성자의 이전 게시물이 팔로워들의 타임라인에 포함되도록 다시 구성
+        if (feedFanOutPolicy.updatePulled(receiver)) {
+            feedTimelineWriter.evictFollowerTimelines(receiver)
+        }
+
         return FollowConverter.toResponse(sender, receiver)
     }
 
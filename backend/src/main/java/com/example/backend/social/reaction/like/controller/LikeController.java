@@ -1,8 +1,11 @@
 package com.example.backend.social.reaction.like.controller;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.backend.global.rs.RsData;
 import com.example.backend.identity.security.user.CustomUser;
+import com.example.backend.social.reaction.like.dto.LikeStatesResponse;
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse;
 import com.example.backend.social.reaction.like.service.LikeService;
 
@@ -52,4 +56,19 @@ public class LikeController {
 			: "좋아요가 성공적으로 취소되었습니다.";
 		return RsData.success(response, message);
 	}
+
+	/**
+	 * 여러 리소스에 대한 좋아요 여부를 한 번에 조회합니다
+	 */
+	@Operation(summary = "좋아요 여부 일괄 조회", description = "게시물, 댓글, 대댓글 최대 100개의 좋아요 여부를 조회합니다.")
+	@GetMapping("/states")
+	@ResponseStatus(HttpStatus.OK)
+	public RsData<LikeStatesResponse> getLikeStates(
+		@RequestParam String resourceType, // post, comment, reply
+		@RequestParam List<Long> ids,
+		@AuthenticationPrincipal CustomUser securityUser
+	) {
+		LikeStatesResponse response = likeService.getLikeStates(securityUser.getId(), resourceType, ids);
+		return RsData.success(response, "좋아요 여부 조회에 성공했습니다.");
+	}
 }
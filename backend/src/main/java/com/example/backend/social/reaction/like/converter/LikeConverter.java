@@ -1,12 +1,21 @@
 package com.example.backend.social.reaction.like.converter;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.example.backend.social.reaction.like.dto.LikeInfo;
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse;
 
 public class LikeConverter {
 
+	/**
+	 * 동기화 대기열에 저장되는 필드 순서
+	 */
+	public static final List<String> SYNC_FIELDS =
+		List.of("memberId", "resourceId", "resourceType", "createDate", "modifyDate", "isActive");
+
 	/**
 	 * LikeInfo 객체와 likeCount를 사용하여 LikeToggleResponse 생성
 	 *
@@ -23,4 +32,40 @@ public class LikeConverter {
 			LocalDateTime.now()
 		);
 	}
+
+	/**
+	 * 동기화 대기열(Redis Stream, 로컬 저널)에 저장할 필드로 변환
+	 * 새 좋아요가 아니면 createDate 는 빈 문자열로 저장
+	 *
+	 * @param likeInfo
+	 * @return 필드 이름과 값
+	 */
+	public static Map<String, String> toSyncFields(LikeInfo likeInfo) {
+		Map<String, String> fields = new LinkedHashMap<>();
+		fields.put("memberId", String.valueOf(likeInfo.memberId()));
+		fields.put("resourceId", String.valueOf(likeInfo.resourceId()));
+		fields.put("resourceType", likeInfo.resourceType());
+		fields.put("createDate", likeInfo.createDate() == null ? "" : likeInfo.createDate().toString());
+		fields.put("modifyDate", likeInfo.modifyDate().toString());
+		fields.put("isActive", String.valueOf(likeInfo.isActive()));
+		return fields;
+	}
+
+	/**
+	 * 동기화 대기열에 저장된 필드를 LikeInfo 로 변환
+	 *
+	 * @param fields
+	 * @return LikeInfo
+	 */
+	public static LikeInfo fromSyncFields(Map<String, String> fields) {
+		String createDate = fields.get("createDate");
+		return new LikeInfo(
+			Long.valueOf(fields.get("memberId")),
+			Long.valueOf(fields.get("resourceId")),
+			fields.get("resourceType"),
+			createDate == null || createDate.isEmpty() ? null : LocalDateTime.parse(createDate),
+			LocalDateTime.parse(fields.get("modifyDate")),
+			Boolean.parseBoolean(fields.get("isActive"))
+		);
+	}
 }
@@ -0,0 +1,15 @@
+package com.example.backend.social.reaction.like.dto;
+
+import java.util.Map;
+
+/**
+ * 여러 리소스에 대한 요청자의 좋아요 여부
+ * likeStates 는 요청한 리소스 ID 순서를 유지한다
+ *
+ * @author Metronon
+ * @since 2025-03-22
+ */
+public record LikeStatesResponse(
+	String resourceType,
+	Map<Long, Boolean> likeStates
+) { }
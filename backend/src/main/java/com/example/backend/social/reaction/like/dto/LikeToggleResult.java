@@ -0,0 +1,7 @@
+package com.example.backend.social.reaction.like.dto;
+
+public record LikeToggleResult(
+	boolean isLiked,
+	boolean isNewLike,
+	long likeCount
+) { }
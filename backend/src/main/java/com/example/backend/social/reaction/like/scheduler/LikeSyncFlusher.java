@@ -0,0 +1,93 @@
+package com.example.backend.social.reaction.like.scheduler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.service.LikeSyncService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 DB 반영을 전용 스레드에서 실행
+ * 대기열에 BATCH_SIZE_THRESHOLD 개 이상 쌓이거나 LikeSyncScheduler 가 주기적으로 요청하면 반영하며,
+ * 요청 스레드는 반영을 기다리지 않는다. 반영 중 들어온 요청은 다음 한 번의 반영으로 합쳐진다.
+ *
+ * @author Metronon
+ * @since 2025-03-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeSyncFlusher {
+    private final LikeSyncService likeSyncService;
+
+    // 반영을 요청할 대기열 크기
+    private static final int BATCH_SIZE_THRESHOLD = 5;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    // 마지막 반영 요청 이후 대기열에 추가된 좋아요 수
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    // 실행을 기다리는 반영 작업이 있는지 여부
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    @PostConstruct
+    public void start() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("LikeSync-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 종료 전에 남은 좋아요를 반영한다 (반영하지 못한 항목은 Stream 에 남아 재시작 후 처리된다)
+        requestFlush();
+        executor.shutdown();
+    }
+
+    /**
+     * 대기열에 좋아요가 추가되었음을 알린다
+     */
+    public void onQueued() {
+        if (queuedCount.incrementAndGet() >= BATCH_SIZE_THRESHOLD) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 반영을 요청한다, 이미 실행을 기다리는 반영이 있으면 그 반영에 합쳐진다
+     */
+    public void requestFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::flush);
+        } catch (TaskRejectedException e) {
+            // 종료 중에는 반영하지 않는다
+            flushScheduled.set(false);
+            log.warn("Like flush was rejected: {}", e.getMessage());
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        queuedCount.set(0);
+        try {
+            likeSyncService.syncToDatabase();
+        } catch (Exception e) {
+            log.error("Failed to flush likes to database", e);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LikeSyncManager {
     private final LikeSyncService likeSyncService;
+    private final LikeSyncFlusher likeSyncFlusher;
     
     /**
      * 좋아요 정보를 동기화 대기열에 추가
@@ -28,5 +29,6 @@ public class LikeSyncManager {
         );
         
         likeSyncService.addToPendingSync(likeInfo);
+        likeSyncFlusher.onQueued();
     }
 }
@@ -3,8 +3,10 @@ package com.example.backend.social.reaction.like.service
 import com.example.backend.entity.MemberRepository
 import com.example.backend.social.exception.SocialErrorCode
 import com.example.backend.social.exception.SocialException
+import com.example.backend.social.feed.implement.PostScoreCollector
 import com.example.backend.social.reaction.like.converter.LikeConverter
 import com.example.backend.social.reaction.like.dto.LikeInfo
+import com.example.backend.social.reaction.like.dto.LikeStatesResponse
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse
 import com.example.backend.social.reaction.like.scheduler.LikeSyncManager
 import com.example.backend.social.reaction.like.util.RedisKeyUtil
@@ -31,13 +33,14 @@ open class LikeService(
     private val resourceResolver: ResourceResolver,
     private val redisLikeService: RedisLikeService,
     private val likeEventPublisher: LikeEventPublisher,
-    private val likeSyncManager: LikeSyncManager
+    private val likeSyncManager: LikeSyncManager,
+    private val postScoreCollector: PostScoreCollector
 ) {
 
 /**
      * 좋아요 토글 메서드
      * 리소스의 타입을 통해 대상 확인 및 좋아요 토글을 진행합니다.
-     * 좋아요 취소의 경우 Redis 에 데이터가 없는 경우에만 서버 통신을 진행합니다.
+     * Redis 에 좋아요 정보가 없는 경우에만 DB 를 조회하며, 그 외에는 Redis 스크립트 한 번으로 처리합니다.
      *
      * @param memberId, resourceType, resourceId
      * @return LikeToggleResponse (DTO)
@@ -61,17 +64,13 @@ open class LikeService(
         val likeKey = RedisKeyUtil.getLikeKey(upperResourceType, resourceId, memberId)
         val countKey = RedisKeyUtil.getLikeCountKey(upperResourceType, resourceId)
 
-        // 5. 현재 좋아요 상태 확인
-        val likeStateInfo = redisLikeService!!.getLikeState(
-            likeKey, memberId, resourceId, upperResourceType
+        // 5. 상태 확인, 토글, 좋아요 수 갱신을 Redis 에서 한 번에 처리
+        val toggleResult = redisLikeService!!.toggleLike(
+            likeKey, countKey, memberId, resourceId, upperResourceType
         )
-        val currentlyLiked = likeStateInfo.currentlyLiked
-        val isNewLike = likeStateInfo.isNewLike
+        val newLikedState = toggleResult.isLiked
+        val isNewLike = toggleResult.isNewLike
 
-        // 6. 상태 토글
-        val newLikedState = !currentlyLiked
-
-        // 7. Redis 업데이트
         val likeInfo = LikeInfo(
             memberId,
             resourceId,
@@ -81,19 +80,50 @@ open class LikeService(
             newLikedState
         )
 
-        // Redis에 좋아요 정보 저장 및 카운트 업데이트
-        redisLikeService.updateLikeInfo(likeKey, likeInfo)
-        redisLikeService.updateLikeCount(countKey, newLikedState)
+        // 게시물 좋아요는 추천 피드 인기 점수에 반영
+        if (upperResourceType == "POST") {
+            postScoreCollector.addLikeDelta(resourceId, if (newLikedState) 1L else -1L)
+        }
 
-        // 8. 비동기로 DB 업데이트 스케줄링
+        // 6. 비동기로 DB 업데이트 스케줄링
         likeSyncManager!!.scheduleSyncToDatabase(memberId, resourceId, upperResourceType, newLikedState, isNewLike)
 
-        // 9. 알림 이벤트 발행
-        likeEventPublisher!!.publishLikeEvent(member, resource, resourceId, upperResourceType)
+        // 7. 알림 이벤트 발행
+        likeEventPublisher!!.publishLikeEvent(member, resource, resourceId, upperResourceType, newLikedState)
+
+        return LikeConverter.toLikeResponse(likeInfo, toggleResult.likeCount)
+    }
+
+    /**
+     * 여러 리소스에 대한 좋아요 여부 일괄 조회 메서드
+     * 피드, 댓글 목록 등 한 페이지의 좋아요 표시를 한 번의 요청으로 갱신할 때 사용합니다.
+     *
+     * @param memberId, resourceType, resourceIds (최대 MAX_LIKE_STATE_IDS 개)
+     * @return LikeStatesResponse (DTO)
+     */
+    @Transactional(readOnly = true)
+    open fun getLikeStates(memberId: Long, resourceType: String, resourceIds: List<Long>): LikeStatesResponse {
+        val upperResourceType = resourceResolver.normalizeResourceType(resourceType)
+        if (upperResourceType !in LIKE_RESOURCE_TYPES) {
+            throw SocialException(SocialErrorCode.INVALID_REQUEST, "리소스 타입을 확인할 수 없습니다.")
+        }
+
+        val distinctIds = resourceIds.distinct()
+        if (distinctIds.isEmpty() || distinctIds.size > MAX_LIKE_STATE_IDS) {
+            throw SocialException(
+                SocialErrorCode.INVALID_REQUEST,
+                "좋아요 여부는 한 번에 1개 이상 ${MAX_LIKE_STATE_IDS}개 이하로 조회할 수 있습니다."
+            )
+        }
+
+        val likeStates = redisLikeService.getLikeStates(memberId, upperResourceType, distinctIds)
+        return LikeStatesResponse(resourceType, likeStates)
+    }
 
-        // 10. 좋아요 수 조회
-        val likeCount = redisLikeService.getLikeCount(countKey)
+    companion object {
+        // 좋아요 여부를 한 번에 조회할 수 있는 최대 리소스 수
+        const val MAX_LIKE_STATE_IDS = 100
 
-        return LikeConverter.toLikeResponse(likeInfo, likeCount)
+        private val LIKE_RESOURCE_TYPES = setOf("POST", "COMMENT", "REPLY")
     }
 }
@@ -1,94 +1,212 @@
 package com.example.backend.social.reaction.like.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.backend.entity.LikeRepositoryCustomImpl;
+import com.example.backend.social.reaction.like.converter.LikeConverter;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.util.component.LikeBloomFilter;
+import com.example.backend.social.reaction.like.util.component.LikeCountSynchronizer;
+import com.example.backend.social.reaction.like.util.component.LikeSyncJournal;
+import com.example.backend.social.reaction.like.util.component.LikeSyncStream;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class LikeSyncService {
     private final LikeRepositoryCustomImpl likeRepositoryCustom;
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    // 동기화 대기 중인 좋아요 목록을 저장할 큐
-    private final Queue<LikeInfo> pendingLikes = new ConcurrentLinkedQueue<>();
-    
-    // 마지막 동기화 시간
-    private AtomicLong lastSyncTime = new AtomicLong(System.currentTimeMillis());
-    
-    // 임계값 설정
-    private static final int BATCH_SIZE_THRESHOLD = 5;
-    private static final long TIME_THRESHOLD_MS = 30_000; // 30초
-
-    @Autowired
-    public LikeSyncService(LikeRepositoryCustomImpl likeRepositoryCustom,
-        @Qualifier("redisTemplate") RedisTemplate<String, Object> redisTemplate) {
-        this.likeRepositoryCustom = likeRepositoryCustom;
-        this.redisTemplate = redisTemplate;
-    }
-    
+
+    // 동기화 대기 중인 좋아요 목록 (Redis Stream, Redis 장애 시 로컬 저널)
+    private final LikeSyncStream likeSyncStream;
+    private final LikeSyncJournal likeSyncJournal;
+
+    // DB 에 반영된 좋아요의 리소스를 likeCount 재계산 대상으로 기록
+    private final LikeCountSynchronizer likeCountSynchronizer;
+
+    // DB 에 행이 생기는 좋아요를 기록하는 filter
+    private final LikeBloomFilter likeBloomFilter;
+
+    // 읽은 항목을 DB 에 반영하는 트랜잭션, Stream 읽기와 Group 생성은 트랜잭션 밖에서 실행한다
+    private final TransactionTemplate transactionTemplate;
+
+    // 읽었지만 ACK 하지 못한 항목을 다시 읽어야 하는지 여부
+    private final AtomicBoolean recoverPending = new AtomicBoolean(true);
+
+    // 한 번의 동기화에서 Stream 을 읽는 단위와 최대 반복 횟수
+    private static final int READ_BATCH_SIZE = 500;
+    private static final int MAX_READ_BATCHES = 20;
+
     /**
-     * 좋아요 동기화 큐에 추가
+     * 좋아요 동기화 대기열에 추가
+     * DB 반영은 LikeSyncFlusher 가 전용 스레드에서 실행한다
      */
     public void addToPendingSync(LikeInfo likeInfo) {
-        pendingLikes.add(likeInfo);
-        
-        // 임계값 체크 후 필요시 동기화 실행
-        if (shouldSync()) {
-            syncToDatabase();
+        try {
+            likeSyncStream.add(likeInfo);
+        } catch (DataAccessException e) {
+            log.warn("Failed to add like to sync stream, writing to local journal", e);
+            likeSyncJournal.append(likeInfo);
         }
     }
-    
-    /**
-     * 동기화가 필요한지 체크
-     */
-    private boolean shouldSync() {
-        return pendingLikes.size() >= BATCH_SIZE_THRESHOLD || 
-               (System.currentTimeMillis() - lastSyncTime.get() >= TIME_THRESHOLD_MS);
-    }
-    
+
     /**
      * 데이터베이스 동기화 실행
+     * 로컬 저널을 Stream 으로 옮긴 뒤, 이 서버가 처리하지 못한 항목, 다른 서버가 처리하지 못한 항목, 새 항목 순으로 반영한다
+     * 읽은 항목은 묶음마다 별도 트랜잭션으로 반영하며, 트랜잭션이 커밋된 후에 ACK 하므로 반영에 실패한 항목은 다음 동기화에서 다시 읽힌다
+     * 여러 번 전달되어도 반영되지 않는 항목은 dead-letter Stream 으로 옮겨 나머지 항목의 반영을 막지 않도록 한다
+     * Redis 를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 Stream 읽기는 트랜잭션 밖에서 실행한다
      */
-    @Transactional
     public void syncToDatabase() {
-        if (pendingLikes.isEmpty()) {
+        try {
+            replayJournal();
+
+            // 이미 읽은 항목은 ACK 전까지 pending 으로 남으므로, 시작 직후나 반영 실패 후에만 다시 읽는다
+            if (recoverPending.getAndSet(false)) {
+                int deadLettered = likeSyncStream.deadLetterExhausted(READ_BATCH_SIZE);
+                if (deadLettered > 0) {
+                    log.error("Moved {} likes that failed to sync to dead-letter stream", deadLettered);
+                }
+                syncRecords(likeSyncStream.readPending(READ_BATCH_SIZE));
+            }
+            syncRecords(likeSyncStream.claimStale(READ_BATCH_SIZE));
+
+            for (int batch = 0; batch < MAX_READ_BATCHES; batch++) {
+                List<MapRecord<String, String, String>> records = likeSyncStream.readNew(READ_BATCH_SIZE);
+                if (records.isEmpty()) {
+                    break;
+                }
+                syncRecords(records);
+            }
+        } catch (RedisSystemException e) {
+            // Group 이 없는 경우(Redis 재시작 등) 다시 만들고 다음 동기화에서 읽는다
+            log.error("Failed to read likes from sync stream", e);
+            recoverPending.set(true);
+            likeSyncStream.createGroup();
+        } catch (Exception e) {
+            log.error("Failed to sync likes to database", e);
+            recoverPending.set(true);
+        }
+    }
+
+    // Redis 장애 중 로컬 저널에 쌓인 좋아요를 Stream 으로 옮긴다
+    private void replayJournal() {
+        int replayed = likeSyncJournal.drainTo(likeSyncStream::add);
+        if (replayed > 0) {
+            log.info("Moved {} likes from local journal to sync stream", replayed);
+        }
+    }
+
+    private void syncRecords(List<MapRecord<String, String, String>> records) {
+        if (records.isEmpty()) {
             return;
         }
-        
-        log.info("Syncing {} likes to database", pendingLikes.size());
-        
-        // 큐에서 처리할 좋아요 목록 추출
-        List<LikeInfo> likesToSync = new ArrayList<>();
-        LikeInfo like;
-        while ((like = pendingLikes.poll()) != null) {
-            likesToSync.add(like);
+
+        log.info("Syncing {} likes to database", records.size());
+
+        try {
+            upsert(records);
+        } catch (RuntimeException e) {
+            if (!isRecordFailure(e)) {
+                throw e;
+            }
+            // 반영할 수 없는 항목 하나 때문에 묶음 전체가 반영되지 않도록 한 건씩 다시 반영한다
+            log.warn("Failed to sync {} likes at once, retrying one by one", records.size(), e);
+            records.forEach(this::syncRecord);
         }
-        
+    }
+
+    // 실패한 항목은 ACK 하지 않으므로 pending 으로 남고, 전달 횟수가 한도를 넘으면 dead-letter Stream 으로 옮겨진다
+    private void syncRecord(MapRecord<String, String, String> record) {
         try {
-            // QueryDSL을 사용한 벌크 업데이트 실행
-            int updatedCount = likeRepositoryCustom.bulkUpsertLikes(likesToSync);
-            log.info("Successfully synced {} likes to database", updatedCount);
-        } catch (Exception e) {
-            // 에러 발생 시 큐에 다시 추가
-            log.error("Failed to sync likes to database", e);
-            pendingLikes.addAll(likesToSync);
+            upsert(List.of(record));
+        } catch (RuntimeException e) {
+            if (!isRecordFailure(e)) {
+                throw e;
+            }
+            log.error("Failed to sync like {} to database", record.getId(), e);
+            recoverPending.set(true);
+        }
+    }
+
+    // 항목 내용 때문에 실패한 경우(변환 실패, 제약 조건 위반)만 해당, DB 나 Redis 장애는 한 건씩 다시 반영해도 실패한다
+    private static boolean isRecordFailure(RuntimeException e) {
+        return !(e instanceof DataAccessException) || e instanceof DataIntegrityViolationException;
+    }
+
+    private void upsert(List<MapRecord<String, String, String>> records) {
+        List<LikeInfo> likesToSync = coalesce(records.stream()
+            .map(record -> LikeConverter.fromSyncFields(record.getValue()))
+            .toList());
+        List<RecordId> recordIds = records.stream()
+            .map(MapRecord::getId)
+            .toList();
+
+        // filter 에 없는 행이 DB 에 생기지 않도록 반영 전에 기록
+        likeBloomFilter.markAll(likesToSync);
+
+        Integer updatedCount = transactionTemplate.execute(status -> {
+            int updated = likeRepositoryCustom.bulkUpsertLikes(likesToSync);
+            afterCommit(() -> {
+                likesToSync.forEach(like -> likeCountSynchronizer.markDirty(like.resourceType(), like.resourceId()));
+                likeSyncStream.acknowledge(recordIds);
+            });
+            return updated;
+        });
+        log.info("Successfully synced {} likes to database", updatedCount);
+    }
+
+    /**
+     * 같은 (memberId, resourceId, resourceType) 에 대한 여러 번의 토글을 마지막 상태 하나로 합친다
+     * 중간에 새 좋아요가 있었다면 아직 DB 에 행이 없으므로 그 생성 시각을 유지해 삽입되도록 한다
+     */
+    private static List<LikeInfo> coalesce(List<LikeInfo> likeInfos) {
+        Map<String, LikeInfo> latest = new LinkedHashMap<>();
+        for (LikeInfo likeInfo : likeInfos) {
+            String key = likeInfo.memberId() + ":" + likeInfo.resourceId() + ":" + likeInfo.resourceType();
+            latest.merge(key, likeInfo, (previous, current) -> new LikeInfo(
+                current.memberId(),
+                current.resourceId(),
+                current.resourceType(),
+                previous.createDate() != null ? previous.createDate() : current.createDate(),
+                current.modifyDate(),
+                current.isActive()
+            ));
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    // 트랜잭션 안이면 커밋된 후에, 밖이면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
-        
-        // 마지막 동기화 시간 업데이트
-        lastSyncTime.set(System.currentTimeMillis());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    action.run();
+                } else {
+                    recoverPending.set(true);
+                }
+            }
+        });
     }
 }
@@ -0,0 +1,27 @@
+package com.example.backend.social.reaction.like.util;
+
+/**
+ * Redis 에 좋아요 상태를 저장하는 방식
+ * LEGACY: 좋아요마다 like:{type}:{resourceId}:{memberId} 키에 LikeInfo JSON 을 저장
+ * COMPACT: 리소스마다 likeState:{type}:{resourceId} 해시 하나에 회원 ID 필드와 1바이트 상태('1', '0')를 저장
+ * DUAL: 두 방식에 모두 기록하고 COMPACT 를 먼저 읽는다, LEGACY 에서 COMPACT 로 옮기는 동안 사용
+ *
+ * @author Metronon
+ * @since 2025-03-26
+ */
+public enum LikeStorageLayout {
+	LEGACY,
+	DUAL,
+	COMPACT;
+
+	public static final String LIKED = "1";
+	public static final String UNLIKED = "0";
+
+	public boolean usesLegacy() {
+		return this != COMPACT;
+	}
+
+	public boolean usesCompact() {
+		return this != LEGACY;
+	}
+}
@@ -1,8 +1,18 @@
 package com.example.backend.social.reaction.like.util;
 
 public class RedisKeyUtil {
-	private static final String LIKE_KEY_FORMAT = "like:%s:%d:%d";
-	private static final String LIKE_COUNT_KEY_FORMAT = "likeCount:%s:%d";
+	// 한 리소스의 좋아요 키들은 {리소스 타입:리소스 ID} hash tag 로 클러스터에서 같은 슬롯에 배치된다
+	private static final String LIKE_KEY_FORMAT = "like:{%s:%d}:%d";
+	private static final String LIKE_COUNT_KEY_FORMAT = "likeCount:{%s:%d}";
+	private static final String LIKE_STATE_KEY_FORMAT = "likeState:{%s:%d}";
+
+	// 좋아요 수 키를 기준으로 만드는 분산 카운터 관련 키
+	// 분산 카운터 키는 기본 키와 다른 슬롯에 나뉘도록 번호까지 hash tag 에 넣는다
+	private static final String LIKE_COUNT_SHARD_KEY_FORMAT = "likeCountShard:{%s:%d}";
+	private static final String LIKE_COUNT_SHARDED_KEY_FORMAT = "%s:sharded";
+	private static final String LIKE_COUNT_SHARDS_KEY_FORMAT = "%s:shards";
+	private static final String LIKE_RATE_KEY_FORMAT = "%s:rate";
+	private static final String SHARDED_LIKE_COUNTS_KEY = "likeCount:sharded";
 
 	public static String getLikeKey(String resourceType, Long resourceId, Long memberId) {
 		return String.format(LIKE_KEY_FORMAT, resourceType, resourceId, memberId);
@@ -11,4 +21,47 @@ public class RedisKeyUtil {
 	public static String getLikeCountKey(String resourceType, Long resourceId) {
 		return String.format(LIKE_COUNT_KEY_FORMAT, resourceType, resourceId);
 	}
+
+	/**
+	 * COMPACT 저장 방식에서 리소스의 좋아요 상태를 회원 ID 필드로 모은 해시 키
+	 */
+	public static String getLikeStateKey(String resourceType, Long resourceId) {
+		return String.format(LIKE_STATE_KEY_FORMAT, resourceType, resourceId);
+	}
+
+	/**
+	 * 좋아요 수를 나누어 기록하는 분산 카운터 키 (shard 는 1부터)
+	 */
+	public static String getLikeCountShardKey(String countKey, int shard) {
+		String hashTag = countKey.substring(countKey.indexOf('{') + 1, countKey.indexOf('}'));
+		return String.format(LIKE_COUNT_SHARD_KEY_FORMAT, hashTag, shard);
+	}
+
+	/**
+	 * 좋아요 수가 분산 카운터로 기록되는 중임을 나타내는 키
+	 */
+	public static String getLikeCountShardedKey(String countKey) {
+		return String.format(LIKE_COUNT_SHARDED_KEY_FORMAT, countKey);
+	}
+
+	/**
+	 * 기본 키로 아직 합치지 않은 분산 카운터가 있음을 나타내는 키
+	 */
+	public static String getLikeCountShardsKey(String countKey) {
+		return String.format(LIKE_COUNT_SHARDS_KEY_FORMAT, countKey);
+	}
+
+	/**
+	 * 분산 카운터 전환 여부를 판단하기 위한 좋아요 토글 빈도 키
+	 */
+	public static String getLikeRateKey(String countKey) {
+		return String.format(LIKE_RATE_KEY_FORMAT, countKey);
+	}
+
+	/**
+	 * 분산 카운터를 사용한 적이 있는 좋아요 수 키 목록
+	 */
+	public static String getShardedLikeCountsKey() {
+		return SHARDED_LIKE_COUNTS_KEY;
+	}
 }
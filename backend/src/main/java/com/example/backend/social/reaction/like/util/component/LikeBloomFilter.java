@@ -0,0 +1,234 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * likes 테이블에 (회원, 리소스) 행이 있는지를 리소스 타입별 Bloom filter 로 Redis 비트맵에 유지
+ * filter 에 없으면 DB 에 행이 없는 것이 확실하므로, 처음 누르는 좋아요는 DB 조회 없이 처리할 수 있다.
+ * 서버가 시작될 때 likes 테이블로 다시 만들며, 다시 만드는 동안 기록된 좋아요는 완성된 filter 에 합쳐진다.
+ * 여러 서버가 함께 시작되어도 Redis 잠금을 얻은 서버 하나만 다시 만든다.
+ * filter 가 아직 없으면 모든 조회는 DB 로 넘어간다.
+ *
+ * @author Metronon
+ * @since 2025-03-24
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeBloomFilter {
+    // 리소스 타입마다 2^24 비트(2MB), 행 100만 개에서 오탐률 약 0.1%
+    public static final int FILTER_BITS = 1 << 24;
+    public static final int FILTER_HASHES = 5;
+
+    private static final String FILTER_KEY_FORMAT = "likeBloom:{%s}";
+    private static final String BUILDING_KEY_FORMAT = "likeBloom:{%s}:building";
+    private static final String REBUILD_KEY_FORMAT = "likeBloom:{%s}:rebuild";
+    private static final String LOCK_KEY_FORMAT = "likeBloom:{%s}:lock";
+
+    // 다시 만든 서버는 잠금을 풀지 않아, 이 시간 안에 시작되는 다른 서버는 다시 만들지 않는다
+    // 다시 만드는 데 걸리는 시간보다 길어야 두 서버가 동시에 만들지 않는다
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(30);
+
+    private static final List<String> RESOURCE_TYPES = List.of("POST", "COMMENT", "REPLY");
+
+    // 다시 만들 때 한 번에 비트를 기록할 행 수
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    // 키가 두 개이면 filter 키가 있을 때는 filter 키에, 없으면 두 번째 키에 기록한다
+    private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>("""
+        local key = KEYS[1]
+        if #KEYS > 1 and redis.call('EXISTS', KEYS[1]) == 0 then
+            key = KEYS[2]
+        end
+        for i = 1, #ARGV do
+            redis.call('SETBIT', key, ARGV[i], 1)
+        end
+        return #ARGV
+        """, Long.class);
+
+    // 다시 만든 filter 에 기존 filter 와 그동안 기록된 비트를 합친 뒤 교체한다
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+        -- 좋아요가 하나도 없어도 교체할 키가 있도록 만든다
+        redis.call('SETBIT', KEYS[1], 0, redis.call('GETBIT', KEYS[1], 0))
+        local sources = {KEYS[1]}
+        for i = 2, #KEYS do
+            if redis.call('EXISTS', KEYS[i]) == 1 then
+                sources[#sources + 1] = KEYS[i]
+            end
+        end
+        redis.call('BITOP', 'OR', KEYS[1], unpack(sources))
+        redis.call('RENAME', KEYS[1], KEYS[2])
+        redis.call('DEL', KEYS[3])
+        return 1
+        """, Long.class);
+
+    // 잠금을 얻은 서버만 잠금을 푼다
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private static final RedisScript<Long> CHECK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 1
+        end
+        for i = 1, #ARGV do
+            if redis.call('GETBIT', KEYS[1], ARGV[i]) == 0 then
+                return 0
+            end
+        end
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 리소스 타입의 filter 키, 다시 만드는 동안 기록되는 키 순서
+     * 좋아요를 기록할 때는 filter 키가 있으면 filter 키에, 없으면 두 번째 키에 비트를 기록한다
+     */
+    public static List<String> keys(String resourceType) {
+        return List.of(String.format(FILTER_KEY_FORMAT, resourceType), String.format(BUILDING_KEY_FORMAT, resourceType));
+    }
+
+    /**
+     * 회원과 리소스에 해당하는 FILTER_HASHES 개의 비트 위치
+     */
+    public static List<String> positions(Long memberId, Long resourceId) {
+        long hash = mix(mix(memberId) ^ resourceId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        List<String> positions = new ArrayList<>(FILTER_HASHES);
+        for (int i = 0; i < FILTER_HASHES; i++) {
+            positions.add(String.valueOf(Math.floorMod(h1 + i * h2, FILTER_BITS)));
+        }
+        return positions;
+    }
+
+    /**
+     * DB 에 행이 있을 수 있는지 여부, false 이면 행이 없는 것이 확실하다
+     * filter 가 없거나 Redis 를 사용할 수 없으면 true 를 반환해 DB 를 조회하게 한다
+     */
+    public boolean mightContain(String resourceType, Long memberId, Long resourceId) {
+        try {
+            Long result = stringRedisTemplate.execute(CHECK_SCRIPT, List.of(keys(resourceType).get(0)),
+                positions(memberId, resourceId).toArray());
+            return result == null || result != 0L;
+        } catch (DataAccessException e) {
+            log.warn("Failed to check like filter of {}", resourceType, e);
+            return true;
+        }
+    }
+
+    /**
+     * DB 에 반영할 좋아요를 filter 에 기록한다
+     * 토글 스크립트를 거치지 않고 대기열에 들어온 좋아요도 filter 에 빠지지 않도록 DB 반영 전에 호출한다
+     */
+    public void markAll(List<LikeInfo> likeInfos) {
+        Map<String, List<LikeInfo>> byResourceType = likeInfos.stream()
+            .collect(Collectors.groupingBy(LikeInfo::resourceType));
+
+        byResourceType.forEach((resourceType, likes) -> {
+            List<String> positions = new ArrayList<>(likes.size() * FILTER_HASHES);
+            likes.forEach(like -> positions.addAll(positions(like.memberId(), like.resourceId())));
+            try {
+                stringRedisTemplate.execute(MARK_SCRIPT, keys(resourceType), positions.toArray());
+            } catch (DataAccessException e) {
+                log.warn("Failed to mark like filter of {}", resourceType, e);
+            }
+        });
+    }
+
+    /**
+     * 서버 시작 후 likes 테이블로 filter 를 다시 만든다
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        for (String resourceType : RESOURCE_TYPES) {
+            try {
+                rebuild(resourceType);
+            } catch (Exception e) {
+                log.error("Failed to rebuild like filter of {}", resourceType, e);
+            }
+        }
+    }
+
+    /**
+     * 리소스 타입의 filter 를 likes 테이블로 다시 만든다
+     * 다른 서버가 잠금을 가지고 있으면 다시 만들지 않으며, 실패하면 다른 서버가 다시 시도할 수 있도록 잠금을 푼다
+     * @return 다시 만들었으면 true
+     */
+    public boolean rebuild(String resourceType) {
+        String lockKey = String.format(LOCK_KEY_FORMAT, resourceType);
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, REBUILD_LOCK_TTL))) {
+            log.info("Like filter of {} is rebuilt by another server", resourceType);
+            return false;
+        }
+
+        try {
+            rebuildFromDatabase(resourceType);
+            return true;
+        } catch (RuntimeException e) {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+            throw e;
+        }
+    }
+
+    private void rebuildFromDatabase(String resourceType) {
+        String rebuildKey = String.format(REBUILD_KEY_FORMAT, resourceType);
+        stringRedisTemplate.delete(rebuildKey);
+
+        List<String> batch = new ArrayList<>();
+        int[] rows = {0};
+        jdbcTemplate.query("SELECT member_id, resource_id FROM likes WHERE resource_type = ?", resultSet -> {
+            batch.addAll(positions(resultSet.getLong(1), resultSet.getLong(2)));
+            rows[0]++;
+            if (batch.size() >= REBUILD_BATCH_SIZE * FILTER_HASHES) {
+                stringRedisTemplate.execute(MARK_SCRIPT, List.of(rebuildKey), batch.toArray());
+                batch.clear();
+            }
+        }, resourceType);
+        if (!batch.isEmpty()) {
+            stringRedisTemplate.execute(MARK_SCRIPT, List.of(rebuildKey), batch.toArray());
+        }
+
+        List<String> keys = keys(resourceType);
+        stringRedisTemplate.execute(PUBLISH_SCRIPT, List.of(rebuildKey, keys.get(0), keys.get(1)));
+        log.info("Rebuilt like filter of {} from {} rows", resourceType, rows[0]);
+    }
+
+    // MurmurHash3 의 64비트 finalizer
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93fe1a85ec5L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
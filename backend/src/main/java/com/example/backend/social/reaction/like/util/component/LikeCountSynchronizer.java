@@ -4,11 +4,21 @@ import static com.example.backend.entity.QCommentEntity.*;
 import static com.example.backend.entity.QLikeEntity.*;
 import static com.example.backend.entity.QPostEntity.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.backend.global.event.PostLikeCountSyncEvent;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
@@ -17,42 +27,143 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 게시물과 댓글의 likeCount 를 likes 테이블의 실제 좋아요 수와 맞추는 동기화 작업
+ * 좋아요가 DB 에 반영된 리소스만 기록해두었다가 해당 리소스만 다시 계산하고,
+ * 전체 테이블 보정은 하루 한 번 트래픽이 적은 시간에 ID 구간별로 나누어 실행한다.
+ * Redis 의 좋아요 수가 분산 카운터로 기록되다가 잠잠해지면 기본 키로 다시 합친다.
+ * 게시물 좋아요 수를 다시 계산하면 PostLikeCountSyncEvent 를 발행하여 캐시된 피드의 좋아요 수를 갱신하게 한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LikeCountSynchronizer {
 
+    // 한 번의 UPDATE 에서 다시 계산할 ID 수 (전체 보정에서는 ID 구간의 크기)
+    private static final int SYNC_CHUNK_SIZE = 500;
+
     private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLikeService redisLikeService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // 좋아요가 변경되어 다시 계산해야 하는 게시물, 댓글/대댓글 ID
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyCommentIds = ConcurrentHashMap.newKeySet();
 
     /**
-     * 30초마다 Post 엔티티와 Comment 엔티티의 likeCount를 동기화
+     * 좋아요가 변경된 리소스를 동기화 대상으로 기록
+     * @param resourceType POST, COMMENT, REPLY
+     * @param resourceId 리소스 ID
+     */
+    public void markDirty(String resourceType, Long resourceId) {
+        if ("POST".equals(resourceType)) {
+            dirtyPostIds.add(resourceId);
+        } else if ("COMMENT".equals(resourceType) || "REPLY".equals(resourceType)) {
+            dirtyCommentIds.add(resourceId);
+        }
+    }
+
+    /**
+     * 30초마다 좋아요가 변경된 Post 엔티티와 Comment 엔티티의 likeCount를 동기화
+     * 분산 기록이 끝난 Redis 좋아요 수도 함께 기본 키로 합친다
      */
     @Async
-    @Scheduled(fixedRate = 30000) // 30초마다 실행
-    @Transactional
+    @Scheduled(fixedDelay = 30_000)
     public void synchronizeLikeCounts() {
-        log.info("========좋아요 동기화 시작========");
+        // 각 단계는 서로 독립적이므로 한 단계가 실패해도 나머지는 실행한다
+        try {
+            int foldedCounts = redisLikeService.foldShardedLikeCounts();
+            if (foldedCounts > 0) {
+                log.info("분산 좋아요 수 {}개 -> 기본 키로 병합 완료", foldedCounts);
+            }
+        } catch (Exception e) {
+            log.error("분산 좋아요 수 병합 중 에러 발생: {}", e.getMessage(), e);
+        }
+
+        long updatedPosts = synchronizeDirty(dirtyPostIds, postEntity.id::in, this::synchronizePostLikeCounts,
+            postIds -> applicationEventPublisher.publishEvent(new PostLikeCountSyncEvent(postIds)));
+        long updatedComments = synchronizeDirty(dirtyCommentIds, commentEntity.id::in,
+            this::synchronizeCommentLikeCounts, commentIds -> { });
+
+        if (updatedPosts > 0 || updatedComments > 0) {
+            log.info("좋아요 수 동기화 완료: 게시물 {}회, 댓글{}회", updatedPosts, updatedComments);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 30분에 모든 Post 엔티티와 Comment 엔티티의 likeCount를 보정
+     * 서버 재시작으로 잃어버린 변경 기록이나 DB 를 직접 수정한 경우를 바로잡기 위한 작업으로,
+     * ID 구간마다 별도 트랜잭션으로 실행해 테이블 전체를 오래 잠그지 않는다.
+     */
+    @Async
+    @Scheduled(cron = "0 30 4 * * *")
+    public void repairAllLikeCounts() {
+        log.info("========좋아요 수 전체 보정 시작========");
         try {
-            // Post 엔티티 likeCount 동기화
-            int updatedPosts = synchronizePostLikeCounts();
-            // Comment 엔티티 likeCount 동기화
-            int updatedComments = synchronizeCommentLikeCounts();
+            Long maxPostId = queryFactory.select(postEntity.id.max()).from(postEntity).fetchOne();
+            Long maxCommentId = queryFactory.select(commentEntity.id.max()).from(commentEntity).fetchOne();
+
+            long updatedPosts = synchronizeRanges(maxPostId, postEntity.id::between,
+                this::synchronizePostLikeCounts);
+            long updatedComments = synchronizeRanges(maxCommentId, commentEntity.id::between,
+                this::synchronizeCommentLikeCounts);
 
-            log.info("좋아요 수 동기화 완료: 게시물 {}회, 댓글{}회",
-                    updatedPosts, updatedComments);
+            log.info("좋아요 수 전체 보정 완료: 게시물 {}회, 댓글{}회", updatedPosts, updatedComments);
         } catch (Exception e) {
-            log.error("좋아요 수 동기화 중 에러 발생: {}", e.getMessage(), e);
+            log.error("좋아요 수 전체 보정 중 에러 발생: {}", e.getMessage(), e);
         }
     }
 
+    private long synchronizeDirty(Set<Long> dirtyIds, Function<List<Long>, BooleanExpression> toTarget,
+        Function<BooleanExpression, Long> synchronizer, Consumer<List<Long>> onSynchronized) {
+        List<Long> ids = new ArrayList<>();
+        for (Long id : dirtyIds) {
+            if (dirtyIds.remove(id)) {
+                ids.add(id);
+            }
+        }
+
+        long updated = 0;
+        for (int from = 0; from < ids.size(); from += SYNC_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SYNC_CHUNK_SIZE, ids.size()));
+            try {
+                updated += executeInTransaction(synchronizer, toTarget.apply(chunk));
+                onSynchronized.accept(List.copyOf(chunk));
+            } catch (RuntimeException e) {
+                // 반영하지 못한 ID 는 다음 동기화에서 다시 계산하고, 나머지 chunk 는 계속 동기화한다
+                dirtyIds.addAll(chunk);
+                log.error("좋아요 수 동기화 중 에러 발생, {}개는 다음 동기화에서 다시 계산: {}", chunk.size(), e.getMessage(), e);
+            }
+        }
+        return updated;
+    }
+
+    private long synchronizeRanges(Long maxId, RangeTarget toTarget, Function<BooleanExpression, Long> synchronizer) {
+        if (maxId == null) {
+            return 0;
+        }
+
+        long updated = 0;
+        for (long from = 1; from <= maxId; from += SYNC_CHUNK_SIZE) {
+            updated += executeInTransaction(synchronizer, toTarget.apply(from, from + SYNC_CHUNK_SIZE - 1));
+        }
+        return updated;
+    }
+
+    private long executeInTransaction(Function<BooleanExpression, Long> synchronizer, BooleanExpression target) {
+        Long updated = transactionTemplate.execute(status -> synchronizer.apply(target));
+        return updated == null ? 0 : updated;
+    }
+
     /**
      * 포스트 엔티티의 좋아요 수를 서브 쿼리를 이용해 동기화합니다.
-     * 각 포스트마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
+     * 대상 포스트마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
      * 현재 저장된 값과 다르면 업데이트합니다.
      *
      * @return 업데이트된 포스트 건수
      */
-    private int synchronizePostLikeCounts() {
+    private long synchronizePostLikeCounts(BooleanExpression target) {
         // 포스트마다 좋아요 수를 계산하는 서브 쿼리
         NumberExpression<Long> likeCountSubQuery = Expressions.numberTemplate(
             Long.class,
@@ -66,28 +177,26 @@ public class LikeCountSynchronizer {
                 )
         );
 
-        // 삭제되지 않은 포스트 중, 서브 쿼리 결과와 현재 likeCount가 다른 포스트 업데이트
-        long updatedPosts = queryFactory
+        // 삭제되지 않은 대상 포스트 중, 서브 쿼리 결과와 현재 likeCount가 다른 포스트 업데이트
+        return queryFactory
             .update(postEntity)
             .set(postEntity.likeCount, likeCountSubQuery)
             .where(
+                target,
                 postEntity.isDeleted.isFalse(),
                 likeCountSubQuery.ne(postEntity.likeCount)
             )
             .execute();
-
-        log.info("게시글 {}개 -> 좋아요 수 동기화 완료", updatedPosts);
-        return (int) updatedPosts;
     }
 
     /**
      * 댓글 엔티티의 좋아요 수를 서브 쿼리를 이용해 동기화합니다.
-     * 각 댓글마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
+     * 댓글과 대댓글은 같은 테이블에 있으므로 COMMENT, REPLY 좋아요를 함께 계산한 후,
      * 현재 저장된 값과 다르면 업데이트합니다.
      *
      * @return 업데이트된 댓글 건수
      */
-    private int synchronizeCommentLikeCounts() {
+    private long synchronizeCommentLikeCounts(BooleanExpression target) {
         // 댓글마다 좋아요 수를 계산하는 서브 쿼리
         NumberExpression<Long> likeCountSubQuery = Expressions.numberTemplate(
             Long.class,
@@ -96,22 +205,25 @@ public class LikeCountSynchronizer {
                 .from(likeEntity)
                 .where(
                     likeEntity.resourceId.eq(commentEntity.id),
-                    likeEntity.resourceType.eq("COMMENT"),
+                    likeEntity.resourceType.in("COMMENT", "REPLY"),
                     likeEntity.isLiked.isTrue()
                 )
         );
 
-        // 삭제되지 않은 댓글 중, 서브 쿼리 결과와 현재 likeCount가 다른 댓글 업데이트
-        long updatedComments = queryFactory
+        // 삭제되지 않은 대상 댓글 중, 서브 쿼리 결과와 현재 likeCount가 다른 댓글 업데이트
+        return queryFactory
             .update(commentEntity)
             .set(commentEntity.likeCount, likeCountSubQuery)
             .where(
+                target,
                 commentEntity.isDeleted.isFalse(),
                 likeCountSubQuery.ne(commentEntity.likeCount)
             )
             .execute();
+    }
 
-        log.info("댓글/대댓글 {}개 -> 좋아요 수 동기화 완료", updatedComments);
-        return (int) updatedComments;
+    @FunctionalInterface
+    private interface RangeTarget {
+        BooleanExpression apply(Long from, Long to);
     }
 }
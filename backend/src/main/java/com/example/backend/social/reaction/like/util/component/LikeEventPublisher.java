@@ -14,10 +14,11 @@ public class LikeEventPublisher {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final OwnerChecker ownerChecker;
     
-    public void publishLikeEvent(MemberEntity member, Object resource, Long resourceId, String resourceType) {
+    public void publishLikeEvent(MemberEntity member, Object resource, Long resourceId, String resourceType,
+        boolean isLiked) {
         Long ownerId = ownerChecker.getOwnerIdFromResource(resource);
         applicationEventPublisher.publishEvent(
-            LikeEvent.create(member.getUsername(), ownerId, resourceId, resourceType)
+            LikeEvent.create(member.getUsername(), ownerId, resourceId, resourceType, isLiked)
         );
     }
 }
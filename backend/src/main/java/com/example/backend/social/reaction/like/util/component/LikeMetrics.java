@@ -0,0 +1,37 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * LikeMetrics
+ * 분산 카운터로 기록한 토글과, 상태는 뒤집혔지만 분산 카운터 기록에 실패한 토글 수를 기록하는 컴포넌트
+ * 두 기록은 슬롯이 달라 원자적이지 않으므로, 실패 수가 좋아요 수가 어긋났을 수 있는 토글 수의 상한이다
+ * @author Metronon
+ * @since 2025-03-23
+ */
+@Component
+public class LikeMetrics {
+
+    private final Counter shardIncrement;
+    private final Counter shardIncrementFailed;
+
+    public LikeMetrics(MeterRegistry meterRegistry) {
+        this.shardIncrement = Counter.builder("like.count.shard.increment")
+            .description("분산 카운터에 좋아요 수를 기록한 토글 수")
+            .register(meterRegistry);
+        this.shardIncrementFailed = Counter.builder("like.count.shard.increment.failed")
+            .description("좋아요 상태를 뒤집은 뒤 분산 카운터 기록에 실패한 토글 수")
+            .register(meterRegistry);
+    }
+
+    public void recordShardIncrement() {
+        shardIncrement.increment();
+    }
+
+    public void recordShardIncrementFailed() {
+        shardIncrementFailed.increment();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.converter.LikeConverter;
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 에 기록할 수 없을 때 좋아요 동기화 대기열을 로컬 파일에 이어 쓰는 저널
+ * Redis 가 복구되면 저널의 좋아요를 Stream 으로 옮겨, DB 반영과 ACK 는 Stream 에서 일관되게 처리한다.
+ *
+ * @author Metronon
+ * @since 2025-03-18
+ */
+@Slf4j
+@Component
+public class LikeSyncJournal {
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private final Path journalPath;
+    private final Path replayPath;
+
+    public LikeSyncJournal(@Value("${custom.like.sync.journal-path}") String journalPath) {
+        this.journalPath = Path.of(journalPath);
+        this.replayPath = Path.of(journalPath + ".replay");
+    }
+
+    public synchronized void append(LikeInfo likeInfo) {
+        try {
+            Path parent = journalPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+                writer.write(String.join(FIELD_SEPARATOR, LikeConverter.toSyncFields(likeInfo).values()));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append like to sync journal", e);
+        }
+    }
+
+    /**
+     * 저널에 쌓인 좋아요를 순서대로 넘기고, 모두 넘긴 후 저널을 삭제한다
+     * 이전에 다 넘기지 못한 replay 파일이 있으면 그 파일을, 없으면 현재 저널을 replay 파일로 옮겨 넘긴다
+     * 중간에 실패하면 replay 파일이 남아 처음부터 다시 넘기므로 같은 좋아요가 두 번 전달될 수 있다
+     */
+    public synchronized int drainTo(Consumer<LikeInfo> consumer) {
+        try {
+            if (!Files.exists(replayPath)) {
+                if (!Files.exists(journalPath)) {
+                    return 0;
+                }
+                Files.move(journalPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            int drained = 0;
+            for (String line : Files.readAllLines(replayPath, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    consumer.accept(fromLine(line));
+                    drained++;
+                }
+            }
+            Files.delete(replayPath);
+            return drained;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay like sync journal", e);
+        }
+    }
+
+    private static LikeInfo fromLine(String line) {
+        String[] values = line.split(FIELD_SEPARATOR, -1);
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < LikeConverter.SYNC_FIELDS.size() && i < values.length; i++) {
+            fields.put(LikeConverter.SYNC_FIELDS.get(i), values[i]);
+        }
+        return LikeConverter.fromSyncFields(fields);
+    }
+}
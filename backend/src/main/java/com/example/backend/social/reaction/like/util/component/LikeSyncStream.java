@@ -0,0 +1,206 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.converter.LikeConverter;
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 DB 동기화 대기열을 Redis Stream 과 Consumer Group 으로 관리
+ * 모든 서버가 같은 Stream 에 기록하고 같은 Group 으로 나누어 소비하며,
+ * DB 반영 후 ACK 한 항목만 삭제하므로 서버가 재시작되어도 반영되지 않은 좋아요는 다시 읽힌다.
+ *
+ * @author Metronon
+ * @since 2025-03-18
+ */
+@Slf4j
+@Component
+public class LikeSyncStream {
+    private static final String STREAM_KEY = "like:sync:stream";
+    private static final String GROUP = "like-sync";
+
+    // 여러 번 전달되어도 반영되지 않은 항목을 옮겨 두는 Stream, 원인을 확인한 뒤 다시 추가할 수 있도록 남겨 둔다
+    private static final String DEAD_LETTER_KEY = "like:sync:dead-letter";
+    private static final long DEAD_LETTER_MAX_LENGTH = 10_000;
+
+    // 이 횟수만큼 전달되고도 ACK 되지 않은 항목은 반영할 수 없는 항목으로 본다
+    private static final long MAX_DELIVERIES = 5;
+
+    // 다른 서버가 읽고 이 시간 동안 ACK 하지 않은 항목은 해당 서버가 중단된 것으로 보고 가져온다
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofSeconds(60);
+
+    // 처리할 항목 없이 이 시간 동안 읽지 않은 Consumer 는 종료된 서버로 보고 Group 에서 제거한다
+    private static final Duration CONSUMER_MAX_IDLE = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String consumerName;
+
+    public LikeSyncStream(StringRedisTemplate stringRedisTemplate,
+        @Value("${custom.like.sync.consumer:}") String consumerName) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.consumerName = consumerName.isBlank() ? defaultConsumerName() : consumerName;
+    }
+
+    /**
+     * 설정된 이름이 없을 때 사용하는 프로세스마다 다른 Consumer 이름
+     * 재시작 전 이름으로 읽고 ACK 하지 못한 항목은 claimStale 로 다른 Consumer 가 가져간다
+     */
+    static String defaultConsumerName() {
+        return System.getenv().getOrDefault("HOSTNAME", "like-sync") + "-" + ProcessHandle.current().pid()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        createGroup();
+        removeIdleConsumers();
+    }
+
+    public void createGroup() {
+        try {
+            streamOps().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (DataAccessException e) {
+            // 이미 Group 이 있거나(BUSYGROUP) Redis 에 연결할 수 없는 경우, 다음 읽기에서 다시 시도
+            log.debug("Like sync group was not created: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리할 항목이 없고 오래 읽지 않은 다른 Consumer 를 제거한다
+     * 프로세스마다 Consumer 이름이 달라 재시작할 때마다 이전 Consumer 가 남기 때문에 시작할 때 정리한다
+     */
+    public void removeIdleConsumers() {
+        try {
+            List<XInfoConsumer> idleConsumers = streamOps().consumers(STREAM_KEY, GROUP).stream()
+                .filter(consumer -> !consumerName.equals(consumer.consumerName()))
+                .filter(consumer -> consumer.pendingCount() == 0)
+                .filter(consumer -> consumer.idleTimeMs() >= CONSUMER_MAX_IDLE.toMillis())
+                .toList();
+            for (XInfoConsumer consumer : idleConsumers) {
+                streamOps().deleteConsumer(STREAM_KEY, Consumer.from(GROUP, consumer.consumerName()));
+            }
+        } catch (DataAccessException e) {
+            log.debug("Idle like sync consumers were not removed: {}", e.getMessage());
+        }
+    }
+
+    public void add(LikeInfo likeInfo) {
+        streamOps().add(STREAM_KEY, LikeConverter.toSyncFields(likeInfo));
+    }
+
+    /**
+     * 이 서버가 읽었지만 아직 ACK 하지 않은 항목을 다시 읽는다 (재시작 또는 DB 반영 실패 후 재처리)
+     */
+    public List<MapRecord<String, String, String>> readPending(int count) {
+        return read(count, ReadOffset.from("0"));
+    }
+
+    /**
+     * 다른 서버가 오래 처리하지 못한 항목을 이 서버로 가져온다
+     */
+    public List<MapRecord<String, String, String>> claimStale(int count) {
+        PendingMessages pending = streamOps().pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+
+        List<RecordId> staleIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (!consumerName.equals(message.getConsumerName())
+                && message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0) {
+                staleIds.add(message.getId());
+            }
+        }
+        if (staleIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return streamOps().claim(STREAM_KEY, GROUP, consumerName, CLAIM_MIN_IDLE, staleIds.toArray(RecordId[]::new));
+    }
+
+    /**
+     * 이 서버가 MAX_DELIVERIES 번 이상 읽고도 반영하지 못한 항목을 dead-letter Stream 으로 옮기고 ACK 한다
+     * 옮긴 항목에는 원래 항목 ID 와 전달 횟수를 함께 기록한다
+     * @return 옮긴 항목 수
+     */
+    public int deadLetterExhausted(int count) {
+        PendingMessages pending = streamOps().pending(
+            STREAM_KEY, Consumer.from(GROUP, consumerName), Range.unbounded(), count);
+
+        List<RecordId> exhaustedIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getTotalDeliveryCount() < MAX_DELIVERIES) {
+                continue;
+            }
+            String id = message.getIdAsString();
+            for (MapRecord<String, String, String> record : streamOps().range(STREAM_KEY, Range.closed(id, id))) {
+                Map<String, String> fields = new HashMap<>(record.getValue());
+                fields.put("sourceId", id);
+                fields.put("deliveryCount", String.valueOf(message.getTotalDeliveryCount()));
+                streamOps().add(DEAD_LETTER_KEY, fields);
+            }
+            exhaustedIds.add(message.getId());
+        }
+        if (exhaustedIds.isEmpty()) {
+            return 0;
+        }
+        streamOps().trim(DEAD_LETTER_KEY, DEAD_LETTER_MAX_LENGTH, true);
+        acknowledge(exhaustedIds);
+        return exhaustedIds.size();
+    }
+
+    /**
+     * 아직 어떤 서버도 읽지 않은 항목을 읽는다
+     */
+    public List<MapRecord<String, String, String>> readNew(int count) {
+        return read(count, ReadOffset.lastConsumed());
+    }
+
+    /**
+     * DB 에 반영된 항목을 ACK 하고 Stream 에서 삭제한다
+     */
+    public void acknowledge(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        streamOps().acknowledge(STREAM_KEY, GROUP, ids);
+        streamOps().delete(STREAM_KEY, ids);
+    }
+
+    private List<MapRecord<String, String, String>> read(int count, ReadOffset readOffset) {
+        List<MapRecord<String, String, String>> records = streamOps().read(
+            Consumer.from(GROUP, consumerName),
+            StreamReadOptions.empty().count(count),
+            StreamOffset.create(STREAM_KEY, readOffset));
+        return records == null ? new ArrayList<>() : records;
+    }
+
+    private StreamOperations<String, String, String> streamOps() {
+        return stringRedisTemplate.opsForStream();
+    }
+}
@@ -1,20 +1,41 @@
 package com.example.backend.social.reaction.like.util.component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 import com.example.backend.entity.LikeEntity;
 import com.example.backend.entity.LikeRepository;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
 import com.example.backend.social.reaction.like.dto.LikeStateInfo;
+import com.example.backend.social.reaction.like.dto.LikeToggleResult;
+import com.example.backend.social.reaction.like.util.LikeStorageLayout;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisLikeService {
@@ -22,19 +43,151 @@ public class RedisLikeService {
     private final StringRedisTemplate stringRedisTemplate;
     private final LikeRepository likeRepository;
     private final ObjectMapper objectMapper;
+    private final RedisScript<List<Object>> likeToggleScript;
+    private final RedisScript<Long> likeCountFoldScript;
+    private final LikeBloomFilter likeBloomFilter;
+    private final LikeMetrics likeMetrics;
     private static final Duration CACHE_TTL = Duration.ofDays(7);
 
+    // 좋아요 수를 나누어 기록할 분산 카운터 수
+    private static final int LIKE_COUNT_SHARDS = 8;
+
+    // RATE_WINDOW 동안 토글이 HOT_LIKE_RATE 번 이상이면 분산 카운터로 전환하고,
+    // 마지막 토글 후 SHARDED_DURATION 동안 토글이 없으면 LikeCountSynchronizer 가 기본 키로 합친다
+    private static final int HOT_LIKE_RATE = 200;
+    private static final Duration RATE_WINDOW = Duration.ofSeconds(10);
+    private static final Duration SHARDED_DURATION = Duration.ofMinutes(10);
+
+    // 좋아요 상태 해시의 만료 시각은 처음 기록할 때 정하며, 필드가 STATE_HASH_MAX_FIELDS 를 넘으면
+    // 남은 TTL 을 STATE_HASH_OVERSIZED_TTL 로 줄인다. DB 동기화가 끝난 뒤에 만료되도록 충분히 길게 둔다
+    private static final int STATE_HASH_MAX_FIELDS = 50_000;
+    private static final Duration STATE_HASH_OVERSIZED_TTL = Duration.ofHours(1);
+
+    // 토글 스크립트가 반환하는 좋아요 수 기록 방식
+    private static final int COUNT_MODE_BASE_WITH_SHARDS = 1;
+    private static final int COUNT_MODE_SHARD = 2;
+
+    // 좋아요 상태를 저장하는 방식 (LEGACY, DUAL, COMPACT)
+    @Value("${custom.like.storage.layout}")
+    private LikeStorageLayout storageLayout;
+
+    /**
+     * 좋아요 상태를 뒤집고 좋아요 수를 갱신한 뒤 새 좋아요 수를 반환
+     * Redis 에 상태가 있으면 스크립트 한 번으로 처리하고, 없으면 filter 로 DB 에 행이 없음을 확인하거나
+     * DB 상태를 조회해 다시 실행한다. 분산 기록 중인 리소스는 좋아요 수를 분산 카운터에 따로 기록한다.
+     */
+    public LikeToggleResult toggleLike(String likeKey, String countKey, Long memberId, Long resourceId, String resourceType) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object> result = executeToggle(likeKey, countKey, "", new LikeInfo(memberId, resourceId, resourceType, null, now, true));
+        boolean isNewLike = false;
+        if (((Number) result.get(0)).intValue() == 0) {
+            // filter 에 없으면 DB 에 행이 없는 것이 확실하고, 그 외에는 DB 를 확인한다
+            Optional<LikeEntity> likeOp = likeBloomFilter.mightContain(resourceType, memberId, resourceId)
+                ? likeRepository.findByMemberIdAndResourceIdAndResourceType(memberId, resourceId, resourceType)
+                : Optional.empty();
+            String dbState = likeOp.map(LikeEntity::isLiked).orElse(false) ? "1" : "0";
+            result = executeToggle(likeKey, countKey, dbState,
+                new LikeInfo(memberId, resourceId, resourceType, likeOp.isEmpty() ? now : null, now, true));
+            // 다시 실행하기 전에 다른 요청이 Redis 에 상태를 기록했으면 넘겨준 DB 상태는 사용되지 않는다
+            isNewLike = likeOp.isEmpty() && ((Number) result.get(0)).intValue() == 2;
+        }
+
+        boolean liked = ((Number) result.get(1)).intValue() == 1;
+        if (((Number) result.get(4)).intValue() == 1) {
+            stringRedisTemplate.opsForSet().add(RedisKeyUtil.getShardedLikeCountsKey(), countKey);
+        }
+
+        long likeCount = switch (((Number) result.get(2)).intValue()) {
+            case COUNT_MODE_SHARD -> incrementShard(countKey, memberId, liked ? 1 : -1);
+            case COUNT_MODE_BASE_WITH_SHARDS -> getLikeCount(countKey);
+            default -> ((Number) result.get(3)).longValue();
+        };
+        return new LikeToggleResult(liked, isNewLike, likeCount);
+    }
+
+    private List<Object> executeToggle(String likeKey, String countKey, String dbState, LikeInfo likedInfo) {
+        LikeInfo unlikedInfo = new LikeInfo(likedInfo.memberId(), likedInfo.resourceId(), likedInfo.resourceType(),
+            likedInfo.createDate(), likedInfo.modifyDate(), false);
+
+        // 모두 리소스 hash tag 를 가진 키라 클러스터에서도 한 슬롯에서 실행된다
+        List<String> keys = List.of(likeKey, countKey, RedisKeyUtil.getLikeRateKey(countKey),
+            RedisKeyUtil.getLikeCountShardedKey(countKey), RedisKeyUtil.getLikeCountShardsKey(countKey),
+            RedisKeyUtil.getLikeStateKey(likedInfo.resourceType(), likedInfo.resourceId()));
+        List<String> args = List.of(
+            String.valueOf(CACHE_TTL.toSeconds()), dbState, serialize(likedInfo), serialize(unlikedInfo),
+            String.valueOf(HOT_LIKE_RATE), String.valueOf(RATE_WINDOW.toSeconds()),
+            String.valueOf(SHARDED_DURATION.toSeconds()), storageLayout.name(), String.valueOf(likedInfo.memberId()),
+            String.valueOf(STATE_HASH_MAX_FIELDS), String.valueOf(STATE_HASH_OVERSIZED_TTL.toSeconds()));
+
+        return stringRedisTemplate.execute(likeToggleScript, keys, args.toArray());
+    }
+
+    /**
+     * 같은 회원의 토글은 항상 같은 분산 카운터에 기록한다
+     * 분산 카운터 갱신과 좋아요 수를 이루는 키들의 조회를 파이프라인 한 번으로 처리하고 합한 좋아요 수를 반환
+     * 분산 카운터는 상태와 슬롯이 달라 토글 스크립트와 원자적으로 기록되지 않는다. 상태를 뒤집은 뒤 이 기록이
+     * 실패하면 해당 리소스의 Redis 좋아요 수가 1 만큼 어긋나므로, 실패를 로그와 지표로 남기고 예외를 그대로 던진다
+     */
+    private long incrementShard(String countKey, Long memberId, long delta) {
+        String shardKey = RedisKeyUtil.getLikeCountShardKey(countKey, Math.floorMod(memberId, LIKE_COUNT_SHARDS) + 1);
+        List<String> countKeys = getCountKeys(countKey);
+
+        List<Object> results;
+        try {
+            results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.incrBy(shardKey, delta);
+                stringConnection.expire(shardKey, CACHE_TTL.toSeconds());
+                countKeys.forEach(stringConnection::get);
+                return null;
+            });
+        } catch (DataAccessException e) {
+            likeMetrics.recordShardIncrementFailed();
+            log.warn("Like state toggled but shard count update failed: key={}, delta={}", shardKey, delta, e);
+            throw e;
+        }
+        likeMetrics.recordShardIncrement();
+        return sumCounts(results.subList(2, results.size()));
+    }
+
+    // 기본 키와 분산 카운터 키
+    private static List<String> getCountKeys(String countKey) {
+        List<String> keys = new ArrayList<>(LIKE_COUNT_SHARDS + 1);
+        keys.add(countKey);
+        for (int shard = 1; shard <= LIKE_COUNT_SHARDS; shard++) {
+            keys.add(RedisKeyUtil.getLikeCountShardKey(countKey, shard));
+        }
+        return keys;
+    }
+
+    private static long sumCounts(List<?> counts) {
+        if (counts == null) {
+            return 0L;
+        }
+        return counts.stream()
+            .filter(Objects::nonNull)
+            .mapToLong(count -> Long.parseLong(count.toString()))
+            .sum();
+    }
+
+    // RedisTemplate<String, LikeInfo> 로 저장한 값과 같은 형식으로 직렬화
+    private String serialize(LikeInfo likeInfo) {
+        return new String(((RedisSerializer<LikeInfo>) redisTemplate.getValueSerializer()).serialize(likeInfo),
+            StandardCharsets.UTF_8);
+    }
+
     public LikeStateInfo getLikeState(String likeKey, Long memberId, Long resourceId, String resourceType) {
         boolean currentlyLiked = false;
         boolean isNewLike = false;
 
-        Boolean hasKey = redisTemplate.hasKey(likeKey);
-        if (Boolean.TRUE.equals(hasKey)) {
-            // Redis에 키가 있는 경우
-            LikeInfo likeInfo = redisTemplate.opsForValue().get(likeKey);
-            if (likeInfo != null) {
-                currentlyLiked = likeInfo.isActive();
-            }
+        Boolean cachedState = getCachedLikeState(likeKey, memberId, resourceId, resourceType);
+        if (cachedState != null) {
+            // Redis에 상태가 있는 경우
+            currentlyLiked = cachedState;
+        } else if (!likeBloomFilter.mightContain(resourceType, memberId, resourceId)) {
+            // filter 에 없으면 DB 에 행이 없는 것이 확실하다
+            isNewLike = true;
         } else {
             // Redis에 없는 경우 DB 확인
             Optional<LikeEntity> likeOp = likeRepository.findByMemberIdAndResourceIdAndResourceType(memberId, resourceId, resourceType);
@@ -48,9 +201,96 @@ public class RedisLikeService {
         return new LikeStateInfo(currentlyLiked, isNewLike);
     }
 
+    // 저장 방식에 따라 상태 해시, 좋아요 정보 키 순으로 읽는다, Redis 에 없으면 null
+    private Boolean getCachedLikeState(String likeKey, Long memberId, Long resourceId, String resourceType) {
+        if (storageLayout.usesCompact()) {
+            Object state = stringRedisTemplate.opsForHash()
+                .get(RedisKeyUtil.getLikeStateKey(resourceType, resourceId), String.valueOf(memberId));
+            if (state != null) {
+                return LikeStorageLayout.LIKED.equals(state);
+            }
+        }
+        if (storageLayout.usesLegacy()) {
+            LikeInfo likeInfo = redisTemplate.opsForValue().get(likeKey);
+            if (likeInfo != null) {
+                return likeInfo.isActive();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 여러 리소스에 대한 회원의 좋아요 여부를 한 번에 조회
+     * Redis 의 상태 해시는 파이프라인 한 번, 좋아요 정보 키는 MGET 한 번으로 읽고,
+     * Redis 에 없는 리소스만 DB 에서 한 번의 쿼리로 확인한다
+     *
+     * @return 요청한 순서대로 리소스 ID 별 좋아요 여부
+     */
+    public Map<Long, Boolean> getLikeStates(Long memberId, String resourceType, List<Long> resourceIds) {
+        Map<Long, Boolean> likeStates = new LinkedHashMap<>();
+        if (resourceIds.isEmpty()) {
+            return likeStates;
+        }
+
+        // 순서를 유지하기 위해 자리를 먼저 잡아두고 Redis, DB 결과로 채운다
+        resourceIds.forEach(resourceId -> likeStates.put(resourceId, false));
+
+        List<Long> missedIds = resourceIds;
+        if (storageLayout.usesCompact()) {
+            String memberField = String.valueOf(memberId);
+            List<Object> states = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                resourceIds.forEach(resourceId ->
+                    stringConnection.hGet(RedisKeyUtil.getLikeStateKey(resourceType, resourceId), memberField));
+                return null;
+            });
+            missedIds = collectCachedStates(resourceIds, states, likeStates, LikeStorageLayout.LIKED::equals);
+        }
+        if (storageLayout.usesLegacy() && !missedIds.isEmpty()) {
+            List<String> likeKeys = missedIds.stream()
+                .map(resourceId -> RedisKeyUtil.getLikeKey(resourceType, resourceId, memberId))
+                .toList();
+            List<LikeInfo> cached = redisTemplate.opsForValue().multiGet(likeKeys);
+            missedIds = collectCachedStates(missedIds, cached, likeStates, likeInfo -> ((LikeInfo) likeInfo).isActive());
+        }
+
+        if (!missedIds.isEmpty()) {
+            Set<Long> likedIds = new HashSet<>(likeRepository.findLikedResourceIds(memberId, resourceType, missedIds));
+            missedIds.forEach(resourceId -> likeStates.put(resourceId, likedIds.contains(resourceId)));
+        }
+        return likeStates;
+    }
+
+    // Redis 에서 읽은 값을 좋아요 여부로 채우고, 값이 없는 리소스 ID 를 반환
+    private static List<Long> collectCachedStates(List<Long> resourceIds, List<?> values, Map<Long, Boolean> likeStates,
+        Predicate<Object> isLiked) {
+        List<Long> missedIds = new ArrayList<>();
+        for (int i = 0; i < resourceIds.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value != null) {
+                likeStates.put(resourceIds.get(i), isLiked.test(value));
+            } else {
+                missedIds.add(resourceIds.get(i));
+            }
+        }
+        return missedIds;
+    }
+
     public void updateLikeInfo(String likeKey, LikeInfo likeInfo) {
-        redisTemplate.opsForValue().set(likeKey, likeInfo);
-        redisTemplate.expire(likeKey, CACHE_TTL);
+        if (storageLayout.usesLegacy()) {
+            redisTemplate.opsForValue().set(likeKey, likeInfo);
+            redisTemplate.expire(likeKey, CACHE_TTL);
+        }
+        if (storageLayout.usesCompact()) {
+            String stateKey = RedisKeyUtil.getLikeStateKey(likeInfo.resourceType(), likeInfo.resourceId());
+            stringRedisTemplate.opsForHash().put(stateKey, String.valueOf(likeInfo.memberId()),
+                likeInfo.isActive() ? LikeStorageLayout.LIKED : LikeStorageLayout.UNLIKED);
+            // 토글 스크립트와 같이 만료 시각은 해시를 만들 때만 정한다
+            Long ttl = stringRedisTemplate.getExpire(stateKey);
+            if (ttl == null || ttl < 0) {
+                stringRedisTemplate.expire(stateKey, CACHE_TTL);
+            }
+        }
     }
 
     public void updateLikeCount(String countKey, boolean increment) {
@@ -62,11 +302,60 @@ public class RedisLikeService {
         stringRedisTemplate.expire(countKey, CACHE_TTL);
     }
 
+    /**
+     * 좋아요 수 조회, 기본 키와 분산 카운터 키를 파이프라인 한 번으로 읽어 합한다
+     * 분산 카운터 키는 슬롯이 서로 다르므로 MGET 대신 키마다 GET 한다
+     */
     public Long getLikeCount(String countKey) {
-        String countStr = stringRedisTemplate.opsForValue().get(countKey);
-        if (countStr != null) {
-            return Long.parseLong(countStr);
+        List<String> countKeys = getCountKeys(countKey);
+        List<Object> counts = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            countKeys.forEach(stringConnection::get);
+            return null;
+        });
+        return sumCounts(counts);
+    }
+
+    /**
+     * 분산 카운터를 사용한 좋아요 수 중 더 이상 분산 기록되지 않는 것을 기본 키로 합친다
+     * 분산 카운터는 하나씩 GETDEL 로 옮기므로, 옮기는 중에 기록된 값도 잃지 않고 다음 합치기에서 옮겨진다
+     *
+     * @return 기본 키로 합친 좋아요 수 키 개수
+     */
+    public int foldShardedLikeCounts() {
+        Set<String> countKeys = stringRedisTemplate.opsForSet().members(RedisKeyUtil.getShardedLikeCountsKey());
+        if (countKeys == null) {
+            return 0;
+        }
+
+        int folded = 0;
+        for (String countKey : countKeys) {
+            String shardedKey = RedisKeyUtil.getLikeCountShardedKey(countKey);
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(shardedKey))) {
+                continue;
+            }
+
+            long sum = 0;
+            for (int shard = 1; shard <= LIKE_COUNT_SHARDS; shard++) {
+                String count = stringRedisTemplate.opsForValue()
+                    .getAndDelete(RedisKeyUtil.getLikeCountShardKey(countKey, shard));
+                if (count != null) {
+                    sum += Long.parseLong(count);
+                }
+            }
+            if (sum != 0) {
+                stringRedisTemplate.opsForValue().increment(countKey, sum);
+                stringRedisTemplate.expire(countKey, CACHE_TTL);
+            }
+
+            // 옮기는 사이 다시 분산 기록이 시작되었으면 목록에 남겨 다음에 다시 합친다
+            Long finished = stringRedisTemplate.execute(likeCountFoldScript,
+                List.of(shardedKey, RedisKeyUtil.getLikeCountShardsKey(countKey)));
+            if (finished != null && finished == 1L) {
+                stringRedisTemplate.opsForSet().remove(RedisKeyUtil.getShardedLikeCountsKey(), countKey);
+                folded++;
+            }
         }
-        return 0L;
+        return folded;
     }
 }
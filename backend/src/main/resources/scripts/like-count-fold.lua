@@ -0,0 +1,8 @@
+-- 분산 카운터를 기본 키로 옮긴 뒤, 그 사이 다시 분산 기록이 시작되지 않았으면 합치기를 끝낸다
+-- KEYS[1]: 분산 기록 중 표시 키, KEYS[2]: 합치지 않은 분산 카운터가 있음을 나타내는 키
+-- 반환: 합치기를 끝냈는지 여부 (0/1)
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+redis.call('DEL', KEYS[2])
+return 1
@@ -0,0 +1,94 @@
+-- 좋아요 상태를 읽고 뒤집은 뒤 좋아요 수와 TTL 을 함께 갱신한다
+-- 모든 키는 리소스 hash tag 를 가져 클러스터에서도 같은 슬롯에 있다.
+-- 분산 카운터 키는 슬롯이 달라 이 스크립트에서 다루지 않고, 분산 기록 중이면 호출한 쪽에서 기록한다.
+-- 따라서 분산 기록 중에는 상태 변경과 좋아요 수 기록이 원자적이지 않으며, 호출한 쪽의 기록이 실패하면
+-- 좋아요 수가 1 만큼 어긋난다. 실패 횟수는 like.count.shard.increment.failed 지표로 확인한다.
+-- KEYS[1]: 좋아요 정보 키, KEYS[2]: 좋아요 수 키, KEYS[3]: 좋아요 빈도 키
+-- KEYS[4]: 분산 기록 중 표시 키, KEYS[5]: 합치지 않은 분산 카운터가 있음을 나타내는 키
+-- KEYS[6]: 리소스별 좋아요 상태 해시 키
+-- ARGV[1]: TTL (초)
+-- ARGV[2]: DB 의 좋아요 상태 ('' 모름, '0' 없음 또는 취소, '1' 좋아요)
+-- ARGV[3]: 좋아요 상태의 LikeInfo JSON, ARGV[4]: 취소 상태의 LikeInfo JSON
+-- ARGV[5]: 분산 카운터로 전환할 빈도, ARGV[6]: 빈도를 세는 구간 (초), ARGV[7]: 분산 기록 유지 시간 (초)
+-- ARGV[8]: 저장 방식 (LEGACY, DUAL, COMPACT), ARGV[9]: 상태 해시의 회원 ID 필드
+-- ARGV[10]: 상태 해시의 최대 필드 수, ARGV[11]: 최대 필드 수를 넘은 상태 해시의 TTL (초)
+-- 반환: {상태 출처 (0 상태 없음, 1 Redis, 2 DB), 새 좋아요 상태 (0/1),
+--        좋아요 수 기록 방식 (0 기본 키, 1 기본 키에 기록했지만 분산 카운터가 남아 있음, 2 분산 카운터에 기록할 것),
+--        기본 키의 좋아요 수, 분산 기록으로 새로 전환했는지 여부 (0/1)}
+local useLegacy = ARGV[8] ~= 'COMPACT'
+local useCompact = ARGV[8] ~= 'LEGACY'
+
+local source
+local liked
+local state = useCompact and redis.call('HGET', KEYS[6], ARGV[9])
+if state then
+	source = 1
+	liked = state == '1'
+else
+	local raw = useLegacy and redis.call('GET', KEYS[1])
+	if raw then
+		local info = cjson.decode(raw)
+		local active = info['isActive']
+		if active == nil then
+			active = info['active']
+		end
+		source = 1
+		liked = active == true
+	end
+end
+
+if not source then
+	if ARGV[2] == '' then
+		-- Redis 에 상태가 없으면 DB 상태를 넘겨받아 다시 실행한다
+		return {0, 0, 0, 0, 0}
+	end
+	source = 2
+	liked = ARGV[2] == '1'
+end
+
+if useLegacy then
+	redis.call('SET', KEYS[1], liked and ARGV[4] or ARGV[3], 'EX', ARGV[1])
+end
+if useCompact then
+	redis.call('HSET', KEYS[6], ARGV[9], liked and '0' or '1')
+	-- 만료 시각은 해시를 만들 때 정하고 토글마다 늘리지 않는다, 계속 토글되는 해시도 결국 만료되어 다시 구성된다
+	-- 필드가 너무 많아지면 더 일찍 만료시킨다. 만료된 상태는 DB 상태로 다시 채워진다
+	local ttl = redis.call('TTL', KEYS[6])
+	if ttl < 0 then
+		redis.call('EXPIRE', KEYS[6], ARGV[1])
+	elseif ttl > tonumber(ARGV[11]) and redis.call('HLEN', KEYS[6]) > tonumber(ARGV[10]) then
+		redis.call('EXPIRE', KEYS[6], ARGV[11])
+	end
+end
+
+-- 구간 내 토글 수가 기준을 넘으면 좋아요 수를 여러 키에 나누어 기록한다
+local started = 0
+local sharded = redis.call('EXISTS', KEYS[4]) == 1
+if sharded then
+	redis.call('EXPIRE', KEYS[4], ARGV[7])
+else
+	local rate = redis.call('INCR', KEYS[3])
+	if rate == 1 then
+		redis.call('EXPIRE', KEYS[3], ARGV[6])
+	end
+	if rate >= tonumber(ARGV[5]) then
+		redis.call('SET', KEYS[4], '1', 'EX', ARGV[7])
+		redis.call('SET', KEYS[5], '1', 'EX', ARGV[1])
+		sharded = true
+		started = 1
+	end
+end
+if sharded then
+	return {source, liked and 0 or 1, 2, 0, started}
+end
+
+local count
+if liked then
+	count = redis.call('DECR', KEYS[2])
+else
+	count = redis.call('INCR', KEYS[2])
+end
+redis.call('EXPIRE', KEYS[2], ARGV[1])
+
+local mode = redis.call('EXISTS', KEYS[5]) == 1 and 1 or 0
+return {source, liked and 0 or 1, mode, count, 0}
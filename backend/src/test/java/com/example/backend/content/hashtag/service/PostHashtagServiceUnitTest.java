@@ -6,12 +6,15 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.example.backend.entity.HashtagEntity;
 import com.example.backend.entity.PostEntity;
@@ -26,9 +29,19 @@ class PostHashtagServiceUnitTest {
 	@Mock
 	private PostHashtagRepository postHashtagRepository;
 
+	@Mock
+	private TrendingHashtagTracker trendingHashtagTracker;
+
 	@InjectMocks
 	private PostHashtagService postHashtagService;
 
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
 	@Test
 	@DisplayName("없어진 해시태그들이 없을때 아무 수행도 안해야 한다")
 	void not_execute_deleteByPostIdAndHashtagContent() {
@@ -77,6 +90,45 @@ class PostHashtagServiceUnitTest {
 		verify(postHashtagRepository, never()).saveAll(anyList());
 	}
 
+	@Test
+	@DisplayName("트랜잭션 안에서 생성한 해시태그 사용량은 커밋된 후에 기록한다")
+	void record_afterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		PostEntity post = mock(PostEntity.class);
+		HashtagEntity hashtag = mock(HashtagEntity.class);
+		when(hashtag.getId()).thenReturn(10L);
+		when(hashtagService.createIfNotExists("hashtag1")).thenReturn(hashtag);
+
+		postHashtagService.create(post, Set.of("hashtag1"));
+		verify(trendingHashtagTracker, never()).record(anyList());
+
+		// when
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		verify(trendingHashtagTracker).record(List.of(10L));
+	}
+
+	@Test
+	@DisplayName("롤백된 트랜잭션의 해시태그 사용량은 기록하지 않는다")
+	void record_rollback() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		PostEntity post = mock(PostEntity.class);
+		HashtagEntity hashtag = mock(HashtagEntity.class);
+		when(hashtag.getId()).thenReturn(10L);
+		when(hashtagService.createIfNotExists("hashtag1")).thenReturn(hashtag);
+
+		// when
+		postHashtagService.create(post, Set.of("hashtag1"));
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		// then
+		verifyNoInteractions(trendingHashtagTracker);
+	}
+
 	private PostHashtagEntity createPostHashtagEntity(String content) {
 		HashtagEntity hashtag = mock(HashtagEntity.class);
 		when(hashtag.getContent()).thenReturn(content);
@@ -0,0 +1,112 @@
+package com.example.backend.content.hashtag.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.backend.content.hashtag.dto.HashtagUsageCount;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TrendingHashtagTrackerTest {
+
+	private static final long HOUR = 60 * 60 * 1000L;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@Test
+	@DisplayName("많이 사용된 해시태그가 먼저 반환된다")
+	void findTopIds_orderByUsage() {
+		TrendingHashtagTracker tracker = new TrendingHashtagTracker(stringRedisTemplate);
+		long now = System.currentTimeMillis();
+
+		tracker.record(List.of(1L, 2L, 3L), now);
+		tracker.record(List.of(2L, 3L), now);
+		tracker.record(List.of(3L), now);
+
+		assertThat(tracker.findTopIds(2, now)).containsExactly(3L, 2L);
+	}
+
+	@Test
+	@DisplayName("오래전에 사용된 해시태그는 최근 사용된 해시태그보다 점수가 낮아진다")
+	void findTopIds_decayOldUsage() {
+		TrendingHashtagTracker tracker = new TrendingHashtagTracker(stringRedisTemplate);
+		long now = System.currentTimeMillis();
+
+		// 하루 전 3회 사용 (반감기 4번 → 0.1875), 방금 1회 사용
+		tracker.record(List.of(1L), now - 24 * HOUR);
+		tracker.record(List.of(1L), now - 24 * HOUR);
+		tracker.record(List.of(1L), now - 24 * HOUR);
+		tracker.record(List.of(2L), now);
+
+		assertThat(tracker.findTopIds(2, now)).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("반감기가 지나 점수를 다시 계산해도 순위가 유지된다")
+	void findTopIds_keepRankingAfterRescale() {
+		TrendingHashtagTracker tracker = new TrendingHashtagTracker(stringRedisTemplate);
+		long now = System.currentTimeMillis();
+
+		tracker.record(List.of(1L, 2L), now);
+		tracker.record(List.of(2L), now);
+
+		assertThat(tracker.findTopIds(2, now + 12 * HOUR)).containsExactly(2L, 1L);
+
+		tracker.record(List.of(1L), now + 12 * HOUR);
+		tracker.record(List.of(1L), now + 12 * HOUR);
+		assertThat(tracker.findTopIds(2, now + 12 * HOUR)).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("DB 사용량으로 초기화하면 기존 점수는 사라진다")
+	void reset() {
+		TrendingHashtagTracker tracker = new TrendingHashtagTracker(stringRedisTemplate);
+		long now = System.currentTimeMillis();
+		tracker.record(List.of(9L, 9L, 9L), now);
+
+		LocalDate today = LocalDate.now();
+		tracker.reset(List.of(
+			new HashtagUsageCount(1L, today, 2),
+			new HashtagUsageCount(2L, today, 5),
+			new HashtagUsageCount(1L, today.minusDays(5), 10)
+		), now);
+
+		assertThat(tracker.findTopIds(10, now)).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("서버마다 기록한 사용량을 합쳐 모든 서버가 같은 순위를 계산한다")
+	void findTopIds_shareUsageAcrossInstances() {
+		TrendingHashtagTracker server1 = new TrendingHashtagTracker(stringRedisTemplate);
+		TrendingHashtagTracker server2 = new TrendingHashtagTracker(stringRedisTemplate);
+		long now = System.currentTimeMillis();
+
+		server1.record(List.of(1L, 2L), now);
+		server2.record(List.of(2L), now);
+		server2.record(List.of(2L), now);
+		server1.record(List.of(1L), now);
+
+		assertThat(server1.findTopIds(2, now)).containsExactly(2L, 1L);
+		assertThat(server2.findTopIds(2, now)).containsExactly(2L, 1L);
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.backend.content.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.type.NotificationType;
+import com.example.backend.entity.NotificationEntity;
+import com.example.backend.entity.NotificationRepository;
+
+/**
+ * 좋아요 알림을 합칠 때의 행위자 수와 알림 중복 생성 확인
+ * @author kwak
+ * 2025-03-25
+ */
+@SpringBootTest
+@Transactional
+class NotificationServiceAggregateTest {
+
+	private static final IntFunction<String> MESSAGE = actorCount -> actorCount + "명이 좋아요를 눌렀습니다.";
+
+	@Autowired
+	NotificationService notificationService;
+	@Autowired
+	NotificationRepository notificationRepository;
+
+	@Test
+	@DisplayName("여러 구간에 걸쳐 같은 회원이 다시 좋아요를 눌러도 한 명으로 센다")
+	void test1() {
+		// given
+		notificationService.aggregateNotification(1L, 10L, "POST", NotificationType.LIKE, List.of("A", "B"), MESSAGE);
+
+		// when
+		NotificationEntity notification = notificationService.aggregateNotification(
+			1L, 10L, "POST", NotificationType.LIKE, List.of("A", "C"), MESSAGE);
+
+		// then
+		assertThat(notificationRepository.count()).isEqualTo(1L);
+		assertThat(notification.getActorCount()).isEqualTo(3);
+		assertThat(notification.getContent()).isEqualTo("3명이 좋아요를 눌렀습니다.");
+	}
+
+	@Test
+	@DisplayName("읽은 알림에는 합치지 않고 새 알림을 만든다")
+	void test2() {
+		// given
+		NotificationEntity read = notificationService.aggregateNotification(
+			1L, 10L, "POST", NotificationType.LIKE, List.of("A"), MESSAGE);
+		notificationService.markRead(read.getId(), 1L);
+
+		// when
+		NotificationEntity notification = notificationService.aggregateNotification(
+			1L, 10L, "POST", NotificationType.LIKE, List.of("A"), MESSAGE);
+
+		// then
+		assertThat(notification.getId()).isNotEqualTo(read.getId());
+		assertThat(notification.getActorCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 대상에 합칠 수 있는 알림은 하나만 만들 수 있다")
+	void test3() {
+		// given
+		notificationRepository.saveAndFlush(
+			NotificationEntity.createAggregated("1명", 1L, NotificationType.LIKE, 10L, "POST", 1));
+
+		// when & then
+		assertThatThrownBy(() -> notificationRepository.saveAndFlush(
+			NotificationEntity.createAggregated("1명", 1L, NotificationType.LIKE, 10L, "POST", 1)))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	@DisplayName("새 행위자가 합쳐진 알림은 그 사이에 생긴 알림보다 앞에 조회된다")
+	void test4() {
+		// given
+		NotificationEntity aggregated = notificationService.aggregateNotification(
+			1L, 10L, "POST", NotificationType.LIKE, List.of("A"), MESSAGE);
+		NotificationEntity follow = notificationRepository.save(
+			NotificationEntity.create("팔로우", 1L, NotificationType.FOLLOW, 20L));
+		ReflectionTestUtils.setField(aggregated, "activityDate", LocalDateTime.now().minusMinutes(2));
+		ReflectionTestUtils.setField(follow, "activityDate", LocalDateTime.now().minusMinutes(1));
+		notificationRepository.flush();
+
+		// when
+		notificationService.aggregateNotification(1L, 10L, "POST", NotificationType.LIKE, List.of("B"), MESSAGE);
+
+		// then
+		List<Long> ids = notificationService.getNotificationPage(0, 1L).responses().stream()
+			.map(NotificationResponse::notificationId)
+			.toList();
+		assertThat(ids).containsExactly(aggregated.getId(), follow.getId());
+	}
+}
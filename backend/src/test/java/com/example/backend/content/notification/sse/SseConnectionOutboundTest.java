@@ -0,0 +1,211 @@
+package com.example.backend.content.notification.sse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.type.NotificationType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * writer 작업이 대기열을 비우지 못하는 느린 클라이언트에서 대기열이 넘칠 때의 처리
+ * @author kwak
+ * 2025-03-30
+ */
+@ExtendWith(MockitoExtension.class)
+class SseConnectionOutboundTest {
+
+	private static final int CAPACITY = 2;
+
+	@Mock
+	SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs;
+	@Mock
+	SseOutboundDispatcher dispatcher;
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@BeforeEach
+	void setup() {
+		when(dispatcher.getCapacity()).thenReturn(CAPACITY);
+		when(dispatcher.getMetrics()).thenReturn(new SseMetrics(meterRegistry));
+		// writer 작업을 실행하지 않아 대기열이 비워지지 않는다
+		when(dispatcher.dispatch(any())).thenReturn(true);
+	}
+
+	@Test
+	@DisplayName("COALESCE - 같은 알림이 대기 중이면 새 내용으로 바꾼다")
+	void test1() {
+		// given
+		when(dispatcher.getOverflowPolicy()).thenReturn(SseOverflowPolicy.COALESCE);
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs, dispatcher);
+		connection.sendMessage(1L, "message", notification(10L));
+		connection.sendMessage(2L, "message", notification(20L));
+
+		// when
+		connection.sendMessage(3L, "message", notification(10L));
+
+		// then
+		assertEquals(CAPACITY, connection.getOutbound().size());
+		assertEquals(1.0, meterRegistry.counter("sse.outbound.coalesced").count());
+		assertEquals(0.0, meterRegistry.counter("sse.outbound.dropped").count());
+	}
+
+	@Test
+	@DisplayName("DROP_OLDEST - 가장 오래된 메시지를 버린다")
+	void test2() {
+		// given
+		when(dispatcher.getOverflowPolicy()).thenReturn(SseOverflowPolicy.DROP_OLDEST);
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs, dispatcher);
+		connection.sendMessage(1L, "message", notification(10L));
+		connection.sendMessage(2L, "message", notification(20L));
+
+		// when
+		connection.sendMessage(3L, "message", notification(30L));
+
+		// then
+		assertEquals(CAPACITY, connection.getOutbound().size());
+		assertEquals(1.0, meterRegistry.counter("sse.outbound.dropped").count());
+		assertEquals(CAPACITY, meterRegistry.get("sse.outbound.queued").gauge().value());
+	}
+
+	@Test
+	@DisplayName("DISCONNECT - 연결을 끊고 대기열을 비운다")
+	void test3() {
+		// given
+		when(dispatcher.getOverflowPolicy()).thenReturn(SseOverflowPolicy.DISCONNECT);
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs, dispatcher);
+		connection.sendMessage(1L, "message", notification(10L));
+		connection.sendMessage(2L, "message", notification(20L));
+
+		// when
+		connection.sendMessage(3L, "message", notification(30L));
+
+		// then
+		assertTrue(connection.isClosed());
+		assertFalse(connection.sendHeartbeat());
+		assertTrue(connection.getOutbound().isEmpty());
+		assertEquals(1.0, meterRegistry.counter("sse.outbound.slow.disconnects").count());
+		assertEquals(0.0, meterRegistry.get("sse.outbound.queued").gauge().value());
+	}
+
+	@Test
+	@DisplayName("실행을 시작한 writer 작업이 writeTimeout 동안 진행하지 못하면 정책과 관계없이 연결을 끊는다")
+	void test4() throws Exception {
+		// given
+		Duration writeTimeout = Duration.ofMinutes(1);
+		when(dispatcher.getWriteTimeout()).thenReturn(writeTimeout);
+		// writer 가 시작한 시각은 0, heartbeat 확인 시각은 writeTimeout 이 지난 뒤
+		when(dispatcher.nanoTime()).thenReturn(0L, writeTimeout.toNanos() + 1);
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs, dispatcher);
+
+		// 전송을 시작하면 풀어줄 때까지 멈추는 emitter
+		SseEmitter emitter = mock(SseEmitter.class);
+		CountDownLatch sending = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			sending.countDown();
+			release.await();
+			return null;
+		}).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+		ReflectionTestUtils.setField(connection, "sseEmitter", emitter);
+
+		ArgumentCaptor<Runnable> writer = ArgumentCaptor.forClass(Runnable.class);
+		connection.sendMessage(1L, "message", notification(10L));
+		verify(dispatcher).dispatch(writer.capture());
+		Thread writerThread = new Thread(writer.getValue());
+		writerThread.start();
+		sending.await();
+
+		// when
+		boolean alive = connection.sendHeartbeat();
+
+		// then
+		assertFalse(alive);
+		assertTrue(connection.isClosed());
+		assertTrue(connection.getOutbound().isEmpty());
+		assertEquals(1.0, meterRegistry.counter("sse.outbound.slow.disconnects").count());
+
+		// 멈춘 전송이 끝나면 writer 가 emitter 를 닫는다
+		release.countDown();
+		writerThread.join();
+		verify(emitter, times(1)).complete();
+	}
+
+	@Test
+	@DisplayName("writeTimeout 이 지나지 않은 전송 중인 연결은 유지하고 heartbeat 를 넣지 않는다")
+	void test5() {
+		// given
+		when(dispatcher.getWriteTimeout()).thenReturn(Duration.ofMinutes(1));
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs, dispatcher);
+		connection.sendMessage(1L, "message", notification(10L));
+
+		// when
+		boolean alive = connection.sendHeartbeat();
+
+		// then
+		assertTrue(alive);
+		assertFalse(connection.isClosed());
+		assertEquals(1, connection.getOutbound().size());
+	}
+
+	@Test
+	@DisplayName("writer 스레드를 기다리는 중인 writer 작업은 멈춘 것으로 보지 않는다")
+	void test6() {
+		// given
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs, dispatcher);
+		connection.sendMessage(1L, "message", notification(10L));
+
+		// when
+		boolean alive = connection.sendHeartbeat();
+
+		// then
+		assertTrue(alive);
+		assertFalse(connection.isClosed());
+		assertEquals(1, connection.getOutbound().size());
+		verify(dispatcher, never()).nanoTime();
+	}
+
+	@Test
+	@DisplayName("writer 작업이 거절되면 메시지를 대기열에 남기고 다음 heartbeat 때 다시 요청한다")
+	void test7() {
+		// given
+		when(dispatcher.dispatch(any())).thenReturn(false, true);
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs, dispatcher);
+		connection.sendMessage(1L, "message", notification(10L));
+		assertFalse(connection.isDraining());
+
+		// when
+		boolean alive = connection.sendHeartbeat();
+
+		// then
+		assertTrue(alive);
+		assertTrue(connection.isDraining());
+		assertEquals(1, connection.getOutbound().size());
+		verify(dispatcher, times(2)).dispatch(any());
+	}
+
+	private NotificationResponse notification(Long notificationId) {
+		return NotificationResponse.builder()
+			.notificationId(notificationId)
+			.type(NotificationType.LIKE)
+			.targetId(1L)
+			.message("like")
+			.actorCount(1)
+			.build();
+	}
+}
@@ -1,16 +1,16 @@
 package com.example.backend.content.notification.sse;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.io.IOException;
-
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * @author kwak
@@ -22,41 +22,48 @@ class SseConnectionTest {
 	@Mock
 	SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs;
 	@Mock
-	SseEmitter sseEmitter;
-	@Mock
-	SseEmitterFactory sseEmitterFactory;
+	SseOutboundDispatcher dispatcher;
 
 	@Test
 	@DisplayName("sseConnection 연결 성공")
 	void teat1() {
 		// given
 		String uniqueKey = "testKey";
-		when(sseEmitterFactory.create(any())).thenReturn(sseEmitter);
 
 		// when
-		SseConnection connection = SseConnection.connect(uniqueKey, "", sseConnectionPoolIfs);
+		SseConnection connection = SseConnection.connect(uniqueKey, "chrome", sseConnectionPoolIfs, dispatcher);
 
 		// then
 		assertNotNull(connection);
 		assertEquals(uniqueKey, connection.getUniqueKey());
-		verify(sseConnectionPoolIfs, times(1)).add(uniqueKey, connection);
+		verify(sseConnectionPoolIfs, times(1)).add(uniqueKey, "chrome", connection);
 	}
 
 	@Test
 	@DisplayName("메시지 전송 성공")
-	void test2() throws IOException {
+	void test2() {
 		// given
 		String uniqueKey = "testKey";
 		String eventName = "testEvent";
 		String data = "testData";
-		when(sseEmitterFactory.create(any())).thenReturn(sseEmitter);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		when(dispatcher.getCapacity()).thenReturn(1);
+		when(dispatcher.getMetrics()).thenReturn(new SseMetrics(meterRegistry));
+		// writer 작업을 바로 실행한다
+		when(dispatcher.dispatch(any())).thenAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return true;
+		});
 
-		SseConnection connection = SseConnection.connect(uniqueKey, "", sseConnectionPoolIfs);
+		SseConnection connection = SseConnection.connect(uniqueKey, "chrome", sseConnectionPoolIfs, dispatcher);
 
 		// when
 		connection.sendMessage(eventName, data);
 
 		// then
-		verify(sseEmitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+		assertFalse(connection.isClosed());
+		assertTrue(connection.getOutbound().isEmpty());
+		assertEquals(0.0, meterRegistry.get("sse.outbound.queued").gauge().value());
+		verify(dispatcher, times(1)).dispatch(any());
 	}
 }
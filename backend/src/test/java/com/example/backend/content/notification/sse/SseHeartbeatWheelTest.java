@@ -0,0 +1,78 @@
+package com.example.backend.content.notification.sse;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * @author kwak
+ * 2025-03-28
+ */
+@ExtendWith(MockitoExtension.class)
+class SseHeartbeatWheelTest {
+
+	private static final int WHEEL_SIZE = 20;
+
+	@Mock
+	SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs;
+
+	SseHeartbeatWheel wheel = new SseHeartbeatWheel();
+
+	@Test
+	@DisplayName("등록된 연결에는 한 바퀴마다 한 번 heartbeat 를 보낸다")
+	void test1() {
+		// given
+		SseConnection connection = mock(SseConnection.class);
+		when(connection.sendHeartbeat()).thenReturn(true);
+		wheel.register(connection);
+
+		// when
+		for (int i = 0; i < WHEEL_SIZE * 2; i++) {
+			wheel.tick();
+		}
+
+		// then
+		verify(connection, times(2)).sendHeartbeat();
+		verify(sseConnectionPoolIfs, never()).remove(any());
+	}
+
+	@Test
+	@DisplayName("heartbeat 전송에 실패한 연결은 Pool 에서 제거하고 다시 확인하지 않는다")
+	void test2() {
+		// given
+		SseConnection connection = mock(SseConnection.class);
+		when(connection.sendHeartbeat()).thenReturn(false);
+		when(connection.getSseConnectionPoolIfs()).thenReturn(sseConnectionPoolIfs);
+		wheel.register(connection);
+
+		// when
+		for (int i = 0; i < WHEEL_SIZE * 2; i++) {
+			wheel.tick();
+		}
+
+		// then
+		verify(connection, times(1)).sendHeartbeat();
+		verify(sseConnectionPoolIfs, times(1)).remove(connection);
+	}
+
+	@Test
+	@DisplayName("제거된 연결에는 heartbeat 를 보내지 않는다")
+	void test3() {
+		// given
+		SseConnection connection = mock(SseConnection.class);
+		wheel.register(connection);
+		wheel.unregister(connection);
+
+		// when
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.tick();
+		}
+
+		// then
+		verify(connection, never()).sendHeartbeat();
+	}
+}
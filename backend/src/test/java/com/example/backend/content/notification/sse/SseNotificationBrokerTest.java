@@ -0,0 +1,178 @@
+package com.example.backend.content.notification.sse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.type.NotificationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * @author kwak
+ * 2025-03-27
+ */
+@ExtendWith(MockitoExtension.class)
+class SseNotificationBrokerTest {
+
+	@Mock
+	SseConnectionPool sseConnectionPool;
+	@Mock
+	StringRedisTemplate stringRedisTemplate;
+	@Mock
+	SseReplayBuffer replayBuffer;
+	@Mock
+	RedisMessageListenerContainer redisMessageListenerContainer;
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+
+	ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	SseNotificationBroker broker;
+
+	NotificationResponse response = NotificationResponse.builder()
+		.notificationId(1L)
+		.type(NotificationType.LIKE)
+		.targetId(10L)
+		.message("like")
+		.actorCount(1)
+		.build();
+
+	@BeforeEach
+	void setup() {
+		broker = new SseNotificationBroker(sseConnectionPool, replayBuffer, stringRedisTemplate,
+			redisMessageListenerContainer, objectMapper);
+	}
+
+	@Test
+	@DisplayName("알림은 이벤트 ID, 다시 보낼 알림, presence 키로 한 번에 기록하고 발행한다")
+	void test1() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+		// when
+		broker.publish(1L, response);
+
+		// then
+		verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class),
+			eq(List.of("sseEventId:{1}", "sseReplay:{1}", "ssePresence:{1}")), any(Object[].class));
+		verify(sseConnectionPool, never()).sendNotification(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없으면 다시 시도할 수 있도록 예외를 던지고 이 서버의 연결로 보내지 않는다")
+	void test2() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		// when & then
+		assertThrows(RedisConnectionFailureException.class, () -> broker.publish(1L, response));
+		verify(sseConnectionPool, never()).sendNotification(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("채널로 받은 알림을 보관하고 이벤트 ID 와 함께 이 서버의 연결로 전송한다")
+	void test3() throws Exception {
+		// given
+		String body = "42:" + objectMapper.writeValueAsString(response);
+		SseNotificationMessage notification = new SseNotificationMessage(42L, response);
+		when(replayBuffer.parse(body)).thenReturn(notification);
+		DefaultMessage message = new DefaultMessage("sseNotification:1".getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+
+		// when
+		broker.onMessage(message, null);
+
+		// then
+		verify(replayBuffer, times(1)).append("1", notification);
+		verify(sseConnectionPool, times(1)).sendNotification(1L, 42L, response);
+	}
+
+	@Test
+	@DisplayName("마지막 연결이 끊겨도 그 사이 다시 연결되었으면 구독을 유지한다")
+	void test4() {
+		// given
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(sseConnectionPool.get("1")).thenReturn(Map.of("chrome", mock(SseConnection.class)));
+		broker.handleSubscriptionEvent(new SseSubscriptionEvent("1", true));
+
+		// when
+		broker.handleSubscriptionEvent(new SseSubscriptionEvent("1", false));
+
+		// then
+		verify(redisMessageListenerContainer, times(1)).addMessageListener(eq(broker), any(ChannelTopic.class));
+		verify(redisMessageListenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+	}
+
+	@Test
+	@DisplayName("연결 이벤트가 끊김 이벤트보다 늦게 처리되어도 연결이 없으면 구독하지 않는다")
+	void test5() {
+		// given
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(sseConnectionPool.get("1")).thenReturn(Map.of("chrome", mock(SseConnection.class))).thenReturn(null);
+		broker.handleSubscriptionEvent(new SseSubscriptionEvent("1", true));
+
+		// when
+		broker.handleSubscriptionEvent(new SseSubscriptionEvent("1", false));
+		broker.handleSubscriptionEvent(new SseSubscriptionEvent("1", true));
+
+		// then
+		verify(redisMessageListenerContainer, times(1)).addMessageListener(eq(broker), any(ChannelTopic.class));
+		verify(redisMessageListenerContainer, times(1)).removeMessageListener(eq(broker), any(ChannelTopic.class));
+		verify(replayBuffer, times(1)).clear("1");
+	}
+
+	@Test
+	@DisplayName("presence 갱신 때 연결은 있지만 구독하지 않은 사용자를 다시 구독한다")
+	void test6() {
+		// given
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(sseConnectionPool.keys()).thenReturn(Set.of("1"));
+		when(sseConnectionPool.get("1")).thenReturn(Map.of("chrome", mock(SseConnection.class)));
+
+		// when
+		broker.refreshPresences();
+
+		// then
+		verify(redisMessageListenerContainer, times(1)).addMessageListener(eq(broker), any(ChannelTopic.class));
+		verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+	}
+
+	@Test
+	@DisplayName("발행 스크립트의 키는 모두 사용자 hash tag 로 같은 슬롯에 있다")
+	void test7() {
+		// given
+		List<String> keys = List.of(SseNotificationBroker.eventIdKey("1"), SseReplayBuffer.replayKey("1"),
+			SseNotificationBroker.presenceKey("1"));
+
+		// when
+		long slots = keys.stream().map(SlotHash::getSlot).distinct().count();
+
+		// then
+		assertEquals(1, slots);
+	}
+}
@@ -0,0 +1,150 @@
+package com.example.backend.content.notification.sse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.type.NotificationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * @author kwak
+ * 2025-03-29
+ */
+@ExtendWith(MockitoExtension.class)
+class SseReplayBufferTest {
+
+	@Mock
+	StringRedisTemplate stringRedisTemplate;
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+
+	ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	SseReplayBuffer replayBuffer;
+
+	@BeforeEach
+	void setup() {
+		replayBuffer = new SseReplayBuffer(stringRedisTemplate, objectMapper);
+	}
+
+	@Test
+	@DisplayName("메모리 버퍼가 Last-Event-ID 이후를 모두 가지고 있으면 Redis 에서 알림을 읽지 않는다")
+	void test1() {
+		// given
+		for (long eventId = 1; eventId <= 5; eventId++) {
+			replayBuffer.append("1", message(eventId));
+		}
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.count(eq("sseReplay:{1}"), eq(4.0), anyDouble())).thenReturn(2L);
+
+		// when
+		List<SseNotificationMessage> messages = replayBuffer.findAfter("1", 3L);
+
+		// then
+		assertEquals(List.of(4L, 5L), messages.stream().map(SseNotificationMessage::eventId).toList());
+		verify(zSetOperations, never()).rangeByScore(anyString(), anyDouble(), anyDouble());
+	}
+
+	@Test
+	@DisplayName("버퍼에서 밀려난 구간이 필요하면 Redis 에서 읽는다")
+	void test2() throws Exception {
+		// given
+		for (long eventId = 1; eventId <= SseReplayBuffer.REPLAY_SIZE + 10; eventId++) {
+			replayBuffer.append("1", message(eventId));
+		}
+		Set<String> stored = new LinkedHashSet<>();
+		stored.add("4:" + objectMapper.writeValueAsString(message(4L).response()));
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.rangeByScore(eq("sseReplay:{1}"), eq(4.0), anyDouble())).thenReturn(stored);
+
+		// when
+		List<SseNotificationMessage> messages = replayBuffer.findAfter("1", 3L);
+
+		// then
+		assertEquals(1, messages.size());
+		assertEquals(message(4L), messages.get(0));
+	}
+
+	@Test
+	@DisplayName("구독을 해제하면 메모리 버퍼를 비우고 Redis 에서 읽는다")
+	void test3() {
+		// given
+		replayBuffer.append("1", message(1L));
+		replayBuffer.clear("1");
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.rangeByScore(eq("sseReplay:{1}"), eq(2.0), anyDouble())).thenReturn(Set.of());
+
+		// when
+		List<SseNotificationMessage> messages = replayBuffer.findAfter("1", 1L);
+
+		// then
+		assertTrue(messages.isEmpty());
+		verify(zSetOperations, times(1)).rangeByScore(eq("sseReplay:{1}"), eq(2.0), anyDouble());
+	}
+
+	@Test
+	@DisplayName("채널로 받지 못한 알림이 있으면 메모리 버퍼 대신 Redis 에서 읽는다")
+	void test4() throws Exception {
+		// given
+		replayBuffer.append("1", message(1L));
+		replayBuffer.append("1", message(2L));
+		replayBuffer.append("1", message(4L));
+		Set<String> stored = new LinkedHashSet<>();
+		for (long eventId = 2; eventId <= 4; eventId++) {
+			stored.add(eventId + ":" + objectMapper.writeValueAsString(message(eventId).response()));
+		}
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.count(eq("sseReplay:{1}"), eq(2.0), anyDouble())).thenReturn(3L);
+		when(zSetOperations.rangeByScore(eq("sseReplay:{1}"), eq(2.0), anyDouble())).thenReturn(stored);
+
+		// when
+		List<SseNotificationMessage> messages = replayBuffer.findAfter("1", 1L);
+
+		// then
+		assertEquals(List.of(2L, 3L, 4L), messages.stream().map(SseNotificationMessage::eventId).toList());
+	}
+
+	@Test
+	@DisplayName("Redis 에서 알림 수를 확인할 수 없으면 메모리 버퍼를 사용한다")
+	void test5() {
+		// given
+		replayBuffer.append("1", message(1L));
+		replayBuffer.append("1", message(2L));
+		when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.count(eq("sseReplay:{1}"), eq(2.0), anyDouble()))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		// when
+		List<SseNotificationMessage> messages = replayBuffer.findAfter("1", 1L);
+
+		// then
+		assertEquals(List.of(2L), messages.stream().map(SseNotificationMessage::eventId).toList());
+	}
+
+	private SseNotificationMessage message(long eventId) {
+		return new SseNotificationMessage(eventId, NotificationResponse.builder()
+			.notificationId(eventId)
+			.type(NotificationType.LIKE)
+			.targetId(10L)
+			.message("like " + eventId)
+			.actorCount(1)
+			.build());
+	}
+}
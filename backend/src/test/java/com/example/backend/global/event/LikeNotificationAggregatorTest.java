@@ -0,0 +1,74 @@
+package com.example.backend.global.event;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class LikeNotificationAggregatorTest {
+
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
+
+	@InjectMocks
+	LikeNotificationAggregator likeNotificationAggregator;
+
+	@Test
+	@DisplayName("구간 내 같은 리소스의 좋아요는 하나의 알림으로 합친다")
+	void aggregate() {
+		// given
+		likeNotificationAggregator.add(LikeEvent.create("A", 1L, 10L, "POST"));
+		likeNotificationAggregator.add(LikeEvent.create("B", 1L, 10L, "POST"));
+		likeNotificationAggregator.add(LikeEvent.create("A", 1L, 10L, "POST"));
+		likeNotificationAggregator.add(LikeEvent.create("C", 1L, 20L, "POST"));
+
+		// when
+		likeNotificationAggregator.flush(System.currentTimeMillis() + 5_000L);
+
+		// then
+		verify(applicationEventPublisher).publishEvent(new LikeNotificationEvent(1L, 10L, "POST", "A", Set.of("A", "B")));
+		verify(applicationEventPublisher).publishEvent(new LikeNotificationEvent(1L, 20L, "POST", "C", Set.of("C")));
+		verifyNoMoreInteractions(applicationEventPublisher);
+	}
+
+	@Test
+	@DisplayName("구간이 끝나기 전에는 알리지 않고, 좋아요 취소는 알리지 않는다")
+	void waitForWindow() {
+		// given
+		likeNotificationAggregator.add(LikeEvent.create("A", 1L, 10L, "POST"));
+		likeNotificationAggregator.add(LikeEvent.create("B", 1L, 30L, "POST", false));
+
+		// when
+		likeNotificationAggregator.flush(System.currentTimeMillis());
+
+		// then
+		verifyNoInteractions(applicationEventPublisher);
+
+		// when
+		likeNotificationAggregator.flush(System.currentTimeMillis() + 5_000L);
+
+		// then
+		verify(applicationEventPublisher, times(1)).publishEvent(any(LikeNotificationEvent.class));
+	}
+
+	@Test
+	@DisplayName("종료 시 구간이 끝나지 않은 좋아요도 알린다")
+	void flushOnShutdown() {
+		// given
+		likeNotificationAggregator.add(LikeEvent.create("A", 1L, 10L, "POST"));
+
+		// when
+		likeNotificationAggregator.flushAll();
+
+		// then
+		verify(applicationEventPublisher).publishEvent(new LikeNotificationEvent(1L, 10L, "POST", "A", Set.of("A")));
+	}
+}
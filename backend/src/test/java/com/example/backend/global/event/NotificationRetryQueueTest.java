@@ -0,0 +1,207 @@
+package com.example.backend.global.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.example.backend.content.notification.converter.NotificationConverter;
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.service.NotificationService;
+import com.example.backend.content.notification.sse.SseConnectionPool;
+import com.example.backend.content.notification.sse.SseNotificationBroker;
+import com.example.backend.content.notification.sse.SseReplayBuffer;
+import com.example.backend.content.notification.type.NotificationType;
+import com.example.backend.entity.NotificationActorRepository;
+import com.example.backend.entity.NotificationEntity;
+import com.example.backend.entity.NotificationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 실패한 알림 전달의 재시도 예약, 대기 시간, dead letter 처리 확인
+ * @author kwak
+ * 2025-03-31
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationRetryQueueTest {
+
+	private static final Instant NOW = Instant.parse("2025-03-31T00:00:00Z");
+
+	@Mock
+	NotificationService notificationService;
+	@Mock
+	NotificationEntity notification;
+	// 예약된 시도는 테스트에서 직접 실행한다
+	@Mock
+	ThreadPoolTaskScheduler scheduler;
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	NotificationRetryQueue retryQueue;
+
+	@BeforeEach
+	void setup() {
+		retryQueue = new NotificationRetryQueue(notificationService, meterRegistry, scheduler,
+			Clock.fixed(NOW, ZoneOffset.UTC));
+		retryQueue.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		retryQueue.stop();
+	}
+
+	@Test
+	@DisplayName("전달에 성공하면 다시 시도하지 않는다")
+	void test1() {
+		// when
+		retryQueue.deliver(1L, notification);
+
+		// then
+		verify(notificationService, times(1)).deliverNotification(1L, notification);
+		verify(scheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+		assertEquals(0.0, meterRegistry.counter("notification.delivery.retries").count());
+	}
+
+	@Test
+	@DisplayName("실패한 전달은 호출한 스레드를 붙잡지 않고 대기 시간 후로 다시 시도를 예약한다")
+	void test2() {
+		// given
+		doThrow(new IllegalStateException("send failed"))
+			.doNothing()
+			.when(notificationService).deliverNotification(1L, notification);
+
+		// when
+		retryQueue.deliver(1L, notification);
+
+		// then
+		verify(notificationService, times(1)).deliverNotification(1L, notification);
+		Instant retryAt = scheduledAt(1).get(0);
+		assertFalse(retryAt.isBefore(NOW.plusMillis(250)));
+		assertFalse(retryAt.isAfter(NOW.plusMillis(500)));
+		assertEquals(1.0, meterRegistry.get("notification.delivery.pending").gauge().value());
+
+		runScheduled(1);
+		verify(notificationService, times(2)).deliverNotification(1L, notification);
+		assertEquals(1.0, meterRegistry.counter("notification.delivery.retries").count());
+		assertEquals(0.0, meterRegistry.get("notification.delivery.pending").gauge().value());
+	}
+
+	@Test
+	@DisplayName("대기 시간은 지수적으로 늘어나고 jitter 범위 안에 있다")
+	void test3() {
+		for (int i = 0; i < 100; i++) {
+			long first = NotificationRetryQueue.backoff(1);
+			long second = NotificationRetryQueue.backoff(2);
+			long capped = NotificationRetryQueue.backoff(10);
+
+			assertTrue(first >= 250 && first <= 500);
+			assertTrue(second >= 500 && second <= 1_000);
+			assertTrue(capped >= 5_000 && capped <= 10_000);
+		}
+	}
+
+	@Test
+	@DisplayName("모든 시도가 실패하면 dead letter 로 기록하고 더 이상 시도하지 않는다")
+	void test4() {
+		// given
+		doThrow(new IllegalStateException("send failed"))
+			.when(notificationService).deliverNotification(1L, notification);
+
+		// when
+		retryQueue.deliver(1L, notification);
+		runScheduled(1);
+		runScheduled(2);
+
+		// then
+		verify(notificationService, times(3)).deliverNotification(1L, notification);
+		verify(scheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+		assertEquals(1.0, meterRegistry.counter("notification.delivery.dead.letters").count());
+		assertEquals(2.0, meterRegistry.counter("notification.delivery.retries").count());
+		assertEquals(0.0, meterRegistry.get("notification.delivery.pending").gauge().value());
+	}
+
+	@Test
+	@DisplayName("종료 중이라 재시도를 예약하지 못하면 바로 dead letter 로 기록한다")
+	void test5() {
+		// given
+		doThrow(new IllegalStateException("send failed"))
+			.when(notificationService).deliverNotification(1L, notification);
+		when(scheduler.schedule(any(Runnable.class), any(Instant.class)))
+			.thenThrow(new TaskRejectedException("shutting down"));
+
+		// when
+		retryQueue.deliver(1L, notification);
+
+		// then
+		verify(notificationService, times(1)).deliverNotification(1L, notification);
+		assertEquals(1.0, meterRegistry.counter("notification.delivery.dead.letters").count());
+		assertEquals(0.0, meterRegistry.get("notification.delivery.pending").gauge().value());
+	}
+
+	@Test
+	@DisplayName("Redis 발행이 실패하면 다시 시도하고, 모든 시도가 실패하면 이 서버의 연결로만 전송한다")
+	void test6() {
+		// given
+		StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenThrow(new RedisConnectionFailureException("down"));
+		SseConnectionPool sseConnectionPool = mock(SseConnectionPool.class);
+		SseNotificationBroker broker = new SseNotificationBroker(sseConnectionPool, mock(SseReplayBuffer.class),
+			stringRedisTemplate, mock(RedisMessageListenerContainer.class),
+			new ObjectMapper().registerModule(new JavaTimeModule()));
+		NotificationService service = new NotificationService(mock(NotificationRepository.class),
+			mock(NotificationActorRepository.class), new NotificationConverter(), broker);
+		NotificationRetryQueue queue = new NotificationRetryQueue(service, meterRegistry, scheduler,
+			Clock.fixed(NOW, ZoneOffset.UTC));
+		NotificationEntity saved = NotificationEntity.create("like", 1L, NotificationType.LIKE, 10L);
+
+		// when
+		queue.deliver(1L, saved);
+		verify(sseConnectionPool, never()).sendNotification(anyLong(), any(NotificationResponse.class));
+		runScheduled(1);
+		runScheduled(2);
+
+		// then
+		verify(stringRedisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+		verify(sseConnectionPool, times(1)).sendNotification(eq(1L), any(NotificationResponse.class));
+		assertEquals(2.0, meterRegistry.counter("notification.delivery.retries").count());
+		assertEquals(1.0, meterRegistry.counter("notification.delivery.dead.letters").count());
+	}
+
+	// 지금까지 예약된 시도의 예약 시각
+	private List<Instant> scheduledAt(int count) {
+		ArgumentCaptor<Instant> instants = ArgumentCaptor.forClass(Instant.class);
+		verify(scheduler, times(count)).schedule(any(Runnable.class), instants.capture());
+		return instants.getAllValues();
+	}
+
+	// count 번째로 예약된 시도를 실행한다
+	private void runScheduled(int count) {
+		ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler, times(count)).schedule(tasks.capture(), any(Instant.class));
+		tasks.getAllValues().get(count - 1).run();
+	}
+}
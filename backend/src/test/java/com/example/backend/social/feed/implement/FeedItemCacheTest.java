@@ -0,0 +1,97 @@
+package com.example.backend.social.feed.implement;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.entity.PostEntity;
+import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.converter.FeedConverter;
+import com.example.backend.social.feed.dto.FeedInfoResponse;
+
+/**
+ * 캐시된 게시물은 DB 에서 다시 읽지 않고, 좋아요 수 동기화 후에는 다시 읽는지 확인
+ * @author ChoiHyunSan
+ * @since 2025-03-13
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedItemCacheTest {
+
+	@Mock
+	FeedSelectorCache feedSelector;
+	@Mock
+	FeedHydrator feedHydrator;
+	@Mock
+	FeedConverter feedConverter;
+	@Mock
+	MemberEntity member;
+
+	FeedItemCache feedItemCache;
+
+	@BeforeEach
+	void setup() {
+		feedItemCache = new FeedItemCache(feedSelector, feedHydrator, feedConverter);
+		when(feedSelector.findByPostIds(anyList(), eq(member))).thenAnswer(invocation -> {
+			List<Long> postIds = invocation.getArgument(0);
+			return postIds.stream().map(FeedItemCacheTest::feed).toList();
+		});
+		when(feedConverter.toSnapshot(any())).thenAnswer(invocation -> response(invocation.<Feed>getArgument(0)));
+		when(feedConverter.toFeedInfoResponse(any(Feed.class)))
+			.thenAnswer(invocation -> response(invocation.<Feed>getArgument(0)));
+	}
+
+	@Test
+	@DisplayName("한 번 조회한 게시물은 DB 에서 다시 읽지 않고 요청한 유저의 정보만 덧씌운다")
+	void test1() {
+		// given
+		when(feedHydrator.findViewerStates(anyList(), eq(member))).thenReturn(Map.of());
+		when(feedConverter.toFeedInfoResponse(any(FeedInfoResponse.class), anyLong(), anyBoolean()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		feedItemCache.findByPostIds(List.of(1L, 2L), member);
+
+		// when
+		List<FeedInfoResponse> responses = feedItemCache.findByPostIds(List.of(2L, 1L), member);
+
+		// then
+		assertThat(responses).extracting(FeedInfoResponse::postId).containsExactly(2L, 1L);
+		verify(feedSelector, times(1)).findByPostIds(anyList(), eq(member));
+	}
+
+	@Test
+	@DisplayName("좋아요 수가 동기화된 게시물만 다시 읽는다")
+	void test2() {
+		// given
+		when(feedHydrator.findViewerStates(anyList(), eq(member))).thenReturn(Map.of());
+		when(feedConverter.toFeedInfoResponse(any(FeedInfoResponse.class), anyLong(), anyBoolean()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		feedItemCache.findByPostIds(List.of(1L, 2L), member);
+
+		// when
+		feedItemCache.evictAll(List.of(1L));
+		feedItemCache.findByPostIds(List.of(1L, 2L), member);
+
+		// then
+		verify(feedSelector).findByPostIds(List.of(1L), member);
+	}
+
+	private static Feed feed(Long postId) {
+		PostEntity post = mock(PostEntity.class);
+		when(post.getId()).thenReturn(postId);
+		return new Feed(post, 0L);
+	}
+
+	private static FeedInfoResponse response(Feed feed) {
+		return FeedInfoResponse.builder().postId(feed.getPost().getId()).build();
+	}
+}
@@ -3,7 +3,10 @@ package com.example.backend.social.feed.implement;
 import static com.example.backend.entity.QMemberEntity.*;
 import static com.example.backend.social.feed.constant.FeedConstants.*;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +27,7 @@ import com.example.backend.global.event.CommentEventListener;
 import com.example.backend.global.event.FollowEventListener;
 import com.example.backend.global.event.LikeEventListener;
 import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.dto.RecommendCandidate;
 import com.example.backend.social.reaction.like.service.LikeSyncService;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -37,6 +42,9 @@ class FeedSelectorTest {
 	@Autowired
 	private FeedTestHelper feedTestHelper;
 
+	@Autowired
+	private RecommendSampler recommendSampler;
+
 	@Autowired
 	private JPAQueryFactory queryFactory;
 
@@ -48,6 +56,9 @@ class FeedSelectorTest {
 	@Autowired
 	private LikeSyncService likeSyncService;
 
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	@MockitoBean
 	LikeEventListener likeEventListener;
 	@MockitoBean
@@ -71,7 +82,10 @@ class FeedSelectorTest {
 
 		Assertions.assertNotEquals(0, member.getFollowingList().size());
 
-		List<Feed> byFollower = feedSelector.findByFollower(member, 0L, 10);
+		List<Long> postIds = feedSelector.findFollowerEntries(member, null, 0L, 10).stream()
+			.map(FeedTimelineStore.Entry::postId)
+			.toList();
+		List<Feed> byFollower = feedSelector.findByPostIds(postIds, member);
 		Assertions.assertNotNull(byFollower);
 		Assertions.assertFalse(byFollower.isEmpty());
 		Assertions.assertEquals(10, byFollower.size());
@@ -92,11 +106,11 @@ class FeedSelectorTest {
 	@Test
 	@DisplayName("팔로잉 게시물들은 시간 순으로 내림차 정렬되어 반환된다")
 	void t2() {
-		List<Feed> byFollower = feedSelector.findByFollower(member, 0L, 10);
+		List<FeedTimelineStore.Entry> byFollower = feedSelector.findFollowerEntries(member, null, 0L, 10);
 
 		for (int i = 0; i < byFollower.size() - 1; i++) {
-			LocalDateTime front = byFollower.get(i).getPost().getCreateDate();
-			LocalDateTime back = byFollower.get(i + 1).getPost().getCreateDate();
+			LocalDateTime front = byFollower.get(i).createDate();
+			LocalDateTime back = byFollower.get(i + 1).createDate();
 			Assertions.assertFalse(front.isBefore(back));
 		}
 	}
@@ -104,8 +118,10 @@ class FeedSelectorTest {
 	@Test
 	@DisplayName("추천 게시물 요청")
 	void t3() {
-		List<Feed> recommendFeedList = feedSelector.findRecommendFinder(member, LocalDateTime.now().plusDays(1),
-			LocalDateTime.now().minusDays(1 + RECOMMEND_SEARCH_DATE_RANGE), 10);
+		List<RecommendCandidate> candidates = feedSelector.findRecommendCandidates(member,
+			LocalDateTime.now().plusDays(1), LocalDateTime.now().minusDays(1 + RECOMMEND_SEARCH_DATE_RANGE), null,
+			10L * RECOMMEND_RANDOM_POOL_MULTIPLIER);
+		List<Feed> recommendFeedList = feedSelector.findByPostIds(recommendSampler.sample(candidates, 10), member);
 
 		Assertions.assertNotNull(recommendFeedList);
 		Assertions.assertEquals(10, recommendFeedList.size());
@@ -135,15 +151,85 @@ class FeedSelectorTest {
 	@Test
 	@DisplayName("멤버 게시물 조회 테스트")
 	void t5() {
-		List<Feed> byMember1 = feedSelector.findByMember(member, 0L, 2);
+		List<Long> byMember1 = feedSelector.findMemberPostIds(member, 0L, 2);
 		Assertions.assertNotNull(byMember1);
 		Assertions.assertEquals(2, byMember1.size());
-		Long lastPostId = byMember1.getLast().getPost().getId();
+		Long lastPostId = byMember1.getLast();
 
-		List<Feed> byMember2 = feedSelector.findByMember(member, lastPostId, 2);
+		List<Long> byMember2 = feedSelector.findMemberPostIds(member, lastPostId, 2);
 		Assertions.assertNotNull(byMember2);
 		Assertions.assertEquals(2, byMember2.size());
 
-		Assertions.assertTrue(byMember2.getFirst().getPost().getId() < lastPostId);
+		Assertions.assertTrue(byMember2.getFirst() < lastPostId);
+	}
+
+	@Test
+	@DisplayName("(생성일, ID) 커서로 나누어 조회한 팔로잉 게시물은 생성일이 같아도 빠지거나 중복되지 않는다")
+	void t6() {
+		// given
+		List<FeedTimelineStore.Entry> latest = feedSelector.findFollowerEntries(member, null, 0L, 5);
+		jdbcTemplate.update("UPDATE post SET create_date = ? WHERE id IN (?, ?, ?, ?, ?)",
+			Timestamp.valueOf(latest.getLast().createDate()),
+			latest.get(0).postId(), latest.get(1).postId(), latest.get(2).postId(),
+			latest.get(3).postId(), latest.get(4).postId());
+		List<Long> all = feedSelector.findFollowerEntries(member, null, 0L, 10_000).stream()
+			.map(FeedTimelineStore.Entry::postId)
+			.toList();
+
+		// when
+		List<Long> paged = new ArrayList<>();
+		LocalDateTime cursorDate = null;
+		Long cursorId = 0L;
+		while (true) {
+			List<FeedTimelineStore.Entry> page = feedSelector.findFollowerEntries(member, cursorDate, cursorId, 3);
+			if (page.isEmpty()) {
+				break;
+			}
+			page.forEach(entry -> paged.add(entry.postId()));
+			cursorDate = page.getLast().createDate();
+			cursorId = page.getLast().postId();
+		}
+
+		// then
+		Assertions.assertTrue(all.size() > 5);
+		Assertions.assertEquals(all, paged);
+	}
+
+	@Test
+	@DisplayName("pull 대상 작성자의 게시물과 타임라인 구성 게시물을 합치면 팔로잉 및 자신의 게시물과 같다")
+	void t7() {
+		// given
+		queryFactory.update(memberEntity)
+			.set(memberEntity.feedPulled, true)
+			.where(memberEntity.username.in(member.getFollowingList()))
+			.execute();
+		List<Long> all = feedSelector.findFollowerEntries(member, null, 0L, 10_000).stream()
+			.map(FeedTimelineStore.Entry::postId)
+			.toList();
+
+		// when
+		List<Long> pulled = new ArrayList<>();
+		LocalDateTime cursorDate = null;
+		Long cursorId = 0L;
+		while (true) {
+			List<FeedTimelineStore.Entry> page = feedSelector.findPulledEntries(member, cursorDate, cursorId, 3);
+			if (page.isEmpty()) {
+				break;
+			}
+			page.forEach(entry -> pulled.add(entry.postId()));
+			cursorDate = page.getLast().createDate();
+			cursorId = page.getLast().postId();
+		}
+		List<Long> seed = feedSelector.findTimelineSeed(member, 10_000).stream()
+			.map(FeedTimelineStore.Entry::postId)
+			.toList();
+
+		// then
+		Assertions.assertFalse(pulled.isEmpty());
+		Assertions.assertEquals(pulled.size(), new HashSet<>(pulled).size());
+		Assertions.assertEquals(all.size(), pulled.size() + seed.size());
+		HashSet<Long> merged = new HashSet<>(pulled);
+		merged.addAll(seed);
+		Assertions.assertEquals(new HashSet<>(all), merged);
 	}
 }
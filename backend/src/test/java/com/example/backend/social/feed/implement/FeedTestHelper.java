@@ -1,5 +1,8 @@
 package com.example.backend.social.feed.implement;
 
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -10,6 +13,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.content.comment.scheduler.CommentCountSynchronizer;
 import com.example.backend.entity.CommentEntity;
 import com.example.backend.entity.CommentRepository;
 import com.example.backend.entity.HashtagEntity;
@@ -23,6 +27,7 @@ import com.example.backend.entity.PostEntity;
 import com.example.backend.entity.PostHashtagEntity;
 import com.example.backend.entity.PostHashtagRepository;
 import com.example.backend.entity.PostRepository;
+import com.example.backend.entity.PostScoreRepository;
 import com.example.backend.global.event.CommentEventListener;
 import com.example.backend.global.event.FollowEventListener;
 import com.example.backend.global.event.LikeEventListener;
@@ -58,6 +63,12 @@ public class FeedTestHelper {
 	@Autowired
 	private LikeService likeService;
 
+	@Autowired
+	private CommentCountSynchronizer commentCountSynchronizer;
+
+	@Autowired
+	private PostScoreRepository postScoreRepository;
+
 	@Autowired
 	EntityManager entityManager;
 	@Autowired
@@ -173,5 +184,11 @@ public class FeedTestHelper {
 		}
 		commentRepository.saveAll(comments);
 		commentRepository.flush();
+
+		// 댓글을 직접 저장했으므로 게시물의 댓글 수를 동기화
+		commentCountSynchronizer.synchronizeAll();
+
+		// 게시물을 직접 저장했으므로 추천 후보 조회에 쓰이는 점수 행을 채운다
+		postScoreRepository.refreshSince(LocalDateTime.now().minusDays(RECOMMEND_SEARCH_DATE_RANGE), List.of());
 	}
 }
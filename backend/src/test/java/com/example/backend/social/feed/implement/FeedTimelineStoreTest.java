@@ -0,0 +1,169 @@
+package com.example.backend.social.feed.implement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.social.feed.implement.FeedTimelineStore.Entry;
+
+/**
+ * 타임라인 구성, 조회 시 TTL 연장, 구성 중 전파된 게시물과 제거 처리
+ * @author ChoiHyunSan
+ * @since 2025-03-07
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FeedTimelineStoreTest {
+
+	private static final Long MEMBER_ID = 1L;
+	private static final String KEY = "timeline:" + MEMBER_ID;
+	private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+	@Autowired
+	private FeedTimelineStore feedTimelineStore;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@Test
+	@DisplayName("구성된 타임라인은 커서 이후의 게시물을 최신순으로 반환한다")
+	void test1() {
+		// given
+		assertTrue(feedTimelineStore.findEntries(MEMBER_ID, null, 0L, 10).isEmpty());
+		feedTimelineStore.prepareWarmUp(MEMBER_ID);
+		feedTimelineStore.warmUp(MEMBER_ID, List.of(entry(3L, 3), entry(2L, 2), entry(1L, 1)));
+
+		// when
+		Optional<List<Entry>> firstPage = feedTimelineStore.findEntries(MEMBER_ID, null, 0L, 2);
+		Optional<List<Entry>> nextPage = feedTimelineStore.findEntries(MEMBER_ID, NOW.minusMinutes(2), 2L, 2);
+
+		// then
+		assertEquals(List.of(entry(3L, 3), entry(2L, 2)), firstPage.orElseThrow());
+		assertEquals(List.of(entry(1L, 1)), nextPage.orElseThrow());
+	}
+
+	@Test
+	@DisplayName("게시물이 없는 타임라인도 구성되면 다시 구성하지 않도록 빈 결과를 반환한다")
+	void test2() {
+		// given
+		feedTimelineStore.prepareWarmUp(MEMBER_ID);
+		feedTimelineStore.warmUp(MEMBER_ID, List.of());
+
+		// when
+		Optional<List<Entry>> entries = feedTimelineStore.findEntries(MEMBER_ID, null, 0L, 10);
+
+		// then
+		assertEquals(Optional.of(List.of()), entries);
+	}
+
+	@Test
+	@DisplayName("구성하는 동안 전파된 게시물은 구성이 끝난 타임라인에 남는다")
+	void test3() {
+		// given
+		feedTimelineStore.prepareWarmUp(MEMBER_ID);
+		feedTimelineStore.push(List.of(MEMBER_ID), 4L, NOW);
+		assertTrue(feedTimelineStore.findEntries(MEMBER_ID, null, 0L, 10).isEmpty());
+
+		// when
+		feedTimelineStore.warmUp(MEMBER_ID, List.of(entry(1L, 1)));
+
+		// then
+		assertEquals(List.of(new Entry(4L, NOW), entry(1L, 1)),
+			feedTimelineStore.findEntries(MEMBER_ID, null, 0L, 10).orElseThrow());
+	}
+
+	@Test
+	@DisplayName("구성하는 동안 제거된 타임라인은 이전 조회 결과로 구성하지 않는다")
+	void test4() {
+		// given
+		feedTimelineStore.prepareWarmUp(MEMBER_ID);
+		feedTimelineStore.evict(MEMBER_ID);
+
+		// when
+		feedTimelineStore.warmUp(MEMBER_ID, List.of(entry(1L, 1)));
+
+		// then
+		assertFalse(stringRedisTemplate.hasKey(KEY));
+		assertTrue(feedTimelineStore.findEntries(MEMBER_ID, null, 0L, 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("타임라인을 조회하면 TTL 이 다시 늘어난다")
+	void test5() {
+		// given
+		feedTimelineStore.prepareWarmUp(MEMBER_ID);
+		feedTimelineStore.warmUp(MEMBER_ID, List.of(entry(1L, 1)));
+		stringRedisTemplate.expire(KEY, Duration.ofSeconds(100));
+
+		// when
+		feedTimelineStore.findEntries(MEMBER_ID, null, 0L, 10);
+
+		// then
+		assertTrue(stringRedisTemplate.getExpire(KEY) > 100);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 요청한 제거는 커밋된 후에 실행된다")
+	void test6() {
+		// given
+		feedTimelineStore.prepareWarmUp(MEMBER_ID);
+		feedTimelineStore.warmUp(MEMBER_ID, List.of(entry(1L, 1)));
+		TransactionSynchronizationManager.initSynchronization();
+
+		feedTimelineStore.evictAfterCommit(MEMBER_ID);
+		assertTrue(stringRedisTemplate.hasKey(KEY));
+
+		// when
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		assertFalse(stringRedisTemplate.hasKey(KEY));
+	}
+
+	@Test
+	@DisplayName("삭제된 게시물은 구성된 타임라인에서만 제거되고 없는 타임라인은 만들지 않는다")
+	void test7() {
+		// given
+		Long coldMemberId = 2L;
+		feedTimelineStore.prepareWarmUp(MEMBER_ID);
+		feedTimelineStore.warmUp(MEMBER_ID, List.of(entry(2L, 2), entry(1L, 1)));
+
+		// when
+		int removed = feedTimelineStore.remove(List.of(MEMBER_ID, coldMemberId), 2L);
+
+		// then
+		assertEquals(1, removed);
+		assertEquals(List.of(entry(1L, 1)), feedTimelineStore.findEntries(MEMBER_ID, null, 0L, 10).orElseThrow());
+		assertFalse(stringRedisTemplate.hasKey("timeline:" + coldMemberId));
+	}
+
+	private static Entry entry(Long postId, int minutesAgo) {
+		return new Entry(postId, NOW.minusMinutes(minutesAgo));
+	}
+}
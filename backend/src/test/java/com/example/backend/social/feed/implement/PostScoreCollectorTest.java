@@ -0,0 +1,73 @@
+package com.example.backend.social.feed.implement;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.social.feed.dto.PostScoreDelta;
+
+/**
+ * 트랜잭션 결과에 따라 게시물 점수 변화량을 모으는지 확인
+ * @author ChoiHyunSan
+ * @since 2025-03-09
+ */
+class PostScoreCollectorTest {
+
+	private final PostScoreCollector postScoreCollector = new PostScoreCollector();
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 들어온 변화량은 바로 모은다")
+	void collect_withoutTransaction() {
+		// when
+		postScoreCollector.addLikeDelta(1L, 1L);
+		postScoreCollector.addCommentDelta(1L, 2L);
+
+		// then
+		assertThat(postScoreCollector.flushDeltaStorage()).containsExactly(new PostScoreDelta(1L, 2L, 1L));
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 들어온 변화량은 커밋된 후에 모은다")
+	void collect_afterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		postScoreCollector.addLikeDelta(1L, 1L);
+		assertThat(postScoreCollector.flushDeltaStorage()).isEmpty();
+
+		// when
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+		synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		// then
+		assertThat(postScoreCollector.flushDeltaStorage()).containsExactly(new PostScoreDelta(1L, 0L, 1L));
+	}
+
+	@Test
+	@DisplayName("롤백된 트랜잭션의 변화량은 모으지 않는다")
+	void collect_rollback() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		postScoreCollector.addCommentDelta(1L, 1L);
+
+		// when
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		// then
+		assertThat(postScoreCollector.flushDeltaStorage()).isEmpty();
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.backend.social.feed.implement;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.social.feed.dto.RecommendCandidate;
+
+class RecommendSamplerTest {
+
+	@Test
+	@DisplayName("요청 개수만큼 중복 없이 뽑는다")
+	void sample_distinct() {
+		List<RecommendCandidate> candidates = new ArrayList<>();
+		for (long i = 1; i <= 20; i++) {
+			candidates.add(new RecommendCandidate(i, i));
+		}
+
+		List<Long> sampled = RecommendSampler.sample(candidates, 10, 1.0, new Random(42));
+
+		assertThat(sampled).hasSize(10).doesNotHaveDuplicates();
+	}
+
+	@Test
+	@DisplayName("후보가 요청 개수보다 적으면 모든 후보를 반환한다")
+	void sample_fewerCandidates() {
+		List<RecommendCandidate> candidates = List.of(
+			new RecommendCandidate(1L, 0L),
+			new RecommendCandidate(2L, 5L));
+
+		List<Long> sampled = RecommendSampler.sample(candidates, 10, 1.0, new Random(42));
+
+		assertThat(sampled).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("점수가 높은 게시물이 더 자주 뽑힌다")
+	void sample_weightedByScore() {
+		List<RecommendCandidate> candidates = List.of(
+			new RecommendCandidate(1L, 0L),
+			new RecommendCandidate(2L, 9L));
+		Random random = new Random(42);
+
+		int popularCount = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (RecommendSampler.sample(candidates, 1, 1.0, random).getFirst() == 2L) {
+				popularCount++;
+			}
+		}
+
+		// 가중치 1 : 10 이므로 약 91% 확률로 뽑힌다
+		assertThat(popularCount).isBetween(8_800, 9_400);
+	}
+
+	@Test
+	@DisplayName("가중치 지수가 0 이면 점수와 무관하게 균등하게 뽑힌다")
+	void sample_uniformWithoutBias() {
+		List<RecommendCandidate> candidates = List.of(
+			new RecommendCandidate(1L, 0L),
+			new RecommendCandidate(2L, 1_000L));
+		Random random = new Random(42);
+
+		int popularCount = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (RecommendSampler.sample(candidates, 1, 0.0, random).getFirst() == 2L) {
+				popularCount++;
+			}
+		}
+
+		assertThat(popularCount).isBetween(4_700, 5_300);
+	}
+}
@@ -11,9 +11,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.content.hashtag.service.TrendingHashtagTracker;
 import com.example.backend.entity.HashtagEntity;
 import com.example.backend.entity.HashtagRepository;
 import com.example.backend.entity.MemberEntity;
@@ -22,6 +24,8 @@ import com.example.backend.entity.PostEntity;
 import com.example.backend.entity.PostHashtagEntity;
 import com.example.backend.entity.PostHashtagRepository;
 import com.example.backend.entity.PostRepository;
+import com.example.backend.entity.PostScoreEntity;
+import com.example.backend.entity.PostScoreRepository;
 import com.example.backend.identity.member.service.MemberService;
 
 @SpringBootTest
@@ -46,6 +50,15 @@ class FeedSchedulerTest {
 	@Autowired
 	private MemberService memberService;
 
+	@Autowired
+	private PostScoreRepository postScoreRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TrendingHashtagTracker trendingHashtagTracker;
+
 	@BeforeEach
 	void setUp() {
 		clearRepositories();
@@ -72,6 +85,73 @@ class FeedSchedulerTest {
 		}
 	}
 
+	@Test
+	@DisplayName("재계산은 누락된 점수 행을 만들고 댓글/좋아요 수를 게시물 값으로 덮어쓴다")
+	void t2() {
+		// given
+		PostEntity post = postRepository.findAll().get(0);
+		jdbcTemplate.update("UPDATE post SET like_count = 7, comment_count = 2 WHERE id = ?", post.getId());
+
+		// when
+		feedScheduler.recountPostScore();
+
+		// then
+		PostScoreEntity postScore = postScoreRepository.findById(post.getId()).orElseThrow();
+		Assertions.assertEquals(7L, postScore.getLikeCount());
+		Assertions.assertEquals(2L, postScore.getCommentCount());
+		Assertions.assertEquals(
+			postScore.getAuthorScore() + 7L + 2L + postScore.getHashtagScore(), postScore.getScore());
+	}
+
+	@Test
+	@DisplayName("반영되지 못한 변화량으로 어긋난 점수는 재계산으로 바로잡힌다")
+	void t3() {
+		// given
+		PostEntity post = postRepository.findAll().get(0);
+		feedScheduler.recountPostScore();
+		jdbcTemplate.update("UPDATE post_score SET like_count = like_count + 5, score = score + 5 WHERE post_id = ?",
+			post.getId());
+
+		// when
+		feedScheduler.recountPostScore();
+
+		// then
+		PostScoreEntity postScore = postScoreRepository.findById(post.getId()).orElseThrow();
+		Assertions.assertEquals(0L, postScore.getLikeCount());
+		Assertions.assertEquals(postScore.getAuthorScore() + postScore.getHashtagScore(), postScore.getScore());
+	}
+
+	@Test
+	@DisplayName("인기 해시태그 순위가 바뀌면 추천 범위 안의 게시물 해시태그 점수를 다시 계산한다")
+	void t4() {
+		// given
+		Long hashtagId = hashtagRepository.findAll().stream()
+			.filter(hashtag -> hashtag.getContent().equals("Hashtag30"))
+			.findFirst()
+			.orElseThrow()
+			.getId();
+		feedScheduler.updatePopularHashtag();
+		trendingHashtagTracker.reset(List.of());
+		trendingHashtagTracker.record(List.of(hashtagId));
+
+		// when
+		feedScheduler.refreshPopularHashtag();
+
+		// then
+		Assertions.assertEquals(List.of(hashtagId),
+			feedScheduler.getPopularHashtagList().stream().map(HashtagEntity::getId).toList());
+		List<PostScoreEntity> postScores = postScoreRepository.findAll();
+		Assertions.assertEquals(3, postScores.size());
+		for (PostScoreEntity postScore : postScores) {
+			Long tagged = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM post_hashtag WHERE post_id = ? AND hashtag_id = ?",
+				Long.class, postScore.getPostId(), hashtagId);
+			Assertions.assertEquals(tagged > 0 ? POST_SCORE_POPULAR_HASHTAG : 0L, postScore.getHashtagScore());
+			Assertions.assertEquals(postScore.getAuthorScore() + postScore.getCommentCount()
+				+ postScore.getLikeCount() + postScore.getHashtagScore(), postScore.getScore());
+		}
+	}
+
 	private void clearRepositories() {
 		memberRepository.deleteAll();
 		postRepository.deleteAll();
@@ -100,6 +180,7 @@ class FeedSchedulerTest {
 				.build());
 		}
 		postRepository.saveAll(posts);
+		postRepository.flush();
 
 		// Hashtag
 		List<HashtagEntity> hashtags = new ArrayList<>();
@@ -125,6 +206,7 @@ class FeedSchedulerTest {
 			}
 		}
 		postHashtagRepository.saveAll(postHashtags);
+		postHashtagRepository.flush();
 	}
 
 	private static void createPostHashtags(List<PostHashtagEntity> postHashtags, List<PostEntity> posts,
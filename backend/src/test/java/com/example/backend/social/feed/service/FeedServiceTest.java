@@ -4,6 +4,9 @@ import static com.example.backend.entity.QMemberEntity.*;
 import static com.example.backend.social.feed.constant.FeedConstants.*;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +23,7 @@ import com.example.backend.entity.MemberEntity;
 import com.example.backend.global.event.CommentEventListener;
 import com.example.backend.global.event.FollowEventListener;
 import com.example.backend.global.event.LikeEventListener;
+import com.example.backend.social.feed.dto.FeedInfoResponse;
 import com.example.backend.social.feed.dto.FeedListResponse;
 import com.example.backend.social.feed.dto.FeedMemberRequest;
 import com.example.backend.social.feed.dto.FeedRequest;
@@ -40,6 +45,9 @@ class FeedServiceTest {
 	@Autowired
 	private JPAQueryFactory queryFactory;
 
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
 	private MemberEntity member;
 
 	@MockitoBean
@@ -56,6 +64,12 @@ class FeedServiceTest {
 		member = queryFactory.selectFrom(memberEntity)
 			.where(memberEntity.username.eq("user1"))
 			.fetchOne();
+
+		// 이전 실행에서 같은 게시물 ID 를 본 것으로 기록한 filter 를 지운다
+		Set<String> seenKeys = redisTemplate.keys("feed:seen:{" + member.getId() + "}:*");
+		if (seenKeys != null && !seenKeys.isEmpty()) {
+			redisTemplate.delete(seenKeys);
+		}
 	}
 
 	@Test
@@ -116,4 +130,36 @@ class FeedServiceTest {
 
 		feedService.findMembersList(request, 1L);
 	}
+
+	@Test
+	@DisplayName("새로고침을 반복해도 상위 후보를 모두 본 뒤 다음 후보에서 추천한다")
+	void t4() {
+		// given
+		FeedRequest request = FeedRequest.builder()
+			.maxSize(REQUEST_FEED_MAX_SIZE)
+			.lastPostId(0L)
+			.timestamp(LocalDateTime.now())
+			.build();
+		List<String> followingList = member.getFollowingList();
+
+		// when
+		Set<Long> recommended = new HashSet<>();
+		int duplicated = 0;
+		for (int refresh = 0; refresh < 5; refresh++) {
+			FeedListResponse response = feedService.findList(request, member.getId());
+			for (FeedInfoResponse feed : response.feedList()) {
+				if (followingList.contains(feed.authorName()) || feed.authorId().equals(member.getId())) {
+					continue;
+				}
+				if (!recommended.add(feed.postId())) {
+					duplicated++;
+				}
+			}
+		}
+
+		// then
+		// 팔로우하지 않은 10명의 게시물 50개가 한 번 새로고침에 10개씩 중복 없이 모두 추천된다
+		Assertions.assertEquals(0, duplicated);
+		Assertions.assertEquals(50, recommended.size());
+	}
 }
@@ -1,7 +1,12 @@
 package com.example.backend.social.follow.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.entity.MemberEntity;
@@ -18,6 +24,8 @@ import com.example.backend.global.event.FollowEventListener;
 import com.example.backend.identity.member.service.MemberService;
 import com.example.backend.social.exception.SocialErrorCode;
 import com.example.backend.social.exception.SocialException;
+import com.example.backend.social.feed.implement.FeedFanOutPolicy;
+import com.example.backend.social.feed.implement.FeedTimelineStore;
 import com.example.backend.social.follow.dto.FollowResponse;
 
 import jakarta.persistence.EntityManager;
@@ -39,14 +47,26 @@ public class FollowServiceTest {
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private FeedFanOutPolicy feedFanOutPolicy;
+
     @MockitoBean
     FollowEventListener followEventListener;
 
+    @MockitoBean
+    FeedTimelineStore feedTimelineStore;
+
+    private long pullThreshold;
+    private long pushThreshold;
+
     private MemberEntity testSender;
     private MemberEntity testReceiver;
 
     @BeforeEach
     public void setup() {
+        pullThreshold = feedFanOutPolicy.getPullThreshold();
+        pushThreshold = feedFanOutPolicy.getPushThreshold();
+
         // 테스트 전에 데이터 초기화
         memberRepository.deleteAll();
 
@@ -60,6 +80,12 @@ public class FollowServiceTest {
         testReceiver = memberService.join("testReceiver", "testPassword", "testReceiver@gmail.com");
     }
 
+    @AfterEach
+    public void tearDown() {
+        ReflectionTestUtils.setField(feedFanOutPolicy, "pullThreshold", pullThreshold);
+        ReflectionTestUtils.setField(feedFanOutPolicy, "pushThreshold", pushThreshold);
+    }
+
     @Test
     @DisplayName("1. 팔로우 요청 테스트")
     public void t001() throws Exception {
@@ -226,4 +252,40 @@ public class FollowServiceTest {
         // Then
         assertFalse(isMutual);
     }
+
+    @Test
+    @DisplayName("10. 팔로우 취소로 pull 대상에서 벗어난 작성자의 팔로워 타임라인을 제거")
+    public void t010() {
+        // Given
+        ReflectionTestUtils.setField(feedFanOutPolicy, "pullThreshold", 2L);
+        ReflectionTestUtils.setField(feedFanOutPolicy, "pushThreshold", 2L);
+        MemberEntity follower = memberService.join("testFollower", "testPassword", "testFollower@gmail.com");
+        followService.createFollow(follower.getUsername(), testReceiver.getUsername());
+        followService.createFollow(testSender.getUsername(), testReceiver.getUsername());
+
+        // When
+        followService.deleteFollow(testSender.getUsername(), testReceiver.getUsername());
+
+        // Then
+        verify(feedTimelineStore).evictAfterCommit(testSender.getId());
+        verify(feedTimelineStore).evictAllAfterCommit(List.of(follower.getId()));
+    }
+
+    @Test
+    @DisplayName("11. 팔로우 취소 후 팔로워 수가 push 임계값 이상이면 pull 대상을 유지하고 팔로워 타임라인을 제거하지 않음")
+    public void t011() {
+        // Given
+        ReflectionTestUtils.setField(feedFanOutPolicy, "pullThreshold", 2L);
+        ReflectionTestUtils.setField(feedFanOutPolicy, "pushThreshold", 1L);
+        MemberEntity follower = memberService.join("testFollower", "testPassword", "testFollower@gmail.com");
+        followService.createFollow(follower.getUsername(), testReceiver.getUsername());
+        followService.createFollow(testSender.getUsername(), testReceiver.getUsername());
+
+        // When
+        followService.deleteFollow(testSender.getUsername(), testReceiver.getUsername());
+
+        // Then
+        verify(feedTimelineStore, never()).evictAllAfterCommit(anyList());
+        assertTrue(memberRepository.findById(testReceiver.getId()).orElseThrow().isFeedPulled());
+    }
 }
@@ -2,6 +2,10 @@ package com.example.backend.social.reaction.like.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +29,7 @@ import com.example.backend.entity.PostRepository;
 import com.example.backend.global.event.LikeEventListener;
 import com.example.backend.identity.member.service.MemberService;
 import com.example.backend.social.exception.SocialException;
+import com.example.backend.social.reaction.like.dto.LikeStatesResponse;
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse;
 import com.example.backend.social.reaction.like.scheduler.LikeSyncManager;
 import com.example.backend.social.reaction.like.util.RedisKeyUtil;
@@ -253,4 +258,31 @@ public class LikeServiceTest {
 		assertTrue(replyResponse.isLiked());
 		assertEquals(1L, replyResponse.likeCount());
 	}
+
+	@Test
+	@DisplayName("7. 여러 리소스의 좋아요 여부 일괄 조회 테스트")
+	public void t007() {
+		// Given - 댓글에만 좋아요
+		long memberId = testMember.getId();
+		likeService.toggleLike(memberId, "comment", testComment.getId());
+
+		// When
+		LikeStatesResponse response = likeService.getLikeStates(memberId, "comment",
+			List.of(testComment.getId(), testReply.getId(), testComment.getId()));
+
+		// Then - Redis 에 있는 댓글은 좋아요, 기록이 없는 대댓글은 DB 확인 후 좋아요 아님
+		assertEquals(Map.of(testComment.getId(), true, testReply.getId(), false), response.likeStates());
+	}
+
+	@Test
+	@DisplayName("8. 좋아요 여부 일괄 조회 개수 제한 테스트")
+	public void t008() {
+		// Given
+		long memberId = testMember.getId();
+		List<Long> tooManyIds = LongStream.rangeClosed(1, LikeService.MAX_LIKE_STATE_IDS + 1).boxed().toList();
+
+		// When & Then
+		assertThrows(SocialException.class, () -> likeService.getLikeStates(memberId, "post", tooManyIds));
+		assertThrows(SocialException.class, () -> likeService.getLikeStates(memberId, "post", List.of()));
+	}
 }
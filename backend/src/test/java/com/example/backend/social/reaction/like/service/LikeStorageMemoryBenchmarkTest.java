@@ -0,0 +1,146 @@
+package com.example.backend.social.reaction.like.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.util.LikeStorageLayout;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 좋아요 100만 개를 LEGACY, COMPACT 방식으로 저장했을 때 Redis 메모리 사용량 비교
+ * 리소스마다 좋아요가 적어 상태 해시가 listpack 으로 저장되는 경우와, 인기 리소스라 hashtable 로 저장되는 경우를 모두 측정한다
+ * Redis 를 비우고 실행하므로 LIKE_BENCHMARK=true 환경 변수가 있을 때만 실행된다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "LIKE_BENCHMARK", matches = "true")
+public class LikeStorageMemoryBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(LikeStorageMemoryBenchmarkTest.class);
+
+	private static final int LIKE_COUNT = 1_000_000;
+
+	// 리소스마다 좋아요 100개 (해시가 listpack 으로 저장되는 크기, hash-max-listpack-entries 기본값 128 이하)
+	private static final int LIKES_PER_RESOURCE = 100;
+
+	// 인기 리소스마다 좋아요 1만 개 (해시가 hashtable 로 저장되는 크기)
+	private static final int HOT_LIKES_PER_RESOURCE = 10_000;
+
+	private static final int PIPELINE_SIZE = 10_000;
+
+	private static final long TTL_SECONDS = Duration.ofDays(7).toSeconds();
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	@AfterEach
+	public void flush() {
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@Test
+	@DisplayName("listpack - COMPACT 방식이 LEGACY 방식보다 메모리를 적게 사용한다")
+	public void compareMemoryUsage() {
+		compareMemoryUsage(LIKES_PER_RESOURCE);
+	}
+
+	@Test
+	@DisplayName("hashtable - 인기 리소스에서도 COMPACT 방식이 LEGACY 방식보다 메모리를 적게 사용한다")
+	public void compareMemoryUsageOfHotResources() {
+		compareMemoryUsage(HOT_LIKES_PER_RESOURCE);
+	}
+
+	private void compareMemoryUsage(int likesPerResource) {
+		long legacyBytes = measure(() -> writeLegacy(likesPerResource));
+		flush();
+		long compactBytes = measure(() -> writeCompact(likesPerResource));
+
+		log.info("[like storage benchmark] {} likes, {} likes/resource: legacy {} bytes ({} B/like), "
+				+ "compact {} bytes ({} B/like)",
+			LIKE_COUNT, likesPerResource, legacyBytes, String.format("%.1f", (double) legacyBytes / LIKE_COUNT),
+			compactBytes, String.format("%.1f", (double) compactBytes / LIKE_COUNT));
+		assertTrue(compactBytes < legacyBytes);
+	}
+
+	private long measure(Runnable writer) {
+		long before = usedMemory();
+		writer.run();
+		return usedMemory() - before;
+	}
+
+	private void writeLegacy(int likesPerResource) {
+		LocalDateTime now = LocalDateTime.now();
+		for (int from = 0; from < LIKE_COUNT; from += PIPELINE_SIZE) {
+			int start = from;
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection) connection;
+				for (int i = start; i < start + PIPELINE_SIZE; i++) {
+					long resourceId = i / likesPerResource;
+					long memberId = i % likesPerResource;
+					LikeInfo likeInfo = new LikeInfo(memberId, resourceId, "POST", now, now, true);
+					stringConnection.setEx(RedisKeyUtil.getLikeKey("POST", resourceId, memberId), TTL_SECONDS,
+						toJson(likeInfo));
+				}
+				return null;
+			});
+		}
+	}
+
+	private void writeCompact(int likesPerResource) {
+		for (int from = 0; from < LIKE_COUNT; from += PIPELINE_SIZE) {
+			int start = from;
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection) connection;
+				for (int i = start; i < start + PIPELINE_SIZE; i++) {
+					long resourceId = i / likesPerResource;
+					long memberId = i % likesPerResource;
+					String stateKey = RedisKeyUtil.getLikeStateKey("POST", resourceId);
+					stringConnection.hSet(stateKey, String.valueOf(memberId), LikeStorageLayout.LIKED);
+					stringConnection.expire(stateKey, TTL_SECONDS);
+				}
+				return null;
+			});
+		}
+	}
+
+	private long usedMemory() {
+		Properties info = stringRedisTemplate.execute(
+			(RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+		return Long.parseLong(info.getProperty("used_memory"));
+	}
+
+	private String toJson(LikeInfo likeInfo) {
+		try {
+			return objectMapper.writeValueAsString(likeInfo);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.example.backend.social.reaction.like.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -8,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +20,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.entity.LikeEntity;
@@ -28,6 +31,7 @@ import com.example.backend.entity.PostEntity;
 import com.example.backend.entity.PostRepository;
 import com.example.backend.identity.member.service.MemberService;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.scheduler.LikeSyncFlusher;
 import com.example.backend.social.reaction.like.scheduler.LikeSyncManager;
 import com.example.backend.social.reaction.like.util.RedisKeyUtil;
 import com.example.backend.social.reaction.like.util.component.RedisLikeService;
@@ -45,6 +49,10 @@ public class LikeSyncServiceTest {
     
     @Autowired
     private LikeSyncManager likeSyncManager;
+
+    // 전용 스레드의 반영과 겹치지 않도록 테스트에서 직접 syncToDatabase 를 호출한다
+    @MockitoBean
+    private LikeSyncFlusher likeSyncFlusher;
     
     @Autowired
     private RedisLikeService redisLikeService;
@@ -136,15 +144,10 @@ public class LikeSyncServiceTest {
             likeSyncService.addToPendingSync(likeInfo);
         }
         
-        // 잠시 대기 (자동 동기화 발생 기다림 - 배치 사이즈 5에 도달했을 때)
-        Thread.sleep(1000);
+        // When - 배치 사이즈 5에 도달했을 때 전용 스레드가 실행하는 동기화
+        likeSyncService.syncToDatabase();
+
 
-        // 만약 자동 동기화가 작동하지 않으면 수동으로 한 번 호출
-        if (likeRepository.findAll().isEmpty()) {
-            likeSyncService.syncToDatabase();
-            Thread.sleep(500);
-        }
-        
         // Then - DB에 좋아요 정보가 저장되었는지 확인
         List<LikeEntity> likes = likeRepository.findAll();
         assertEquals(5, likes.size());
@@ -190,10 +193,7 @@ public class LikeSyncServiceTest {
         
         // 시간 경과 시뮬레이션 (수동으로 syncToDatabase 호출)
         likeSyncService.syncToDatabase();
-        
-        // 잠시 대기
-        Thread.sleep(500);
-        
+
         // Then - DB에 좋아요 정보가 저장되었는지 확인
         List<LikeEntity> likes = likeRepository.findAll();
         assertEquals(1, likes.size());
@@ -249,13 +249,10 @@ public class LikeSyncServiceTest {
             likeSyncManager.scheduleSyncToDatabase(member2.getId(), postId, resourceType, true, true);
         }
         
-        // 6개의 좋아요중 5개는 자동 동기화로 DB 반영
-        Thread.sleep(1000);
-
-        // 첫 번째 배치 이후 남은 1개의 좋아요를 처리하기 위해 수동 동기화 실행
+        // 좋아요가 추가될 때마다 전용 스레드에 알리고, 그 동기화를 직접 실행
+        verify(likeSyncFlusher, times(6)).onQueued();
         likeSyncService.syncToDatabase();
-        Thread.sleep(500);
-        
+
         // Then - DB에 모든 좋아요 정보가 저장되었는지 확인
         List<LikeEntity> likes = likeRepository.findAll();
         assertEquals(6, likes.size());  // 3개 리소스 타입 x 2명 멤버 = 6개 좋아요
@@ -271,4 +268,45 @@ public class LikeSyncServiceTest {
         assertEquals(2L, likeCountByResourceType.getOrDefault("COMMENT", 0L));
         assertEquals(2L, likeCountByResourceType.getOrDefault("REPLY", 0L));
     }
+
+    @Test
+    @DisplayName("4. 같은 좋아요를 다시 반영해도 행이 늘어나지 않고 상태만 갱신되는지 테스트")
+    public void upsertIsIdempotent() {
+        // Given - 새 좋아요 100개 반영
+        likeRepository.bulkUpsertLikes(createLikeInfos(100, LocalDateTime.now(), true));
+
+        // When - 생성 시각을 모르는 기존 좋아요로 같은 키를 취소 상태로 다시 반영
+        likeRepository.bulkUpsertLikes(createLikeInfos(100, null, false));
+
+        // Then
+        List<LikeEntity> likes = likeRepository.findAll();
+        assertEquals(100, likes.size());
+        assertTrue(likes.stream().noneMatch(LikeEntity::isLiked));
+    }
+
+    @Test
+    @DisplayName("5. 수정 시각이 이전인 좋아요가 늦게 반영되어도 최신 상태를 덮어쓰지 않는지 테스트")
+    public void staleUpsertIsIgnored() {
+        // Given - 나중에 취소한 상태가 먼저 반영됨
+        LocalDateTime likedAt = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime canceledAt = LocalDateTime.now();
+        likeRepository.bulkUpsertLikes(List.of(
+            new LikeInfo(testMember.getId(), testPost.getId(), "POST", likedAt, canceledAt, false)));
+
+        // When - 재전달된 이전 좋아요 상태가 늦게 반영됨
+        likeRepository.bulkUpsertLikes(List.of(
+            new LikeInfo(testMember.getId(), testPost.getId(), "POST", likedAt, likedAt, true)));
+
+        // Then
+        List<LikeEntity> likes = likeRepository.findAll();
+        assertEquals(1, likes.size());
+        assertFalse(likes.getFirst().isLiked());
+    }
+
+    private List<LikeInfo> createLikeInfos(int count, LocalDateTime createDate, boolean isActive) {
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(resourceId -> new LikeInfo(testMember.getId(), resourceId, "POST",
+                createDate, LocalDateTime.now(), isActive))
+            .toList();
+    }
 }
@@ -0,0 +1,163 @@
+package com.example.backend.social.reaction.like.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.entity.LikeRepositoryCustomImpl;
+import com.example.backend.social.reaction.like.converter.LikeConverter;
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.util.component.LikeBloomFilter;
+import com.example.backend.social.reaction.like.util.component.LikeCountSynchronizer;
+import com.example.backend.social.reaction.like.util.component.LikeSyncJournal;
+import com.example.backend.social.reaction.like.util.component.LikeSyncStream;
+
+/**
+ * Stream 읽기와 DB 반영 트랜잭션을 나누어 실행하는지 확인
+ * @author Metronon
+ * @since 2025-03-18
+ */
+@ExtendWith(MockitoExtension.class)
+class LikeSyncServiceUnitTest {
+
+	private static final int READ_BATCH_SIZE = 500;
+
+	@Mock
+	LikeRepositoryCustomImpl likeRepositoryCustom;
+	@Mock
+	LikeSyncStream likeSyncStream;
+	@Mock
+	LikeSyncJournal likeSyncJournal;
+	@Mock
+	LikeCountSynchronizer likeCountSynchronizer;
+	@Mock
+	LikeBloomFilter likeBloomFilter;
+	@Mock
+	TransactionTemplate transactionTemplate;
+
+	LikeSyncService likeSyncService;
+
+	@BeforeEach
+	void setup() {
+		likeSyncService = new LikeSyncService(likeRepositoryCustom, likeSyncStream, likeSyncJournal,
+			likeCountSynchronizer, likeBloomFilter, transactionTemplate);
+	}
+
+	@Test
+	@DisplayName("Stream 을 모두 읽은 묶음마다 트랜잭션을 열어 반영하고 ACK 한다")
+	void test1() {
+		// given
+		MapRecord<String, String, String> record = record("1-0", 10L);
+		when(likeSyncStream.readPending(READ_BATCH_SIZE)).thenReturn(List.of());
+		when(likeSyncStream.claimStale(READ_BATCH_SIZE)).thenReturn(List.of());
+		when(likeSyncStream.readNew(READ_BATCH_SIZE)).thenReturn(List.of(record), List.of());
+		runTransactionCallback();
+		when(likeRepositoryCustom.bulkUpsertLikes(anyList())).thenReturn(1);
+
+		// when
+		likeSyncService.syncToDatabase();
+
+		// then
+		InOrder inOrder = inOrder(likeSyncStream, transactionTemplate, likeRepositoryCustom);
+		inOrder.verify(likeSyncStream).readNew(READ_BATCH_SIZE);
+		inOrder.verify(transactionTemplate).execute(any());
+		inOrder.verify(likeRepositoryCustom).bulkUpsertLikes(anyList());
+		inOrder.verify(likeSyncStream).acknowledge(List.of(RecordId.of("1-0")));
+		verify(likeCountSynchronizer).markDirty("POST", 10L);
+	}
+
+	@Test
+	@DisplayName("반영에 실패한 항목은 ACK 하지 않고, 다음 동기화에서 이 서버의 pending 항목부터 다시 읽는다")
+	void test2() {
+		// given
+		when(likeSyncStream.readPending(READ_BATCH_SIZE)).thenReturn(List.of());
+		when(likeSyncStream.claimStale(READ_BATCH_SIZE)).thenReturn(List.of());
+		when(likeSyncStream.readNew(READ_BATCH_SIZE)).thenReturn(List.of(record("1-0", 10L)), List.of());
+		when(transactionTemplate.execute(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+		// when
+		likeSyncService.syncToDatabase();
+		likeSyncService.syncToDatabase();
+
+		// then
+		verify(likeSyncStream, never()).acknowledge(anyList());
+		verify(likeSyncStream, never()).createGroup();
+		verify(likeSyncStream, times(2)).readPending(READ_BATCH_SIZE);
+	}
+
+	@Test
+	@DisplayName("묶음 반영에 실패하면 한 건씩 다시 반영해 반영할 수 없는 항목만 pending 으로 남기고, 다음 동기화에서 dead-letter 대상을 먼저 옮긴다")
+	void test4() {
+		// given
+		when(likeSyncStream.readPending(READ_BATCH_SIZE)).thenReturn(List.of());
+		when(likeSyncStream.claimStale(READ_BATCH_SIZE)).thenReturn(List.of());
+		when(likeSyncStream.readNew(READ_BATCH_SIZE))
+			.thenReturn(List.of(record("1-0", 10L), record("2-0", 20L)), List.of());
+		runTransactionCallback();
+		when(likeRepositoryCustom.bulkUpsertLikes(anyList())).thenAnswer(invocation -> {
+			List<LikeInfo> likes = invocation.getArgument(0);
+			if (likes.stream().anyMatch(like -> like.resourceId() == 20L)) {
+				throw new DataIntegrityViolationException("poison");
+			}
+			return likes.size();
+		});
+
+		// when
+		likeSyncService.syncToDatabase();
+		likeSyncService.syncToDatabase();
+
+		// then
+		verify(likeSyncStream).acknowledge(List.of(RecordId.of("1-0")));
+		verify(likeSyncStream, never()).acknowledge(List.of(RecordId.of("2-0")));
+		InOrder inOrder = inOrder(likeSyncStream);
+		inOrder.verify(likeSyncStream).readNew(READ_BATCH_SIZE);
+		inOrder.verify(likeSyncStream).deadLetterExhausted(READ_BATCH_SIZE);
+		inOrder.verify(likeSyncStream).readPending(READ_BATCH_SIZE);
+	}
+
+	@Test
+	@DisplayName("Stream 을 읽지 못하면 트랜잭션을 열지 않고 Group 을 다시 만든다")
+	void test3() {
+		// given
+		when(likeSyncStream.readPending(READ_BATCH_SIZE))
+			.thenThrow(new RedisSystemException("NOGROUP", new IllegalStateException()));
+
+		// when
+		likeSyncService.syncToDatabase();
+
+		// then
+		verify(likeSyncStream).createGroup();
+		verifyNoInteractions(transactionTemplate, likeRepositoryCustom);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void runTransactionCallback() {
+		when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+	}
+
+	private static MapRecord<String, String, String> record(String id, Long resourceId) {
+		LikeInfo likeInfo = new LikeInfo(1L, resourceId, "POST", LocalDateTime.now(), LocalDateTime.now(), true);
+		return StreamRecords.<String, String, String>mapBacked(LikeConverter.toSyncFields(likeInfo))
+			.withStreamKey("like:sync:stream")
+			.withId(RecordId.of(id));
+	}
+}
@@ -0,0 +1,161 @@
+package com.example.backend.social.reaction.like.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.entity.LikeRepository;
+import com.example.backend.entity.LikeRepositoryCustomImpl;
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.identity.member.service.MemberService;
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+/**
+ * 좋아요 반영 방식(CASE WHEN UPDATE, upsert) 성능 비교
+ * 실행 시간이 길어 LIKE_BENCHMARK=true 환경 변수가 있을 때만 실행된다
+ * CASE WHEN UPDATE 는 운영 코드에서 제거된 이전 방식으로, 비교를 위해 이 테스트에만 남겨둔다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@EnabledIfEnvironmentVariable(named = "LIKE_BENCHMARK", matches = "true")
+public class LikeUpsertBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(LikeUpsertBenchmarkTest.class);
+
+	private static final int MEMBER_COUNT = 10;
+
+	@Autowired
+	private LikeRepositoryCustomImpl likeRepositoryCustom;
+
+	@Autowired
+	private LikeRepository likeRepository;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<MemberEntity> members = new ArrayList<>();
+
+	@BeforeEach
+	public void setup() {
+		likeRepository.deleteAllInBatch();
+		for (int i = 0; i < MEMBER_COUNT; i++) {
+			members.add(memberService.join("benchmark" + i, "password", "benchmark" + i + "@test.com"));
+		}
+	}
+
+	@ParameterizedTest(name = "{0} rows")
+	@ValueSource(ints = {100, 1_000, 10_000})
+	@DisplayName("기존 좋아요 상태 변경 - CASE WHEN UPDATE 와 upsert 비교")
+	public void compareUpdate(int rows) {
+		likeRepositoryCustom.bulkUpsertLikes(createLikes(rows, LocalDateTime.now(), true));
+
+		long caseWhenMillis = measure(this::bulkUpsertLikesByCaseWhen, createLikes(rows, null, false));
+		assertEquals(0L, countLiked());
+		long upsertMillis = measure(likeRepositoryCustom::bulkUpsertLikes, createLikes(rows, null, true));
+
+		log.info("[like upsert benchmark] update {} rows: case-when {} ms, upsert {} ms",
+			rows, caseWhenMillis, upsertMillis);
+		assertEquals(rows, likeRepository.count());
+		assertEquals(rows, countLiked());
+	}
+
+	@ParameterizedTest(name = "{0} rows")
+	@ValueSource(ints = {100, 1_000, 10_000})
+	@DisplayName("새 좋아요 삽입 - INSERT 와 upsert 비교")
+	public void compareInsert(int rows) {
+		long insertMillis = measure(this::bulkUpsertLikesByCaseWhen, createLikes(rows, LocalDateTime.now(), true));
+		assertEquals(rows, likeRepository.count());
+		likeRepository.deleteAllInBatch();
+		long upsertMillis = measure(likeRepositoryCustom::bulkUpsertLikes, createLikes(rows, LocalDateTime.now(), true));
+
+		log.info("[like upsert benchmark] insert {} rows: insert {} ms, upsert {} ms", rows, insertMillis, upsertMillis);
+		assertEquals(rows, likeRepository.count());
+	}
+
+	private List<LikeInfo> createLikes(int rows, LocalDateTime createDate, boolean isActive) {
+		List<LikeInfo> likes = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			MemberEntity member = members.get(i % MEMBER_COUNT);
+			likes.add(new LikeInfo(member.getId(), (long) (i / MEMBER_COUNT) + 1, "POST",
+				createDate, LocalDateTime.now(), isActive));
+		}
+		return likes;
+	}
+
+	private static long measure(ToIntFunction<List<LikeInfo>> sync, List<LikeInfo> likes) {
+		long start = System.nanoTime();
+		sync.applyAsInt(likes);
+		return (System.nanoTime() - start) / 1_000_000;
+	}
+
+	private long countLiked() {
+		Long liked = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes WHERE is_liked = true", Long.class);
+		return liked == null ? 0L : liked;
+	}
+
+	// 새 좋아요는 INSERT, 기존 좋아요는 CASE WHEN UPDATE 로 나누어 반영하는 이전 방식
+	private int bulkUpsertLikesByCaseWhen(List<LikeInfo> likeInfos) {
+		Map<Boolean, List<LikeInfo>> likesByNew = likeInfos.stream()
+			.collect(Collectors.partitioningBy(like -> like.createDate() != null));
+
+		int updated = 0;
+		List<LikeInfo> newLikes = likesByNew.get(true);
+		if (!newLikes.isEmpty()) {
+			updated += jdbcTemplate.batchUpdate(
+				"INSERT INTO likes (member_id, resource_id, resource_type, create_date, updated_date, is_liked) "
+					+ "VALUES (?, ?, ?, ?, ?, ?)",
+				newLikes.stream()
+					.map(like -> new Object[] {like.memberId(), like.resourceId(), like.resourceType(),
+						Timestamp.valueOf(like.createDate()), Timestamp.valueOf(like.modifyDate()), like.isActive()})
+					.toList()).length;
+		}
+
+		List<LikeInfo> existingLikes = likesByNew.get(false);
+		if (!existingLikes.isEmpty()) {
+			String condition = "(member_id = ? AND resource_id = ? AND resource_type = ?)";
+			StringBuilder sql = new StringBuilder("UPDATE likes SET is_liked = CASE ");
+			List<Object> params = new ArrayList<>();
+			for (LikeInfo like : existingLikes) {
+				sql.append("WHEN ").append(condition).append(" THEN ? ");
+				params.addAll(List.of(like.memberId(), like.resourceId(), like.resourceType(), like.isActive()));
+			}
+			sql.append("ELSE is_liked END, updated_date = CASE ");
+			for (LikeInfo like : existingLikes) {
+				sql.append("WHEN ").append(condition).append(" THEN ? ");
+				params.addAll(List.of(like.memberId(), like.resourceId(), like.resourceType(),
+					Timestamp.valueOf(like.modifyDate())));
+			}
+			sql.append("ELSE updated_date END WHERE ");
+			for (int i = 0; i < existingLikes.size(); i++) {
+				LikeInfo like = existingLikes.get(i);
+				sql.append(i > 0 ? " OR " : "").append(condition);
+				params.addAll(List.of(like.memberId(), like.resourceId(), like.resourceType()));
+			}
+			updated += jdbcTemplate.update(sql.toString(), params.toArray());
+		}
+		return updated;
+	}
+}
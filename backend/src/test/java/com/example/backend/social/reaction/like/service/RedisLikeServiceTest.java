@@ -0,0 +1,225 @@
+package com.example.backend.social.reaction.like.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.social.reaction.like.dto.LikeToggleResult;
+import com.example.backend.social.reaction.like.util.LikeStorageLayout;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
+import com.example.backend.social.reaction.like.util.component.RedisLikeService;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 좋아요 토글 스크립트의 분산 카운터 전환과 기본 키로 합치는 동작, 좋아요 상태 해시의 만료
+ * @author Metronon
+ * @since 2025-03-23
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RedisLikeServiceTest {
+
+	// RedisLikeService 의 분산 카운터 전환 기준과 분산 카운터 수
+	private static final int HOT_LIKE_RATE = 200;
+	private static final int LIKE_COUNT_SHARDS = 8;
+
+	// RedisLikeService 의 상태 해시 최대 필드 수와 그보다 커진 해시의 TTL
+	private static final int STATE_HASH_MAX_FIELDS = 50_000;
+	private static final Duration STATE_HASH_OVERSIZED_TTL = Duration.ofHours(1);
+
+	private static final String RESOURCE_TYPE = "POST";
+	private static final Long RESOURCE_ID = 1L;
+
+	@Autowired
+	private RedisLikeService redisLikeService;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final String countKey = RedisKeyUtil.getLikeCountKey(RESOURCE_TYPE, RESOURCE_ID);
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(redisLikeService, "storageLayout", LikeStorageLayout.LEGACY);
+		stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+	}
+
+	@Test
+	@DisplayName("토글 스크립트의 키는 모두 리소스 hash tag 로 같은 슬롯에 있고, 분산 카운터 키는 슬롯이 나뉜다")
+	void test1() {
+		// given
+		List<String> scriptKeys = List.of(
+			RedisKeyUtil.getLikeKey(RESOURCE_TYPE, RESOURCE_ID, 10L),
+			countKey,
+			RedisKeyUtil.getLikeRateKey(countKey),
+			RedisKeyUtil.getLikeCountShardedKey(countKey),
+			RedisKeyUtil.getLikeCountShardsKey(countKey),
+			RedisKeyUtil.getLikeStateKey(RESOURCE_TYPE, RESOURCE_ID));
+
+		// when
+		long scriptSlots = scriptKeys.stream().map(SlotHash::getSlot).distinct().count();
+		long shardSlots = IntStream.rangeClosed(1, LIKE_COUNT_SHARDS)
+			.mapToObj(shard -> SlotHash.getSlot(RedisKeyUtil.getLikeCountShardKey(countKey, shard)))
+			.distinct()
+			.count();
+
+		// then
+		assertEquals(1, scriptSlots);
+		assertTrue(shardSlots > 1);
+	}
+
+	@Test
+	@DisplayName("토글 빈도가 기준을 넘으면 좋아요 수를 기본 키가 아닌 분산 카운터에 기록한다")
+	void test2() {
+		// given
+		stringRedisTemplate.opsForValue().set(RedisKeyUtil.getLikeRateKey(countKey), String.valueOf(HOT_LIKE_RATE - 1));
+		stringRedisTemplate.opsForValue().set(countKey, "5");
+
+		// when
+		LikeToggleResult result = toggle(10L);
+
+		// then
+		assertTrue(result.isLiked());
+		assertEquals(6L, result.likeCount());
+		assertEquals("5", stringRedisTemplate.opsForValue().get(countKey));
+		assertEquals("1", stringRedisTemplate.opsForValue().get(shardKey(10L)));
+		assertTrue(stringRedisTemplate.opsForSet().isMember(RedisKeyUtil.getShardedLikeCountsKey(), countKey));
+		assertEquals(6L, redisLikeService.getLikeCount(countKey));
+	}
+
+	@Test
+	@DisplayName("분산 기록이 끝나면 분산 카운터를 기본 키로 합치고 목록에서 제거한다")
+	void test3() {
+		// given
+		stringRedisTemplate.opsForValue().set(RedisKeyUtil.getLikeRateKey(countKey), String.valueOf(HOT_LIKE_RATE - 1));
+		toggle(10L);
+		toggle(11L);
+		stringRedisTemplate.delete(RedisKeyUtil.getLikeCountShardedKey(countKey));
+
+		// when
+		int folded = redisLikeService.foldShardedLikeCounts();
+
+		// then
+		assertEquals(1, folded);
+		assertEquals("2", stringRedisTemplate.opsForValue().get(countKey));
+		assertNull(stringRedisTemplate.opsForValue().get(shardKey(10L)));
+		assertNull(stringRedisTemplate.opsForValue().get(shardKey(11L)));
+		assertFalse(stringRedisTemplate.opsForSet().isMember(RedisKeyUtil.getShardedLikeCountsKey(), countKey));
+		assertEquals(2L, redisLikeService.getLikeCount(countKey));
+	}
+
+	@Test
+	@DisplayName("분산 기록 중인 좋아요 수는 합치지 않는다")
+	void test4() {
+		// given
+		stringRedisTemplate.opsForValue().set(RedisKeyUtil.getLikeRateKey(countKey), String.valueOf(HOT_LIKE_RATE - 1));
+		toggle(10L);
+
+		// when
+		int folded = redisLikeService.foldShardedLikeCounts();
+
+		// then
+		assertEquals(0, folded);
+		assertEquals("1", stringRedisTemplate.opsForValue().get(shardKey(10L)));
+		assertTrue(stringRedisTemplate.opsForSet().isMember(RedisKeyUtil.getShardedLikeCountsKey(), countKey));
+	}
+
+	@Test
+	@DisplayName("분산 기록이 끝났지만 합치기 전인 리소스의 토글은 분산 카운터까지 합한 좋아요 수를 반환한다")
+	void test5() {
+		// given
+		stringRedisTemplate.opsForValue().set(RedisKeyUtil.getLikeRateKey(countKey), String.valueOf(HOT_LIKE_RATE - 1));
+		toggle(10L);
+		stringRedisTemplate.delete(RedisKeyUtil.getLikeCountShardedKey(countKey));
+		stringRedisTemplate.delete(RedisKeyUtil.getLikeRateKey(countKey));
+
+		// when
+		LikeToggleResult result = toggle(11L);
+
+		// then
+		assertEquals(2L, result.likeCount());
+		assertEquals("1", stringRedisTemplate.opsForValue().get(countKey));
+		assertEquals("1", stringRedisTemplate.opsForValue().get(shardKey(10L)));
+	}
+
+	@Test
+	@DisplayName("토글해도 좋아요 상태 해시의 만료 시각은 늘어나지 않는다")
+	void test6() {
+		// given
+		ReflectionTestUtils.setField(redisLikeService, "storageLayout", LikeStorageLayout.DUAL);
+		String stateKey = RedisKeyUtil.getLikeStateKey(RESOURCE_TYPE, RESOURCE_ID);
+		toggle(10L);
+		stringRedisTemplate.expire(stateKey, Duration.ofSeconds(100));
+
+		// when
+		toggle(11L);
+		toggle(10L);
+
+		// then
+		assertEquals(2L, stringRedisTemplate.opsForHash().size(stateKey));
+		assertTrue(stringRedisTemplate.getExpire(stateKey) <= 100);
+	}
+
+	@Test
+	@DisplayName("좋아요 상태 해시의 필드가 최대 필드 수를 넘으면 만료 시각을 앞당긴다")
+	void test7() {
+		// given
+		ReflectionTestUtils.setField(redisLikeService, "storageLayout", LikeStorageLayout.DUAL);
+		String stateKey = RedisKeyUtil.getLikeStateKey(RESOURCE_TYPE, RESOURCE_ID);
+		Map<String, String> states = IntStream.rangeClosed(1_000, 1_000 + STATE_HASH_MAX_FIELDS)
+			.mapToObj(String::valueOf)
+			.collect(Collectors.toMap(field -> field, field -> LikeStorageLayout.LIKED));
+		stringRedisTemplate.opsForHash().putAll(stateKey, states);
+		stringRedisTemplate.expire(stateKey, Duration.ofDays(7));
+
+		// when
+		LikeToggleResult result = toggle(10L);
+
+		// then
+		assertTrue(result.isLiked());
+		assertTrue(stringRedisTemplate.getExpire(stateKey) <= STATE_HASH_OVERSIZED_TTL.toSeconds());
+	}
+
+	@Test
+	@DisplayName("분산 카운터에 기록한 토글은 지표에 남는다")
+	void test8() {
+		// given
+		stringRedisTemplate.opsForValue().set(RedisKeyUtil.getLikeRateKey(countKey), String.valueOf(HOT_LIKE_RATE - 1));
+		double before = meterRegistry.counter("like.count.shard.increment").count();
+
+		// when
+		toggle(10L);
+		toggle(11L);
+
+		// then
+		assertEquals(before + 2, meterRegistry.counter("like.count.shard.increment").count());
+		assertEquals(0, meterRegistry.counter("like.count.shard.increment.failed").count());
+	}
+
+	private LikeToggleResult toggle(Long memberId) {
+		return redisLikeService.toggleLike(RedisKeyUtil.getLikeKey(RESOURCE_TYPE, RESOURCE_ID, memberId), countKey,
+			memberId, RESOURCE_ID, RESOURCE_TYPE);
+	}
+
+	private String shardKey(Long memberId) {
+		return RedisKeyUtil.getLikeCountShardKey(countKey, (int)(memberId % LIKE_COUNT_SHARDS) + 1);
+	}
+}
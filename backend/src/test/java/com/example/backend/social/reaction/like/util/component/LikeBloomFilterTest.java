@@ -0,0 +1,153 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+/**
+ * likes 테이블로 다시 만든 filter 의 false negative 여부와 다시 만드는 동안 기록된 좋아요, 잠금 확인
+ * @author Metronon
+ * @since 2025-03-24
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LikeBloomFilterTest {
+
+	private static final String RESOURCE_TYPE = "POST";
+	private static final String LOCK_KEY = "likeBloom:{POST}:lock";
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private JdbcTemplate jdbcTemplate;
+	private LikeBloomFilter likeBloomFilter;
+
+	@BeforeEach
+	void setup() {
+		flush();
+		jdbcTemplate = mock(JdbcTemplate.class);
+		likeBloomFilter = new LikeBloomFilter(stringRedisTemplate, jdbcTemplate);
+	}
+
+	@AfterEach
+	void flush() {
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@Test
+	@DisplayName("다시 만든 filter 는 DB 에 있는 행을 모두 포함한다")
+	void test1() {
+		// given
+		List<Long> resourceIds = LongStream.rangeClosed(1, 2_500).boxed().toList();
+		givenRows(resourceIds, null);
+
+		// when
+		boolean rebuilt = likeBloomFilter.rebuild(RESOURCE_TYPE);
+
+		// then
+		assertTrue(rebuilt);
+		resourceIds.forEach(resourceId -> assertTrue(likeBloomFilter.mightContain(RESOURCE_TYPE, 1L, resourceId)));
+	}
+
+	@Test
+	@DisplayName("filter 가 없을 때 다시 만드는 동안 기록된 좋아요는 완성된 filter 에 합쳐진다")
+	void test2() {
+		// given
+		givenRows(List.of(1L, 2L), () -> likeBloomFilter.markAll(List.of(like(100L))));
+
+		// when
+		likeBloomFilter.rebuild(RESOURCE_TYPE);
+
+		// then
+		assertTrue(likeBloomFilter.mightContain(RESOURCE_TYPE, 1L, 100L));
+		assertFalse(stringRedisTemplate.hasKey(LikeBloomFilter.keys(RESOURCE_TYPE).get(1)));
+	}
+
+	@Test
+	@DisplayName("filter 가 있을 때 다시 만드는 동안 기록된 좋아요는 완성된 filter 에 합쳐진다")
+	void test3() {
+		// given
+		givenRows(List.of(1L), null);
+		likeBloomFilter.rebuild(RESOURCE_TYPE);
+		stringRedisTemplate.delete(LOCK_KEY);
+		givenRows(List.of(1L, 2L), () -> likeBloomFilter.markAll(List.of(like(100L))));
+
+		// when
+		likeBloomFilter.rebuild(RESOURCE_TYPE);
+
+		// then
+		assertTrue(likeBloomFilter.mightContain(RESOURCE_TYPE, 1L, 2L));
+		assertTrue(likeBloomFilter.mightContain(RESOURCE_TYPE, 1L, 100L));
+	}
+
+	@Test
+	@DisplayName("다른 서버가 잠금을 가지고 있으면 다시 만들지 않는다")
+	void test4() {
+		// given
+		stringRedisTemplate.opsForValue().set(LOCK_KEY, "other");
+
+		// when
+		boolean rebuilt = likeBloomFilter.rebuild(RESOURCE_TYPE);
+
+		// then
+		assertFalse(rebuilt);
+		verifyNoInteractions(jdbcTemplate);
+		assertEquals("other", stringRedisTemplate.opsForValue().get(LOCK_KEY));
+	}
+
+	@Test
+	@DisplayName("다시 만들지 못하면 잠금을 풀어 다른 서버가 다시 시도할 수 있다")
+	void test5() {
+		// given
+		doThrow(new QueryTimeoutException("timeout"))
+			.when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(RESOURCE_TYPE));
+
+		// when & then
+		assertThrows(QueryTimeoutException.class, () -> likeBloomFilter.rebuild(RESOURCE_TYPE));
+		assertFalse(stringRedisTemplate.hasKey(LOCK_KEY));
+	}
+
+	// 회원 1 이 resourceIds 에 좋아요를 누른 행, 첫 행을 읽은 뒤 duringRebuild 를 실행한다
+	private void givenRows(List<Long> resourceIds, Runnable duringRebuild) {
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			for (int i = 0; i < resourceIds.size(); i++) {
+				ResultSet resultSet = mock(ResultSet.class);
+				when(resultSet.getLong(1)).thenReturn(1L);
+				when(resultSet.getLong(2)).thenReturn(resourceIds.get(i));
+				handler.processRow(resultSet);
+				if (i == 0 && duringRebuild != null) {
+					duringRebuild.run();
+				}
+			}
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(RESOURCE_TYPE));
+	}
+
+	private static LikeInfo like(Long resourceId) {
+		return new LikeInfo(1L, resourceId, RESOURCE_TYPE, LocalDateTime.now(), LocalDateTime.now(), true);
+	}
+}
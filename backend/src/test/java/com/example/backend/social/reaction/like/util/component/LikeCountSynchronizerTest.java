@@ -0,0 +1,103 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.global.event.PostLikeCountSyncEvent;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * @author Metronon
+ * @since 2025-03-21
+ */
+@ExtendWith(MockitoExtension.class)
+class LikeCountSynchronizerTest {
+
+	// LikeCountSynchronizer 의 chunk 크기
+	private static final int SYNC_CHUNK_SIZE = 500;
+
+	@Mock
+	JPAQueryFactory queryFactory;
+	@Mock
+	TransactionTemplate transactionTemplate;
+	@Mock
+	RedisLikeService redisLikeService;
+	@Mock
+	ApplicationEventPublisher applicationEventPublisher;
+
+	LikeCountSynchronizer synchronizer;
+
+	@BeforeEach
+	void setup() {
+		synchronizer = new LikeCountSynchronizer(queryFactory, transactionTemplate, redisLikeService,
+			applicationEventPublisher);
+	}
+
+	@Test
+	@DisplayName("chunk 하나가 실패해도 나머지 chunk 와 댓글 동기화는 계속하고, 실패한 chunk 만 다음에 다시 계산한다")
+	void test1() {
+		// given
+		for (long postId = 1; postId <= SYNC_CHUNK_SIZE + 1; postId++) {
+			synchronizer.markDirty("POST", postId);
+		}
+		synchronizer.markDirty("COMMENT", 1L);
+		when(transactionTemplate.execute(any()))
+			.thenThrow(new QueryTimeoutException("timeout"))
+			.thenReturn(1L);
+
+		// when
+		synchronizer.synchronizeLikeCounts();
+
+		// then
+		// 게시물 두 chunk 와 댓글 한 chunk
+		verify(transactionTemplate, times(3)).execute(any());
+
+		// 실패한 chunk 만 다시 동기화한다
+		clearInvocations(transactionTemplate);
+		synchronizer.synchronizeLikeCounts();
+		verify(transactionTemplate, times(1)).execute(any());
+	}
+
+	@Test
+	@DisplayName("분산 좋아요 수 병합이 실패해도 DB 동기화는 실행한다")
+	void test2() {
+		// given
+		synchronizer.markDirty("POST", 1L);
+		when(redisLikeService.foldShardedLikeCounts()).thenThrow(new QueryTimeoutException("timeout"));
+		when(transactionTemplate.execute(any())).thenReturn(1L);
+
+		// when
+		synchronizer.synchronizeLikeCounts();
+
+		// then
+		verify(transactionTemplate, times(1)).execute(any());
+	}
+
+	@Test
+	@DisplayName("동기화한 게시물 chunk 만 피드 캐시 갱신 이벤트로 알린다")
+	void test3() {
+		// given
+		synchronizer.markDirty("POST", 1L);
+		synchronizer.markDirty("COMMENT", 2L);
+		when(transactionTemplate.execute(any())).thenReturn(1L);
+
+		// when
+		synchronizer.synchronizeLikeCounts();
+
+		// then
+		verify(applicationEventPublisher).publishEvent(new PostLikeCountSyncEvent(List.of(1L)));
+		verifyNoMoreInteractions(applicationEventPublisher);
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 좋아요 동기화 Stream 의 Consumer 이름 결정
+ * @author Metronon
+ * @since 2025-03-18
+ */
+@ExtendWith(MockitoExtension.class)
+class LikeSyncStreamTest {
+
+	@Mock
+	StringRedisTemplate stringRedisTemplate;
+
+	@Test
+	@DisplayName("Consumer 이름을 설정하지 않으면 프로세스마다 다른 이름을 사용한다")
+	void test1() {
+		// when
+		LikeSyncStream first = new LikeSyncStream(stringRedisTemplate, "");
+		LikeSyncStream second = new LikeSyncStream(stringRedisTemplate, " ");
+
+		// then
+		assertFalse(first.getConsumerName().isBlank());
+		assertNotEquals(first.getConsumerName(), second.getConsumerName());
+	}
+
+	@Test
+	@DisplayName("설정한 Consumer 이름은 그대로 사용한다")
+	void test2() {
+		// when
+		LikeSyncStream stream = new LikeSyncStream(stringRedisTemplate, "like-sync-1");
+
+		// then
+		assertEquals("like-sync-1", stream.getConsumerName());
+	}
+}